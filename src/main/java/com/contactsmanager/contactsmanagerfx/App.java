@@ -3,14 +3,22 @@ package com.contactsmanager.contactsmanagerfx;
 import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB;
 import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB;
 import com.contactsmanager.contactsmanagerfx.dataStructures.HashMapCB;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsEventSink;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.persistence.ContactsLog;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 public class App extends Application {
+    private ContactsLog changeLog;
+
     @Override
     public void start(Stage stage) throws IOException {
         // Load the main UI from FXML file
@@ -32,15 +40,41 @@ public class App extends Application {
         AdjacencyListGraphCB contactsBook4 = new AdjacencyListGraphCB(false);
         HashMapCB contactsBook5 = new HashMapCB();
 
+        // Rebuild the books from the changes of earlier runs, before any logging is turned on
+        Path logFile = Paths.get(System.getProperty("user.home"), ".contactsmanagerfx", "contacts.log");
+        Files.createDirectories(logFile.getParent());
+        changeLog = ContactsLog.open(logFile, 1); // Every change is on disk before it is shown
+        ContactsLog.replay(logFile, contactsBook1, contactsBook1);
+        ContactsLog.replay(logFile, contactsBook2, contactsBook2);
+        ContactsLog.replay(logFile, contactsBook3, contactsBook3);
+        ContactsLog.replay(logFile, contactsBook4, contactsBook4);
+        ContactsLog.replay(logFile, contactsBook5, null);
+
+        // Keep logging every operation to the terminal, the books are silent by default
+        ContactsEventSink terminal = ContactsEventSink.console(ContactsEvent.Severity.INFO);
+        contactsBook1.setEventSink(terminal);
+        contactsBook2.setEventSink(terminal);
+        contactsBook3.setEventSink(terminal);
+        contactsBook4.setEventSink(terminal);
+        contactsBook5.setEventSink(terminal);
+
         controller.setAdjMatrixGraph(contactsBook1, true);
         controller.setAdjMatrixGraph(contactsBook2, false);
         controller.setAdjListGraph(contactsBook3, true);
         controller.setAdjListGraph(contactsBook4, false);
         controller.setHashMap(contactsBook5);
+        controller.setChangeLog(changeLog);
 
         stage.show(); // Display the GUI
     }
 
+    @Override
+    public void stop() throws IOException {
+        if (changeLog != null) {
+            changeLog.close();
+        }
+    }
+
     public static void main(String[] args) {
         launch();
     }
@@ -1,21 +1,34 @@
 package com.contactsmanager.contactsmanagerfx;
 
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
 import com.contactsmanager.contactsmanagerfx.dataStructures.HashMapCB;
 import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB;
 import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.persistence.ContactsLog;
 import com.contactsmanager.contactsmanagerfx.utility.AdjacencyMatrixGraphUtils;
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.geometry.Side;
 import javafx.scene.control.*;
+import javafx.util.Duration;
 
+import java.io.IOException;
 import java.net.URL;
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 public class AppDisplayController implements Initializable {
 
@@ -28,6 +41,19 @@ public class AppDisplayController implements Initializable {
     @FXML private TextField searchNameField;
     @FXML private Button searchButton;
 
+    /*----- Autocomplete for the search field --------------*/
+    private static final int AUTOCOMPLETE_LIMIT = 10;
+    private static final int SIMILAR_NAMES_LIMIT = 3; // Names offered when a search finds nothing
+    private static final int SUGGESTIONS_LIMIT = 10; // People you may know, most mutual connections first
+    private final PauseTransition autocompleteDelay = new PauseTransition(Duration.millis(200)); // Debounce typing
+    private final ContextMenu autocompleteMenu = new ContextMenu();
+    private final ExecutorService autocompleteExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete");
+        thread.setDaemon(true); // Do not keep the app alive on exit
+        return thread;
+    });
+    private Task<List<Contact>> autocompleteTask; // Latest lookup, older ones are cancelled
+
     /*----- GUI: Add contact -------------------------------*/
     @FXML private TextField addNameField;
     @FXML private TextField addIdField;
@@ -61,6 +87,7 @@ public class AppDisplayController implements Initializable {
     private AdjacencyListGraphCB adjListUndirectedGraphCB;
     private AdjacencyListGraphCB adjListDirectedGraphCB;
     private HashMapCB hashMapCB;
+    private ContactsLog changeLog; // Changes are written here before the books apply them, null to keep nothing
 
     /*========================================================================*/
     /*===== Setters and Loaders Management ===================================*/
@@ -100,6 +127,14 @@ public class AppDisplayController implements Initializable {
         loadAdjacencyListTable(directed); // Auto load default value
     }
 
+    /**
+     * Sets the log every change is written to (and committed) before the books apply it.
+     * @param log The log, already replayed into the books, or null to keep nothing
+     */
+    public void setChangeLog(ContactsLog log) {
+        this.changeLog = log;
+    }
+
     /**
      * Sets the HashMap and loads it into the display
      * @param hash The hashmap to load
@@ -134,10 +169,10 @@ public class AppDisplayController implements Initializable {
         com.contactsmanager.contactsmanagerfx.utility.AdjacencyListGraphTableUtils.setup(tableDisplay);
 
         // Cast TableView to appropriate generic type for this data
-        TableView<Map.Entry<Contact, LinkedList<Contact>>> typedTable =
-                (TableView<Map.Entry<Contact, LinkedList<Contact>>>) tableDisplay;
+        TableView<Map.Entry<Contact, Collection<Contact>>> typedTable =
+                (TableView<Map.Entry<Contact, Collection<Contact>>>) tableDisplay;
 
-        ObservableList<Map.Entry<Contact, LinkedList<Contact>>> data;
+        ObservableList<Map.Entry<Contact, Collection<Contact>>> data;
         if (directed) {
             data = com.contactsmanager.contactsmanagerfx.utility.AdjacencyListGraphTableUtils.convertToTableData(adjListDirectedGraphCB.getAdjacencyList());
         } else {
@@ -250,63 +285,259 @@ public class AppDisplayController implements Initializable {
         return null; // fallback
     }
 
+    private ContactsManager bookByMode() {
+        String selected = viewSelector.getValue();
+
+        if (selected.contains("Adjacency Matrix (directed)")) {
+            return adjMatrixDirectedGraphCB;
+        } else if (selected.contains("Adjacency Matrix (undirected)")) {
+            return adjMatrixUndirectedGraphCB;
+        } else if (selected.contains("Adjacency List (directed)")) {
+            return adjListDirectedGraphCB;
+        } else if (selected.contains("Adjacency List (undirected)")) {
+            return adjListUndirectedGraphCB;
+        } else if (selected.contains("HashMap View")) {
+            return hashMapCB;
+        }
+
+        return null; // No view selected
+    }
+
+    private String didYouMean(String name) {
+        ContactsManager book = bookByMode();
+        if (book == null || name.isEmpty()) {
+            return "";
+        }
+        List<Contact> similar = book.searchSimilar(name, SIMILAR_NAMES_LIMIT);
+        if (similar.isEmpty()) {
+            return "";
+        }
+        StringBuilder names = new StringBuilder(" Did you mean: ");
+        for (int i = 0; i < similar.size(); i++) {
+            names.append(i == 0 ? "" : ", ").append(similar.get(i).getName().trim());
+        }
+        return names.append("?").toString();
+    }
+
+    /*========================================================================*/
+    /*===== Autocomplete management ==========================================*/
+    /*
+     * Search-as-you-type for the search field.
+     * Typing restarts a short pause; when it ends, the prefix lookup runs on a background thread
+     * and the results are shown in a drop-down under the field. Only the latest lookup is shown.
+     */
+
+    private void setupAutocomplete() {
+        autocompleteMenu.setAutoHide(true);
+        autocompleteDelay.setOnFinished(event -> runAutocomplete(searchNameField.getText()));
+        searchNameField.textProperty().addListener((observable, oldText, newText) -> autocompleteDelay.playFromStart());
+        searchNameField.focusedProperty().addListener((observable, wasFocused, isFocused) -> {
+            if (!isFocused) {
+                autocompleteMenu.hide();
+            }
+        });
+    }
+
+    private void runAutocomplete(String prefix) {
+        if (autocompleteTask != null) {
+            autocompleteTask.cancel();
+        }
+        ContactsManager book = bookByMode();
+        if (book == null || prefix == null || prefix.isBlank()) {
+            autocompleteMenu.hide();
+            return;
+        }
+
+        Task<List<Contact>> task = new Task<>() {
+            @Override
+            protected List<Contact> call() {
+                return book.searchByPrefix(prefix, AUTOCOMPLETE_LIMIT);
+            }
+        };
+        task.setOnSucceeded(event -> {
+            if (task == autocompleteTask) { // Ignore results that arrive after a newer lookup started
+                showAutocomplete(task.getValue());
+            }
+        });
+        task.setOnFailed(event -> autocompleteMenu.hide()); // Suggestions are optional, never block the search field
+        autocompleteTask = task;
+        autocompleteExecutor.execute(task);
+    }
+
+    private void showAutocomplete(List<Contact> matches) {
+        if (matches.isEmpty() || !searchNameField.isFocused()) {
+            autocompleteMenu.hide();
+            return;
+        }
+
+        autocompleteMenu.getItems().clear();
+        for (Contact match : matches) {
+            MenuItem item = new MenuItem(match.getName().trim() + " (ID: " + match.getStudentId() + ")");
+            item.setMnemonicParsing(false); // Names can contain underscores
+            item.setOnAction(event -> {
+                searchNameField.setText(match.getName().trim());
+                autocompleteDelay.stop(); // Setting the text should not trigger another lookup
+                searchNameField.positionCaret(searchNameField.getText().length());
+                searchButton.fire();
+            });
+            autocompleteMenu.getItems().add(item);
+        }
+        if (!autocompleteMenu.isShowing()) {
+            autocompleteMenu.show(searchNameField, Side.BOTTOM, 0, 0);
+        }
+    }
+
     /*========================================================================*/
     /*===== Functions of App management ======================================*/
     /*
      * Executes add/delete/update/traverse across all (or most) underlying contact book data structures.
+     * Changes return the result of the book in the current view, so the outcome can be shown without searching again.
+     */
+
+    /**
+     * One change as written to the log.
+     */
+    private interface LogEntry {
+        void writeTo(ContactsLog log) throws IOException;
+    }
+
+    /**
+     * Writes a change to the log and commits it, before any book applies it.
+     * @param entry The change
+     * @return false if it could not be written, the change must then not be applied
      */
+    private boolean writeAhead(LogEntry entry) {
+        if (changeLog == null) {
+            return true;
+        }
+        try {
+            entry.writeTo(changeLog);
+            changeLog.commit();
+            return true;
+        } catch (IOException e) {
+            outputArea.setStyle("-fx-text-fill: red;");
+            outputArea.setText("Could not save the change, nothing was changed: " + e.getMessage());
+            return false;
+        }
+    }
 
-    private void addOnAllModes(String name, int id) {
+    private OperationResult addOnAllModes(String name, int id) {
         Contact newContact = new Contact(name, id);
-        adjMatrixDirectedGraphCB.addContact(newContact);
-        adjMatrixUndirectedGraphCB.addContact(newContact);
-        adjListDirectedGraphCB.addContact(newContact);
-        adjListUndirectedGraphCB.addContact(newContact);
-        hashMapCB.addContact(newContact);
+        if (!writeAhead(log -> log.addContact(newContact))) {
+            return null;
+        }
+        return resultByMode(
+                adjMatrixDirectedGraphCB.addContact(newContact),
+                adjMatrixUndirectedGraphCB.addContact(newContact),
+                adjListDirectedGraphCB.addContact(newContact),
+                adjListUndirectedGraphCB.addContact(newContact),
+                hashMapCB.addContact(newContact));
     }
 
-    private void deleteOnAllModes(String name) {
-        adjMatrixDirectedGraphCB.deleteContact(name);
-        adjMatrixUndirectedGraphCB.deleteContact(name);
-        adjListDirectedGraphCB.deleteContact(name);
-        adjListUndirectedGraphCB.deleteContact(name);
-        hashMapCB.deleteContact(name);
+    private OperationResult deleteOnAllModes(String name) {
+        if (!writeAhead(log -> log.deleteContact(name))) {
+            return null;
+        }
+        return resultByMode(
+                adjMatrixDirectedGraphCB.deleteContact(name),
+                adjMatrixUndirectedGraphCB.deleteContact(name),
+                adjListDirectedGraphCB.deleteContact(name),
+                adjListUndirectedGraphCB.deleteContact(name),
+                hashMapCB.deleteContact(name));
     }
 
-    private void updateOnAllModes(String oldName, String newName, int newId) {
+    private OperationResult updateOnAllModes(String oldName, String newName, int newId) {
         Contact tempContact = new Contact(oldName, 0);
-        adjMatrixDirectedGraphCB.updateContact(tempContact, newName, newId);
-        adjMatrixUndirectedGraphCB.updateContact(tempContact, newName, newId);
-        adjListDirectedGraphCB.updateContact(tempContact, newName, newId);
-        adjListUndirectedGraphCB.updateContact(tempContact, newName, newId);
-        hashMapCB.updateContact(tempContact, newName, newId);
+        if (!writeAhead(log -> log.updateContact(tempContact, newName, newId))) {
+            return null;
+        }
+        return resultByMode(
+                adjMatrixDirectedGraphCB.updateContact(tempContact, newName, newId),
+                adjMatrixUndirectedGraphCB.updateContact(tempContact, newName, newId),
+                adjListDirectedGraphCB.updateContact(tempContact, newName, newId),
+                adjListUndirectedGraphCB.updateContact(tempContact, newName, newId),
+                hashMapCB.updateContact(tempContact, newName, newId));
+    }
+
+    private OperationResult addConnectionGraphModes(String name1, String name2) {
+        if (!writeAhead(log -> log.addConnection(name1, name2))) {
+            return null;
+        }
+        return resultByMode(
+                adjMatrixDirectedGraphCB.addConnection(name1, name2),
+                adjMatrixUndirectedGraphCB.addConnection(name1, name2),
+                adjListDirectedGraphCB.addConnection(name1, name2),
+                adjListUndirectedGraphCB.addConnection(name1, name2),
+                null); // No connections in Hash Map.
     }
 
-    private void addConnectionGraphModes(String name1, String name2) {
-        adjMatrixDirectedGraphCB.addConnection(name1, name2);
-        adjMatrixUndirectedGraphCB.addConnection(name1, name2);
-        adjListDirectedGraphCB.addConnection(name1, name2);
-        adjListUndirectedGraphCB.addConnection(name1, name2);
+    private OperationResult removeConnectionGraphModes(String name1, String name2) {
+        if (!writeAhead(log -> log.removeConnection(name1, name2))) {
+            return null;
+        }
+        return resultByMode(
+                adjMatrixDirectedGraphCB.removeConnection(name1, name2),
+                adjMatrixUndirectedGraphCB.removeConnection(name1, name2),
+                adjListDirectedGraphCB.removeConnection(name1, name2),
+                adjListUndirectedGraphCB.removeConnection(name1, name2),
+                null); // No connections in Hash Map.
+    }
+
+    private OperationResult resultByMode(OperationResult matrixDirected, OperationResult matrixUndirected,
+                                         OperationResult listDirected, OperationResult listUndirected,
+                                         OperationResult hashMap) {
+        String selected = viewSelector.getValue();
+
+        if (selected.contains("Adjacency Matrix (directed)")) {
+            return matrixDirected;
+        } else if (selected.contains("Adjacency Matrix (undirected)")) {
+            return matrixUndirected;
+        } else if (selected.contains("Adjacency List (directed)")) {
+            return listDirected;
+        } else if (selected.contains("Adjacency List (undirected)")) {
+            return listUndirected;
+        } else if (selected.contains("HashMap View")) {
+            return hashMap;
+        }
+
+        return null; // No view selected
     }
 
-    private void removeConnectionGraphModes(String name1, String name2) {
-        adjMatrixDirectedGraphCB.removeConnection(name1, name2);
-        adjMatrixUndirectedGraphCB.removeConnection(name1, name2);
-        adjListDirectedGraphCB.removeConnection(name1, name2);
-        adjListUndirectedGraphCB.removeConnection(name1, name2);
+    /**
+     * Shows the result of a change in the output area: green if it was made, red with the reason if not.
+     * @param result The result of the book in the current view, null to show nothing
+     * @param doneText Text shown when the change was made
+     * @param failedText Text shown when a name was not found or is already taken, built only if needed
+     */
+    private void showResult(OperationResult result, String doneText, Supplier<String> failedText) {
+        if (result == null) {
+            return;
+        }
+        outputArea.setStyle(result.isDone() ? "-fx-text-fill: green;" : "-fx-text-fill: red;");
+        if (result.isDone()) {
+            outputArea.setText(doneText);
+        } else if (result.outcome() == Outcome.INVALID) {
+            outputArea.setText("Names cannot be empty.");
+        } else if (result.outcome() == Outcome.FULL) {
+            outputArea.setText("Contacts book is full.");
+        } else if (result.outcome() == Outcome.READ_ONLY) {
+            outputArea.setText("Contacts book is read-only.");
+        } else {
+            outputArea.setText(failedText.get());
+        }
     }
 
     private List<Contact> suggestByMode(String name) {
         String selected = viewSelector.getValue();
 
         if (selected.contains("Adjacency Matrix (directed)") && adjMatrixDirectedGraphCB != null) {
-            return adjMatrixDirectedGraphCB.suggestContacts(name);
+            return adjMatrixDirectedGraphCB.suggestContacts(name, SUGGESTIONS_LIMIT, SuggestionScore.MUTUAL_FRIENDS);
         } else if (selected.contains("Adjacency Matrix (undirected)") && adjMatrixUndirectedGraphCB != null) {
-            return adjMatrixUndirectedGraphCB.suggestContacts(name);
+            return adjMatrixUndirectedGraphCB.suggestContacts(name, SUGGESTIONS_LIMIT, SuggestionScore.MUTUAL_FRIENDS);
         } else if (selected.contains("Adjacency List (directed)") && adjListDirectedGraphCB != null) {
-            return adjListDirectedGraphCB.suggestContacts(name);
+            return adjListDirectedGraphCB.suggestContacts(name, SUGGESTIONS_LIMIT, SuggestionScore.MUTUAL_FRIENDS);
         } else if (selected.contains("Adjacency List (undirected)") && adjListUndirectedGraphCB != null) {
-            return adjListUndirectedGraphCB.suggestContacts(name);
+            return adjListUndirectedGraphCB.suggestContacts(name, SUGGESTIONS_LIMIT, SuggestionScore.MUTUAL_FRIENDS);
         }
         // No suggestions for Hash Map.
 
@@ -369,6 +600,8 @@ public class AppDisplayController implements Initializable {
         viewSelector.setOnAction(event -> reloadTableByCurrentMode());
         viewSelector.setValue("Select a view"); // Prompt user to select a mode
 
+        setupAutocomplete();
+
 
         /*--------------------------------------------------------------------*/
         // Event binding for Search Contact functionality
@@ -383,7 +616,7 @@ public class AppDisplayController implements Initializable {
                 outputArea.setText("Found: " + found.getName() + " (ID: " + found.getStudentId() + ")");
             } else {
                 outputArea.setStyle("-fx-text-fill: red;");
-                outputArea.setText("Contact not found.");
+                outputArea.setText("Contact not found." + didYouMean(name));
             }
         });
 
@@ -395,7 +628,8 @@ public class AppDisplayController implements Initializable {
             int id;
             try {
                 id = Integer.parseInt(addIdField.getText().trim());
-                addOnAllModes(name, id);
+                OperationResult result = addOnAllModes(name, id);
+                showResult(result, "Added: " + name + " (ID: " + id + ")", () -> "A contact named " + name + " already exists.");
             } catch (NumberFormatException e) {
                 outputArea.setStyle("-fx-text-fill: red;");
                 outputArea.setText("ID inserted is not an integer.");
@@ -408,7 +642,8 @@ public class AppDisplayController implements Initializable {
         deleteButton.setOnAction(event -> {
             clearOutput(); // Clear so that there's no residue from prev logs.
             String name = deleteNameField.getText().trim();
-            deleteOnAllModes(name);
+            OperationResult result = deleteOnAllModes(name);
+            showResult(result, "Deleted: " + name, () -> "Contact not found." + didYouMean(name));
             reloadTableByCurrentMode();
         });
 
@@ -421,7 +656,11 @@ public class AppDisplayController implements Initializable {
             int newId;
             try {
                 newId = Integer.parseInt(newIdField.getText().trim());
-                updateOnAllModes(oldName, newName, newId);
+                OperationResult result = updateOnAllModes(oldName, newName, newId);
+                showResult(result, "Updated: " + oldName + " -> " + newName + " (ID: " + newId + ")",
+                        () -> result.outcome() == Outcome.ALREADY_EXISTS
+                                ? "A contact named " + newName + " already exists."
+                                : "Contact not found." + didYouMean(oldName));
             } catch (NumberFormatException e) {
                 outputArea.setStyle("-fx-text-fill: red;");
                 outputArea.setText("ID inserted is not an integer.");
@@ -435,7 +674,9 @@ public class AppDisplayController implements Initializable {
             clearOutput(); // Clear so that there's no residue from prev logs.
             String name1 = connection1NameField.getText().trim();
             String name2 = connection2NameField.getText().trim();
-            addConnectionGraphModes(name1, name2);
+            OperationResult result = addConnectionGraphModes(name1, name2);
+            showResult(result, "Connected: " + name1 + " and " + name2,
+                    () -> result.outcome() == Outcome.ALREADY_EXISTS ? "Connection already exists." : "Contact not found.");
             reloadTableByCurrentMode();
         });
 
@@ -445,7 +686,8 @@ public class AppDisplayController implements Initializable {
             clearOutput(); // Clear so that there's no residue from prev logs.
             String name1 = connection1NameField.getText().trim();
             String name2 = connection2NameField.getText().trim();
-            removeConnectionGraphModes(name1, name2);
+            OperationResult result = removeConnectionGraphModes(name1, name2);
+            showResult(result, "Removed connection: " + name1 + " and " + name2, () -> "Contact or connection not found.");
             reloadTableByCurrentMode();
         });
 
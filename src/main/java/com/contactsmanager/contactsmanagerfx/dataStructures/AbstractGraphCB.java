@@ -1,6 +1,12 @@
 package com.contactsmanager.contactsmanagerfx.dataStructures;
 
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsEventSink;
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+
+import java.util.HashMap;
 
 /**
  * Abstract base class for graph-based contact book implementations.
@@ -9,7 +15,7 @@ import com.contactsmanager.contactsmanagerfx.model.Contact;
  * This class encapsulates common graph patterns like:
  * - Directionality management
  * - Connection validation
- * - Common error messages for graph operations
+ * - Common events reported by graph operations
  * - Shared utility methods for graph operations
  */
 public abstract class AbstractGraphCB {
@@ -21,6 +27,11 @@ public abstract class AbstractGraphCB {
      */
     protected final boolean directed;
     
+    /**
+     * Receives the events of this graph instead of the terminal, see setEventSink.
+     */
+    protected ContactsEventSink events = ContactsEventSink.NONE;
+    
     /**
      * Constructor for graph-based contact books.
      * 
@@ -45,73 +56,114 @@ public abstract class AbstractGraphCB {
      * @return true if both names are valid, false otherwise
      */
     protected boolean validateConnectionNames(String contact1, String contact2) {
-        if (contact1 == null || contact1.trim().isEmpty()) {
-            System.out.println("Contact names cannot be null or empty");
-            return false;
-        }
-        if (contact2 == null || contact2.trim().isEmpty()) {
-            System.out.println("Contact names cannot be null or empty");
+        if (contact1 == null || contact1.trim().isEmpty() || contact2 == null || contact2.trim().isEmpty()) {
+            events.onEvent(ContactsEvent.INVALID_NAME, contact1, contact2);
             return false;
         }
         return true;
     }
     
     /**
-     * Prints a standardized error message when contacts are not found for connection operations.
+     * Normalizes a contact name into the key used by name indexes (trimmed, lowercase).
+     * Same as Contact.normalize, so keys match Contact.getNormalizedName().
+     *
+     * @param name The contact name
+     * @return The normalized name, or null if name is null
+     */
+    protected static String normalizeName(String name) {
+        return Contact.normalize(name);
+    }
+
+    /**
+     * Makes room in a HashMap for a batch of new entries before it is inserted.
+     * If the batch is bigger than the map, the entries are copied into a map sized for both,
+     * so the batch causes one resize instead of one per doubling.
+     *
+     * @param map The map that will receive the batch
+     * @param extra The number of entries about to be inserted
+     * @return The same map, or a copy with enough capacity
+     */
+    protected static <K, V> HashMap<K, V> withRoomFor(HashMap<K, V> map, int extra) {
+        if (extra <= map.size()) {
+            return map;
+        }
+        HashMap<K, V> sized = new HashMap<>((int) ((map.size() + extra) / 0.75f) + 1);
+        sized.putAll(map);
+        return sized;
+    }
+
+    /**
+     * Reports that contacts are not found for connection operations.
      * 
      * @param contact1 First contact name
      * @param contact2 Second contact name
+     * @return The NOT_FOUND result, for the operation to return
      */
-    protected void printContactsNotFoundError(String contact1, String contact2) {
-        System.out.println("One or both contacts not found. Cannot perform connection operation.");
+    protected OperationResult reportContactsNotFound(String contact1, String contact2) {
+        events.onEvent(ContactsEvent.CONNECTION_CONTACTS_NOT_FOUND, contact1, contact2);
+        return OperationResult.failed(Outcome.NOT_FOUND);
     }
     
     /**
-     * Prints a standardized success message for adding a connection.
+     * Reports that a connection was added.
      * 
      * @param contact1 First contact name
      * @param contact2 Second contact name
      */
-    protected void printConnectionAddedSuccess(String contact1, String contact2) {
-        System.out.println("Connection added between " + contact1 + " and " + contact2);
+    protected void reportConnectionAdded(String contact1, String contact2) {
+        events.onEvent(ContactsEvent.CONNECTION_ADDED, contact1, contact2);
     }
     
     /**
-     * Prints a standardized error message when a connection already exists.
+     * Reports that a connection already exists.
      * 
      * @param contact1 First contact name
      * @param contact2 Second contact name
+     * @return The ALREADY_EXISTS result, for the operation to return
      */
-    protected void printConnectionExistsError(String contact1, String contact2) {
-        System.out.println("Connection between " + contact1 + " and " + contact2 + " already exists.");
+    protected OperationResult reportConnectionExists(String contact1, String contact2) {
+        events.onEvent(ContactsEvent.CONNECTION_EXISTS, contact1, contact2);
+        return OperationResult.failed(Outcome.ALREADY_EXISTS);
     }
     
     /**
-     * Prints a standardized error message when trying to remove a non-existent connection.
+     * Reports an attempt to remove a non-existent connection.
      * 
      * @param contact1 First contact name
      * @param contact2 Second contact name
+     * @return The NOT_FOUND result, for the operation to return
      */
-    protected void printConnectionNotFoundError(String contact1, String contact2) {
-        System.out.println("Connection between " + contact1 + " and " + contact2 + " does not exist.");
+    protected OperationResult reportConnectionNotFound(String contact1, String contact2) {
+        events.onEvent(ContactsEvent.CONNECTION_NOT_FOUND, contact1, contact2);
+        return OperationResult.failed(Outcome.NOT_FOUND);
     }
     
     /**
-     * Prints a standardized message when a contact is not found for suggestion operations.
+     * Reports that a contact is not found.
      * 
      * @param contactName The contact name that was not found
      */
-    protected void printContactNotFoundForSuggestion(String contactName) {
-        System.out.println("Contact not found: " + contactName);
+    protected void reportContactNotFound(String contactName) {
+        events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contactName, null);
     }
     
     /**
-     * Prints a standardized message when no suggestions can be made.
+     * Reports that no suggestions can be made because the contact has no connections.
      * 
      * @param contactName The contact name for which suggestions were requested
      */
-    protected void printNoSuggestionsAvailable(String contactName) {
-        System.out.println("Unable to suggest contacts for " + contactName + " - no connections found.");
+    protected void reportNoConnections(String contactName) {
+        events.onEvent(ContactsEvent.NO_CONNECTIONS, contactName, null);
+    }
+    
+    /**
+     * Sets where this graph reports its events (added, not found, already exists, ...).
+     * Nothing is reported by default. Set it before the graph is shared between threads.
+     * 
+     * @param sink The sink to report to, or ContactsEventSink.NONE to stay silent
+     */
+    public void setEventSink(ContactsEventSink sink) {
+        this.events = sink;
     }
     
     /**
@@ -3,16 +3,42 @@ package com.contactsmanager.contactsmanagerfx.dataStructures;
 import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
 import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import com.contactsmanager.contactsmanagerfx.model.TraversalOrder;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.ListIterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class is a Contacts Book that is implemented using Graph (made from Adjacency List).
  * It manages Contact nodes and their directed or undirected connections.
+ * Neighbors are kept in a LinkedList while a contact has few connections, and switched to a
+ * LinkedHashSet once it reaches the neighbor-set threshold, so hub contacts keep O(1)
+ * membership checks, inserts and removals.
+ * Directed graphs also keep a reverse index (who connects to each contact), so deleting a
+ * contact only touches the contacts it is actually connected with.
  * CB stands for Contacts Book.
  *
  * Extends AbstractGraphCB to inherit common graph functionality like
@@ -20,13 +46,25 @@ import java.util.Queue;
  */
 public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
 
-    private final Map<Contact, LinkedList<Contact>> adj = new HashMap<>();
+    /** Default degree at which a contact's neighbors switch from a LinkedList to a LinkedHashSet. */
+    public static final int DEFAULT_NEIGHBOR_SET_THRESHOLD = 32;
+
+    private HashMap<Contact, Collection<Contact>> adj = new HashMap<>();
+    private int neighborSetThreshold = DEFAULT_NEIGHBOR_SET_THRESHOLD;
+    private HashMap<String, Contact> nameIndex = new HashMap<>(); // Normalized name -> node, kept in sync with adj
+    private final StudentIdIndex studentIdIndex = new StudentIdIndex(); // Student ID -> contacts
+    private final NamePrefixIndex prefixIndex = new NamePrefixIndex(); // Sorted normalized names, for autocomplete
+    private final NameNGramIndex ngramIndex = new NameNGramIndex(); // Name trigrams, for typo-tolerant search
+    private HashMap<Contact, Set<Contact>> inAdj; // Directed only: node -> nodes with an edge to it, null if undirected
+    private SuggestionCache suggestionCache; // Opt-in, null when off
+    private int parallelSuggestionThreshold = 0; // Friends above which ranked suggestions are counted in parallel, 0 when off
 
     /**
      * Constructs an undirected contact graph.
      */
     public AdjacencyListGraphCB() {
         super(); // Default is undirected
+        this.inAdj = null;
     }
 
     /**
@@ -35,6 +73,7 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
      */
     public AdjacencyListGraphCB(boolean directed) {
         super(directed);
+        this.inAdj = directed ? new HashMap<>() : null;
     }
 
     @Override
@@ -46,7 +85,7 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
             return false;
         }
 
-        LinkedList<Contact> neighbors = adj.get(nodeA);
+        Collection<Contact> neighbors = adj.get(nodeA);
         return neighbors != null && neighbors.contains(nodeB);
     }
 
@@ -76,17 +115,55 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
      * The new contact is added with an empty list of connections.
      */
     @Override
-    public void addContact(Contact contact) {
+    public OperationResult addContact(Contact contact) {
+        String key = contact.getNormalizedName();
+        if (nameIndex.containsKey(key)) { // To prevent duplicate names
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
 
-        for (Contact existing : adj.keySet()) { // To prevent duplicate names
-            if (existing.getName().trim().equalsIgnoreCase(contact.getName().trim())) {
-                System.out.println("Contact with name '" + contact.getName() + "' already exists. Failed to put in contact.");
-                return;
+        nameIndex.put(key, contact);
+        putNode(contact);
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // ADD NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The maps and the student ID index are sized once for the whole batch.
+     * Duplicate names are caught by the name index itself, in the same pass that adds the contacts.
+     */
+    @Override
+    public int addContacts(Collection<Contact> contacts) {
+        nameIndex = withRoomFor(nameIndex, contacts.size());
+        adj = withRoomFor(adj, contacts.size());
+        if (directed) {
+            inAdj = withRoomFor(inAdj, contacts.size());
+        }
+        studentIdIndex.ensureCapacity(contacts.size());
+
+        int added = 0;
+        for (Contact contact : contacts) {
+            if (nameIndex.putIfAbsent(contact.getNormalizedName(), contact) == null) { // Name not taken yet
+                putNode(contact);
+                added++;
             }
         }
+        events.onEvent(ContactsEvent.CONTACTS_ADDED, added, contacts.size());
+        return added;
+    }
 
+    // HELPER FUNCTION: ADD A NODE WITH NO CONNECTIONS (THE CALLER HAS ALREADY CLAIMED THE NAME)
+    private void putNode(Contact contact) {
+        studentIdIndex.add(contact);
+        prefixIndex.add(contact);
+        ngramIndex.add(contact);
         adj.putIfAbsent(contact, new LinkedList<>());
-        System.out.println("Added contact. Name: '" + contact.getName() + "' | Student ID: " + contact.getStudentId() +".");
+        if (directed) {
+            inAdj.put(contact, new HashSet<>());
+        }
     }
 
     // UPDATE CONTACT
@@ -95,38 +172,61 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
      *
      * @implSpec Since Contact is used as a key in the map, this method removes the old entry,
      * updates the Contact fields, and reinserts the object to maintain consistency. It also
-     * updates any connection lists pointing to the original object.
+     * updates the connection lists pointing to the original object, found through its
+     * neighbors (undirected) or the reverse index (directed).
      */
     @Override
-    public void updateContact(Contact contact, String newName, int newStudentId) {
-        Contact oldKey = null;
-        for (Contact c : adj.keySet()) {
-            if (c.getName().equalsIgnoreCase(contact.getName())) {
-                oldKey = c;
-                break;
-            }
-        }
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        String oldName = contact.getNormalizedName();
+        String newNameKey = normalizeName(newName);
+        Contact oldKey = nameIndex.get(oldName);
 
         if (oldKey == null) {
-            System.out.println("Contact not found.");
-            return;
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
         }
+        if (!oldName.equals(newNameKey) && nameIndex.containsKey(newNameKey)) { // Keep names unique
+            events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+
+        clearSuggestionCache(); // Cached counts are keyed by the old object
 
         // Store and transfer connections
-        LinkedList<Contact> connections = adj.get(oldKey);
+        Collection<Contact> connections = adj.get(oldKey);
         adj.remove(oldKey);
+        nameIndex.remove(oldName);
 
         Contact newContact = new Contact(newName, newStudentId);
         adj.put(newContact, connections);
+        nameIndex.put(newNameKey, newContact);
+        studentIdIndex.remove(oldKey);
+        prefixIndex.remove(oldKey);
+        ngramIndex.remove(oldKey);
+        studentIdIndex.add(newContact);
+        prefixIndex.add(newContact);
+        ngramIndex.add(newContact);
 
         // Replace reference in other contact's connection lists
-        for (LinkedList<Contact> list : adj.values()) {
-            for (int i = 0; i < list.size(); i++) {
-                if (list.get(i).equals(oldKey)) {
-                    list.set(i, newContact);
-                }
+        if (connections.contains(oldKey)) { // Connected to itself, its own list points to the old object too
+            replaceNeighbor(connections, oldKey, newContact);
+        }
+        if (!directed) {
+            for (Contact neighbor : connections) {
+                replaceNeighbor(adj.get(neighbor), oldKey, newContact);
             }
+            return OperationResult.done(newContact);
+        }
+        Set<Contact> followers = inAdj.remove(oldKey);
+        replaceNeighbor(followers, oldKey, newContact);
+        inAdj.put(newContact, followers);
+        for (Contact follower : followers) { // Lists that point to the contact
+            replaceNeighbor(adj.get(follower), oldKey, newContact);
+        }
+        for (Contact neighbor : connections) { // Reverse entries of the contact's own connections
+            replaceNeighbor(inAdj.get(neighbor), oldKey, newContact);
         }
+        return OperationResult.done(newContact);
     }
 
 
@@ -138,61 +238,159 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
      * {@inheritDoc}
      *
      * @implSpec Deletes the contact and removes all associated edges.
-     * In undirected mode, connections from other contacts are also removed.
+     * Connections from other contacts are also removed, using the contact's own list (undirected)
+     * or the reverse index (directed), so only connected contacts are touched.
      */
     @Override
-    public void deleteContact(String name) {
-        Contact target = null;
-        for (Contact contact : adj.keySet()) { // Find the contact with the given name
-            if (contact.getName().equals(name)) {
-                target = contact;
-                break;
-            }
-        }
+    public OperationResult deleteContact(String name) {
+        Contact target = nameIndex.get(normalizeName(name)); // Find the contact with the given name
         if (target == null) {
-            System.out.println("Contact not found: '" + name + "'. Deletion unsuccessful.");
-            return;
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
         }
+        forgetSuggestions(target);
 
         if (!directed) {
-            LinkedList<Contact> neighbors = adj.get(target);
+            Collection<Contact> neighbors = adj.get(target);
             if (neighbors != null) {
-                List<Contact> neighborsCopy = new LinkedList<>(neighbors); // Avoid concurrent modification
+                List<Contact> neighborsCopy = new ArrayList<>(neighbors); // Avoid concurrent modification
                 for (Contact node : neighborsCopy) {
-                    Contact resolvedNode = searchContact(node.getName()); // Normalize
-                    if (resolvedNode != null) {
-                        LinkedList<Contact> theirList = adj.get(resolvedNode);
-                        if (theirList != null) {
-                            theirList.remove(target); // target is the actual object to remove
-                        }
+                    Collection<Contact> theirList = adj.get(node);
+                    if (theirList != null) {
+                        theirList.remove(target); // target is the actual object to remove
                     }
                 }
             }
         } else {
-            for (Contact contact : adj.keySet()) {
-                List<Contact> theirList = adj.get(contact);
-                if (theirList != null) {
-                    theirList.remove(target); // Remove edges to the contact for whole contact list
+            for (Contact follower : inAdj.remove(target)) {
+                adj.get(follower).remove(target); // Remove edges to the contact
+            }
+            for (Contact neighbor : adj.get(target)) {
+                inAdj.get(neighbor).remove(target); // Forget the contact's own edges in the reverse index
+            }
+        }
+        removeNode(target);
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+        return OperationResult.done(target);
+    }
+
+    // DELETE NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Every connection list pointing to a deleted contact is filtered once for the whole batch,
+     * instead of once per deleted contact it holds.
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        clearSuggestionCache();
+        Set<Contact> targets = new HashSet<>();
+        for (String name : names) {
+            Contact target = nameIndex.get(normalizeName(name));
+            if (target != null) {
+                targets.add(target);
+            }
+        }
+
+        Set<Contact> affected = new HashSet<>(); // Surviving contacts with an edge to a target
+        for (Contact target : targets) {
+            affected.addAll(directed ? inAdj.get(target) : adj.get(target));
+        }
+        affected.removeAll(targets);
+        for (Contact node : affected) {
+            adj.get(node).removeIf(targets::contains);
+        }
+        if (directed) {
+            for (Contact target : targets) {
+                for (Contact neighbor : adj.get(target)) {
+                    if (!targets.contains(neighbor)) {
+                        inAdj.get(neighbor).remove(target); // Forget the target's own edges in the reverse index
+                    }
                 }
             }
+            for (Contact target : targets) {
+                inAdj.remove(target);
+            }
+        }
+        for (Contact target : targets) {
+            removeNode(target);
         }
+        events.onEvent(ContactsEvent.CONTACTS_DELETED, targets.size(), null);
+        return targets.size();
+    }
+
+    // HELPER FUNCTION: FORGET A NODE WHOSE EDGES HAVE ALREADY BEEN REMOVED
+    private void removeNode(Contact target) {
         adj.remove(target);
-        System.out.println("Deleted contact: " + name);
+        nameIndex.remove(target.getNormalizedName());
+        studentIdIndex.remove(target);
+        prefixIndex.remove(target);
+        ngramIndex.remove(target);
     }
 
     // SEARCH NODE
     /**
      * {@inheritDoc}
+     *
+     * @implSpec Looks the name up in the normalized name index, so the match is
+     * case-insensitive and ignores surrounding whitespace, consistent with addContact.
      */
     @Override
     public Contact searchContact(String name) {
-        for (Contact contact : adj.keySet()) { // Find contact
-            if (contact.getName().equals(name)) {
-                return contact;
-            }
+        Contact contact = findContact(name);
+        if (contact == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
         }
-        System.out.println("Contact not found: " + name);
-        return null;
+        return contact;
+    }
+
+    // HELPER FUNCTION: LOOK A CONTACT UP WITHOUT REPORTING A MISS (USED BY StampedLockGraphCB'S OPTIMISTIC READS)
+    Contact findContact(String name) {
+        return nameIndex.get(normalizeName(name));
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the ID up in the student ID index instead of scanning every contact.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return studentIdIndex.get(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Reads a slice of the student ID index's sorted copy, which is rebuilt only after changes.
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return studentIdIndex.range(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the sorted name index, so the cost depends on the number of results, not on the book size.
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return prefixIndex.startingWith(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Only contacts sharing trigrams with the name are considered, the best overlaps are re-ranked by edit distance.
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return ngramIndex.closest(name, limit);
     }
 
     /*========================================================================*/
@@ -207,12 +405,12 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
      * @throws IllegalArgumentException if contact1 or contact2 is null
      */
     @Override
-    public void addConnection(String contact1, String contact2) {
+    public OperationResult addConnection(String contact1, String contact2) {
 
         // Validate input
         if (contact1 == null || contact2 == null) {
-            System.out.println("Contact names cannot be null");
-            return;
+            events.onEvent(ContactsEvent.INVALID_NAME, contact1, contact2);
+            return OperationResult.failed(Outcome.INVALID);
         }
 
         Contact nodeA = searchContact(contact1);
@@ -220,39 +418,59 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
 
         // Check if both contacts exist
         if (nodeA == null || nodeB == null) {
-            System.out.println("Some nodes are missing/ doesn't exist.");
-            return; // Return early if either contact is not found
+            return reportContactsNotFound(contact1, contact2); // Return early if either contact is not found
         }
 
         // Check if the contacts are in the adjacency map
         if (!adj.containsKey(nodeA) || !adj.containsKey(nodeB)) {
-            System.out.println("Some nodes are not in the graph.");
-            return;
+            return reportContactsNotFound(contact1, contact2);
         }
 
         // Add the connection
-        LinkedList<Contact> neighborsOfA = adj.get(nodeA);
-        if (neighborsOfA == null) {
-            neighborsOfA = new LinkedList<>();
-            adj.put(nodeA, neighborsOfA);
-        } else if (neighborsOfA.contains(nodeB)) {
-            System.out.println("Connection between " + contact1 + " and " + contact2 + " already exists.");
-            return;
-        } else { // Only if it doesn't contain the connection already
-            neighborsOfA.add(nodeB); // Add edge a->b
-            System.out.println("Connection added between " + contact1 + " and " + contact2);
+        if (adj.get(nodeA).contains(nodeB)) {
+            return reportConnectionExists(contact1, contact2);
+        }
+        patchSuggestions(nodeA, nodeB, 1); // Before adding, so the two lists do not hold each other yet
+        addNeighbor(nodeA, nodeB); // Add edge a->b, only if it doesn't contain the connection already
+        if (directed) {
+            inAdj.get(nodeB).add(nodeA);
         }
+        reportConnectionAdded(contact1, contact2);
 
         // If undirected graph
-        if (!directed) {
-            LinkedList<Contact> neighborsOfB = adj.get(nodeB);
-            if (neighborsOfB == null) {
-                neighborsOfB = new LinkedList<>();
-                adj.put(nodeB, neighborsOfB);
-            } else if (!neighborsOfB.contains(nodeA)) { // Only if it doesn't contain the connection already
-                neighborsOfB.add(nodeA); // Add edge b->a
+        if (!directed && !adj.get(nodeB).contains(nodeA)) { // Only if it doesn't contain the connection already
+            addNeighbor(nodeB, nodeA); // Add edge b->a
+        }
+        return OperationResult.done(nodeA);
+    }
+
+    // ADD CONNECTIONS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Names are resolved straight from the name index. Duplicate checks cost at most
+     * neighbor-set threshold steps, since longer lists are switched to sets.
+     */
+    @Override
+    public int addConnections(Collection<String[]> pairs) {
+        clearSuggestionCache();
+        int added = 0;
+        for (String[] pair : pairs) {
+            Contact nodeA = nameIndex.get(normalizeName(pair[0]));
+            Contact nodeB = nameIndex.get(normalizeName(pair[1]));
+            if (nodeA == null || nodeB == null || adj.get(nodeA).contains(nodeB)) {
+                continue;
+            }
+            addNeighbor(nodeA, nodeB);
+            if (directed) {
+                inAdj.get(nodeB).add(nodeA);
+            } else if (!adj.get(nodeB).contains(nodeA)) {
+                addNeighbor(nodeB, nodeA);
             }
+            added++;
         }
+        events.onEvent(ContactsEvent.CONNECTIONS_ADDED, added, pairs.size());
+        return added;
     }
 
     // DELETE CONNECTION
@@ -263,24 +481,25 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
      * @throws IllegalArgumentException if contact1 or contact2 is null
      */
     @Override
-    public void removeConnection(String contact1, String contact2) {
+    public OperationResult removeConnection(String contact1, String contact2) {
         Contact nodeA = searchContact(contact1); // Search nodes
         Contact nodeB = searchContact(contact2);
         if (nodeA == null || nodeB == null) {
-            System.out.println("Some nodes are missing or doesn't exist.");
-            return;
+            return reportContactsNotFound(contact1, contact2);
         }
 
-        LinkedList<Contact> neighborsOfA = adj.get(nodeA); // Get neighbors
-        LinkedList<Contact> neighborsOfB = adj.get(nodeB);
-        if (neighborsOfA == null || neighborsOfB == null) {
-            System.out.println("Connection doesn't exist."); // No neighbors found
-            return;
+        Collection<Contact> neighborsOfA = adj.get(nodeA); // Get neighbors
+        Collection<Contact> neighborsOfB = adj.get(nodeB);
+        if (neighborsOfA == null || neighborsOfB == null || !neighborsOfA.remove(nodeB)) { // Remove a->b
+            return reportConnectionNotFound(contact1, contact2); // No such connection
         }
-        neighborsOfA.remove(nodeB); // Remove a->b
         if (!directed) { // Undirected graph
             neighborsOfB.remove(nodeA); // Remove b->a
+        } else {
+            inAdj.get(nodeB).remove(nodeA);
         }
+        patchSuggestions(nodeA, nodeB, -1); // After removing, so the two lists no longer hold each other
+        return OperationResult.done(nodeA);
     }
 
     // SUGGEST CONTACTS
@@ -295,28 +514,25 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
         Contact nodeA = searchContact(contact);
 
         if (nodeA == null) {
-            System.out.println("Contact not found: " + contact);
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact, null);
             return recommendedContacts;
         }
 
-        LinkedList<Contact> directConnections = adj.get(nodeA);
+        Collection<Contact> directConnections = adj.get(nodeA);
         if (directConnections == null || directConnections.isEmpty()) {
-            System.out.println("Unable to suggest contacts from not knowing anyone.");
+            reportNoConnections(contact);
             return recommendedContacts;
         }
 
-        // For fast lookup
-        HashMap<Contact, Boolean> isDirectFriend = new HashMap<>();
-        for (Contact c : directConnections) {
-            isDirectFriend.put(c, true);
-        }
-        isDirectFriend.put(nodeA, true); // Avoid suggesting self
+        // For fast lookup: self, direct friends and already suggested
+        HashSet<Contact> excluded = new HashSet<>(directConnections);
+        excluded.add(nodeA); // Avoid suggesting self
 
         for (Contact friend : directConnections) { // For each direct friend
-            LinkedList<Contact> friendsOfFriend = adj.get(friend);
+            Collection<Contact> friendsOfFriend = adj.get(friend);
             if (friendsOfFriend != null) {
                 for (Contact potential : friendsOfFriend) { // Direct friends' friends
-                    if (!isDirectFriend.containsKey(potential) && !recommendedContacts.contains(potential) && !potential.equals(nodeA)) { // Avoid duplicates
+                    if (excluded.add(potential)) { // Avoid duplicates
                         recommendedContacts.add(potential);
                     }
                 }
@@ -324,9 +540,112 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
         }
 
         if (recommendedContacts.isEmpty()) {
-            System.out.println(contact + "'s friends don't know anyone.");
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+
+        return recommendedContacts;
+    }
+
+    // SUGGEST CONTACTS, RANKED
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks every friend's connections once, in O(sum of friend degrees). A candidate gets a number
+     * in a per-call ContactIds table the first time it is reached, and its counts are kept in primitive arrays by that number.
+     * Contacts with more friends than the parallel suggestion threshold have their friends split across the common ForkJoinPool.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        Contact nodeA = nameIndex.get(normalizeName(contact));
+        if (nodeA == null) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        Collection<Contact> directConnections = adj.get(nodeA);
+        if (directConnections.isEmpty()) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        boolean cached = suggestionCache != null && score == SuggestionScore.MUTUAL_FRIENDS;
+        if (cached || (parallelSuggestionThreshold > 0 && directConnections.size() > parallelSuggestionThreshold)) {
+            Set<Contact> known = directConnections instanceof Set ? (Set<Contact>) directConnections : new HashSet<>(directConnections);
+            return cached ? cachedSuggestions(nodeA, known, contact, limit) : parallelSuggestions(nodeA, known, contact, limit, score);
+        }
+        ContactIds reached = new ContactIds(); // Self and direct friends first, then candidates in the order they are reached
+        reached.add(nodeA);
+        for (Contact friend : directConnections) {
+            reached.add(friend);
+        }
+        int known = reached.size();
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (Contact friend : directConnections) {
+            Collection<Contact> friendsOfFriend = adj.get(friend);
+            for (Contact potential : friendsOfFriend) {
+                int next = reached.size();
+                int id = reached.add(potential);
+                if (id == next) {
+                    ranking.add(friendsOfFriend.size()); // Candidate number id - known, in step with the ranking's own numbers
+                } else if (id >= known) {
+                    ranking.reach(id - known, friendsOfFriend.size());
+                }
+            }
+        }
+
+        int[] best = ranking.top(limit, directConnections.size(), c -> adj.get(reached.contact(c + known)).size(),
+                (c1, c2) -> reached.contact(c1 + known).getNormalizedName().compareTo(reached.contact(c2 + known).getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(reached.contact(c + known));
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    /**
+     * Turns on (or off) parallel counting of ranked suggestions for contacts with many friends.
+     * Their friends are split across the common ForkJoinPool, each task counting into its own map.
+     * Below a few thousand friends the sequential walk is usually faster.
+     * @param degreeThreshold Number of friends above which suggestions are counted in parallel, 0 to turn it off
+     */
+    public void setParallelSuggestionThreshold(int degreeThreshold) {
+        if (degreeThreshold < 0) {
+            throw new IllegalArgumentException("Parallel suggestion threshold must not be negative");
         }
+        this.parallelSuggestionThreshold = degreeThreshold;
+    }
+
+    // HELPER FUNCTION: COUNT THE CANDIDATES OF A HUB CONTACT IN PARALLEL, THEN RANK THEM
+    private List<Contact> parallelSuggestions(Contact nodeA, Set<Contact> known, String contact, int limit, SuggestionScore score) {
+        Contact[] friends = adj.get(nodeA).toArray(new Contact[0]);
+        boolean weighted = score == SuggestionScore.ADAMIC_ADAR;
+        ParallelSuggestions.Counts counts = ParallelSuggestions.count(ForkJoinPool.commonPool(), friends.length, (from, to, into) -> {
+            for (int f = from; f < to; f++) {
+                Collection<Contact> friendsOfFriend = adj.get(friends[f]);
+                double adamicAdar = weighted ? SuggestionRanking.adamicAdar(friendsOfFriend.size()) : 0;
+                for (Contact potential : friendsOfFriend) {
+                    if (potential != nodeA && !known.contains(potential)) { // Not self, not known yet
+                        into.reach(potential, 0, adamicAdar);
+                    }
+                }
+            }
+        });
 
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (int c = 0; c < counts.size(); c++) {
+            ranking.addCounted(counts.mutual(c), counts.weight(c)); // Candidate numbers match the packed entries
+        }
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int[] best = ranking.top(limit, friends.length, c -> adj.get(counts.key(c)).size(),
+                (c1, c2) -> counts.key(c1).getNormalizedName().compareTo(counts.key(c2).getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(counts.key(c));
+        }
+        if (counts.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
         return recommendedContacts;
     }
 
@@ -360,20 +679,384 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
     // RETURN THE ADJACENCY LIST
     /**
      * Getter for the Adjacency List.
-     * @return the adjacency list in Map<Contact, LinkedList<Contact>>
+     * Each value is a LinkedList or, for contacts at or above the neighbor-set threshold, a LinkedHashSet.
+     * @return the adjacency list in Map<Contact, Collection<Contact>>
      */
-    public Map<Contact, LinkedList<Contact>> getAdjacencyList() {
+    public Map<Contact, Collection<Contact>> getAdjacencyList() {
         return adj;
     }
 
+    // RETURN INCOMING CONNECTIONS
+    /**
+     * Getter for the contacts that have a connection to the given contact ("who follows X").
+     * Uses the reverse index in directed mode; in undirected mode this is the contact's own connections.
+     * @param name The name of the contact
+     * @return List of contacts connected to it, empty if the contact is not found
+     */
+    public List<Contact> getIncomingConnections(String name) {
+        Contact target = searchContact(name);
+        if (target == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(directed ? inAdj.get(target) : adj.get(target));
+    }
+
+    /*========================================================================*/
+    /*===== Suggestion Cache Management ======================================*/
+
+    /**
+     * Turns on (or off) the cache of ranked MUTUAL_FRIENDS suggestions. Repeated queries for the same contact
+     * are then answered from its cached ranked list, or re-ranked from its cached counts after a change nearby.
+     * Adding or removing a connection and deleting a contact patch the counts; bulk changes and updates clear the cache.
+     * Queries change the cache, so StampedLockGraphCB refuses a graph with the cache on, and it must not be turned on afterwards.
+     * @param budgetBytes Estimated heap the cache may use before least recently used contacts are evicted, 0 to turn it off
+     */
+    public void setSuggestionCacheBudget(long budgetBytes) {
+        suggestionCache = budgetBytes > 0 ? new SuggestionCache(budgetBytes) : null;
+    }
+
+    boolean isSuggestionCacheOn() {
+        return suggestionCache != null;
+    }
+
+    // HELPER FUNCTION: ANSWER A RANKED QUERY FROM THE CACHE, FILLING IT ON A MISS
+    private List<Contact> cachedSuggestions(Contact nodeA, Set<Contact> known, String contact, int limit) {
+        SuggestionCache.Entry entry = suggestionCache.get(nodeA);
+        if (entry == null) {
+            HashMap<Contact, int[]> paths = new HashMap<>(); // Every two-step path, direct friends included
+            for (Contact friend : known) {
+                for (Contact end : adj.get(friend)) {
+                    if (!end.equals(nodeA)) {
+                        paths.computeIfAbsent(end, key -> new int[1])[0]++;
+                    }
+                }
+            }
+            entry = suggestionCache.put(nodeA, paths);
+        } else {
+            List<Contact> ranked = SuggestionCache.ranked(entry, limit);
+            if (ranked != null) {
+                if (ranked.isEmpty()) {
+                    events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+                }
+                return ranked;
+            }
+        }
+
+        List<Contact> candidates = new ArrayList<>();
+        SuggestionRanking ranking = new SuggestionRanking(SuggestionScore.MUTUAL_FRIENDS);
+        for (Map.Entry<Contact, int[]> path : entry.paths().entrySet()) {
+            if (!known.contains(path.getKey())) {
+                ranking.addCounted(path.getValue()[0]);
+                candidates.add(path.getKey());
+            }
+        }
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int[] best = ranking.top(limit, known.size(), c -> 0,
+                (c1, c2) -> candidates.get(c1).getNormalizedName().compareTo(candidates.get(c2).getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(candidates.get(c));
+        }
+        SuggestionCache.setRanked(entry, recommendedContacts, best.length == candidates.size());
+        if (candidates.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // HELPER FUNCTION: PATCH THE CACHE FOR A CONNECTION ABOUT TO BE ADDED (+1) OR JUST REMOVED (-1)
+    private void patchSuggestions(Contact from, Contact to, int delta) {
+        if (suggestionCache == null || suggestionCache.isEmpty()) {
+            return;
+        }
+        if (from.equals(to)) {
+            suggestionCache.clear(); // A connection to itself is on both ends of the paths, rebuild instead
+            return;
+        }
+        patchPaths(from, to, delta);
+        if (!directed) {
+            patchPaths(to, from, delta);
+        }
+        suggestionCache.trim();
+    }
+
+    // HELPER FUNCTION: COUNT THE PATHS THROUGH ONE EDGE from -> to
+    private void patchPaths(Contact from, Contact to, int delta) {
+        SuggestionCache.Entry own = suggestionCache.peek(from);
+        if (own != null) {
+            SuggestionCache.invalidate(own); // to became (or stopped being) known
+            for (Contact end : adj.get(to)) { // from -> to -> end
+                if (!end.equals(from)) {
+                    suggestionCache.adjust(own, end, delta);
+                }
+            }
+        }
+        for (Contact start : directed ? inAdj.get(from) : adj.get(from)) { // start -> from -> to
+            SuggestionCache.Entry entry = start.equals(to) ? null : suggestionCache.peek(start);
+            if (entry != null) {
+                suggestionCache.adjust(entry, to, delta);
+            }
+        }
+    }
+
+    // HELPER FUNCTION: DROP THE PATHS THROUGH AND TO A CONTACT ABOUT TO BE DELETED
+    private void forgetSuggestions(Contact target) {
+        if (suggestionCache == null || suggestionCache.isEmpty()) {
+            return;
+        }
+        for (Contact start : directed ? inAdj.get(target) : adj.get(target)) { // start -> target -> end
+            SuggestionCache.Entry entry = start.equals(target) ? null : suggestionCache.peek(start);
+            if (entry == null) {
+                continue;
+            }
+            for (Contact end : adj.get(target)) {
+                if (!end.equals(start)) {
+                    suggestionCache.adjust(entry, end, -1);
+                }
+            }
+        }
+        suggestionCache.forget(target);
+    }
+
+    private void clearSuggestionCache() {
+        if (suggestionCache != null) {
+            suggestionCache.clear();
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Neighbor Storage Management ======================================*/
+
+    /**
+     * Sets the degree at which a contact's neighbors are moved from a LinkedList into a LinkedHashSet.
+     * Only affects contacts that grow past it afterwards; promoted sets are kept even if the degree drops again.
+     * @param threshold The degree that triggers the switch (at least 1)
+     */
+    public void setNeighborSetThreshold(int threshold) {
+        this.neighborSetThreshold = Math.max(1, threshold);
+    }
+
+    // HELPER FUNCTION: ADD A NEIGHBOR, SWITCHING TO A SET WHEN THE LIST GETS LONG
+    private void addNeighbor(Contact owner, Contact neighbor) {
+        Collection<Contact> neighbors = adj.get(owner);
+        if (neighbors instanceof LinkedList && neighbors.size() + 1 >= neighborSetThreshold) {
+            neighbors = new LinkedHashSet<>(neighbors); // Keeps insertion order for display
+            adj.put(owner, neighbors);
+        }
+        neighbors.add(neighbor);
+    }
+
+    // HELPER FUNCTION: REPLACE A NEIGHBOR IN PLACE (LISTS AND HUB SETS) OR BY REMOVE/ADD (THE UNORDERED REVERSE INDEX)
+    private static void replaceNeighbor(Collection<Contact> neighbors, Contact oldContact, Contact newContact) {
+        if (neighbors instanceof LinkedList) {
+            ListIterator<Contact> it = ((LinkedList<Contact>) neighbors).listIterator();
+            while (it.hasNext()) {
+                if (it.next().equals(oldContact)) {
+                    it.set(newContact);
+                }
+            }
+        } else if (neighbors instanceof LinkedHashSet && neighbors.contains(oldContact)) {
+            List<Contact> ordered = new ArrayList<>(neighbors); // Rebuilt, so the renamed contact keeps its place like in a list
+            neighbors.clear();
+            for (Contact neighbor : ordered) {
+                neighbors.add(neighbor.equals(oldContact) ? newContact : neighbor);
+            }
+        } else if (neighbors.remove(oldContact)) {
+            neighbors.add(newContact);
+        }
+    }
+
     /*========================================================================*/
     /*===== Traversal Management =============================================*/
 
+    // SHORTEST PATH
+    /**
+     * Finds a shortest chain of connections from one contact to another, abiding to one-way connections.
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @return The contacts on the path, first to last, or an empty list if either contact or a path does not exist
+     */
+    public List<Contact> shortestPath(String from, String to) {
+        return shortestPath(from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds a shortest chain of at most maxDepth connections from one contact to another, abiding to one-way connections.
+     * Searches from both ends at once (outgoing connections from the first contact, incoming ones to the last),
+     * always growing the smaller frontier by one level, until the two searches meet.
+     * Each side only goes about half the distance, so far fewer contacts are visited than by a BFS from one end.
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @param maxDepth The most connections the path may have
+     * @return The contacts on the path, first to last, or an empty list if either contact or a short enough path does not exist
+     */
+    public List<Contact> shortestPath(String from, String to, int maxDepth) {
+        Contact source = nameIndex.get(normalizeName(from));
+        Contact target = nameIndex.get(normalizeName(to));
+        if (source == null || target == null) {
+            reportContactNotFound(source == null ? from : to);
+            return new ArrayList<>();
+        }
+
+        List<Contact> path = bidirectionalSearch(source, target, maxDepth);
+        if (path.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_PATH, from, to);
+        }
+        return path;
+    }
+
+    // HELPER FUNCTION: BIDIRECTIONAL BFS OVER DENSE SEARCH IDS, RETURNS THE PATH OR AN EMPTY LIST
+    // The book has no slot ids, so contacts get ids as the search reaches them and the state lives in int arrays.
+    private List<Contact> bidirectionalSearch(Contact source, Contact target, int maxDepth) {
+        ContactIds ids = new ContactIds();
+        int[] forward = new int[64]; // Id -> 1 + the id it is reached from, 0 if not reached from the first contact
+        int[] backward = new int[64]; // Id -> 1 + the id it leads to, 0 if not reached from the last contact
+        int sourceId = ids.add(source);
+        int targetId = ids.add(target);
+        forward[sourceId] = sourceId + 1;
+        backward[targetId] = targetId + 1;
+        int meet = sourceId == targetId ? sourceId : -1;
+
+        Map<Contact, ? extends Collection<Contact>> incoming = directed ? inAdj : adj;
+        int[] forwardFrontier = {sourceId};
+        int forwardSize = 1;
+        int[] backwardFrontier = {targetId};
+        int backwardSize = 1;
+        int[] next = new int[16];
+        // Once both sides have grown, every path of depth connections or fewer would have met already
+        for (int depth = 0; meet == -1 && depth < maxDepth && forwardSize > 0 && backwardSize > 0; depth++) {
+            boolean fromSource = forwardSize <= backwardSize;
+            int[] frontier = fromSource ? forwardFrontier : backwardFrontier;
+            int size = fromSource ? forwardSize : backwardSize;
+            Map<Contact, ? extends Collection<Contact>> edges = fromSource ? adj : incoming;
+            int nextSize = 0;
+            for (int i = 0; i < size && meet == -1; i++) {
+                int node = frontier[i];
+                for (Contact neighbor : edges.get(ids.contact(node))) {
+                    int id = ids.add(neighbor);
+                    if (id == forward.length) {
+                        forward = Arrays.copyOf(forward, id * 2);
+                        backward = Arrays.copyOf(backward, id * 2);
+                    }
+                    int[] reached = fromSource ? forward : backward;
+                    if (reached[id] != 0) {
+                        continue;
+                    }
+                    reached[id] = node + 1;
+                    if ((fromSource ? backward : forward)[id] != 0) {
+                        meet = id; // The first meeting is on a shortest path, the other side is a whole level deep
+                        break;
+                    }
+                    if (nextSize == next.length) {
+                        next = Arrays.copyOf(next, nextSize * 2);
+                    }
+                    next[nextSize++] = id;
+                }
+            }
+            if (fromSource) {
+                forwardFrontier = next;
+                forwardSize = nextSize;
+            } else {
+                backwardFrontier = next;
+                backwardSize = nextSize;
+            }
+            next = frontier; // Reuse the finished level's array
+        }
+
+        List<Contact> path = new ArrayList<>();
+        if (meet == -1) {
+            return path;
+        }
+        for (int id = meet; id != sourceId; id = forward[id] - 1) {
+            path.add(ids.contact(id));
+        }
+        path.add(source);
+        Collections.reverse(path);
+        for (int id = meet; id != targetId; ) {
+            id = backward[id] - 1;
+            path.add(ids.contact(id));
+        }
+        return path;
+    }
+
+    // DEGREES OF SEPARATION
+    /**
+     * Counts the connections on a shortest chain from one contact to another, abiding to one-way connections.
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @return The number of connections, 0 for the same contact, or -1 if either contact or a path does not exist
+     */
+    public int degreesOfSeparation(String from, String to) {
+        return degreesOfSeparation(from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Counts the connections on a shortest chain of at most maxDepth connections, see shortestPath(from, to, maxDepth).
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @param maxDepth The most connections to look through
+     * @return The number of connections, 0 for the same contact, or -1 if either contact or a short enough path does not exist
+     */
+    public int degreesOfSeparation(String from, String to, int maxDepth) {
+        return shortestPath(from, to, maxDepth).size() - 1;
+    }
+
+    // TRAVERSAL: ITERATOR
+    /**
+     * Visits the contacts reachable from a contact one at a time, abiding to one-way connections.
+     * Nothing is printed and nothing is visited ahead of the caller, so the caller can stop after a few contacts.
+     * The traversal keeps an explicit queue or stack, so long chains cannot overflow the call stack.
+     * The graph must not be changed while the iterator is in use.
+     * @param contact The name of the contact to start from
+     * @param order Breadth first or depth first
+     * @return The contacts in visiting order, starting with the contact itself, or nothing if it does not exist
+     */
+    public Iterator<Contact> traversal(String contact, TraversalOrder order) {
+        Contact start = nameIndex.get(normalizeName(contact));
+        if (start == null) {
+            reportContactNotFound(contact);
+            return Collections.emptyIterator();
+        }
+        return order == TraversalOrder.DEPTH_FIRST ? new DepthFirstIterator(start) : new BreadthFirstIterator(start);
+    }
+
+    // TRAVERSAL: STREAM
+    /**
+     * Streams the contacts reachable from a contact, see traversal(contact, order).
+     * The stream is lazy, so limit(), findFirst() or anyMatch() end the traversal early.
+     * @param contact The name of the contact to start from
+     * @param order Breadth first or depth first
+     * @return The contacts in visiting order, starting with the contact itself, or an empty stream if it does not exist
+     */
+    public Stream<Contact> traversalStream(String contact, TraversalOrder order) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(traversal(contact, order),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    // TRAVERSAL: VISITOR
+    /**
+     * Calls a visitor on the contacts reachable from a contact in visiting order, until it returns false.
+     * @param contact The name of the contact to start from
+     * @param order Breadth first or depth first
+     * @param visitor Called with every visited contact, returns false to stop the traversal
+     * @return The number of contacts visited, including the one the visitor stopped at
+     */
+    public int traverse(String contact, TraversalOrder order, Predicate<Contact> visitor) {
+        int visited = 0;
+        Iterator<Contact> contacts = traversal(contact, order);
+        while (contacts.hasNext()) {
+            visited++;
+            if (!visitor.test(contacts.next())) {
+                break;
+            }
+        }
+        return visited;
+    }
+
     // TRAVERSAL: BREADTH FIRST SEARCH utilizing a QUEUE
     // The BFS algorithm searches nodes close to the start point first.
     // Ideal for shortest-path problems in unweighted graphs.
     /**
-     * Breadth first search traversal that abides to one-way connections.
+     * Breadth first search traversal that abides to one-way connections, printed on the terminal.
      * @param contact The name of the contact to start from
      */
     public void bfsTraversal(String contact) {
@@ -383,31 +1066,12 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
             System.out.println("Start contact does not exist in this graph.");
             return;
         }
-
-        Queue<Contact> queue = new LinkedList<>();
-        HashMap<Contact, Boolean> visited = new HashMap<>(); // Where we store whether something has been visited.
-
-        queue.add(start); // Enqueue root
-        visited.put(start, true);
-
-        while (!queue.isEmpty()) {
-            Contact visiting = queue.poll(); // Dequeue
-            System.out.println("Visited:[ Name: " + visiting.getName().trim() + " | Student ID: " + visiting.getStudentId() + " ]");
-
-            for (Contact neighbor : adj.get(visiting)) {
-                if (visited.get(neighbor) == null) {
-                    queue.add(neighbor); // Enqueue neighbors
-                    visited.put(neighbor, true);
-                }
-            }
-        }
+        new BreadthFirstIterator(start).forEachRemaining(this::printVisited);
     }
 
     // TRAVERSAL: DEPTH FIRST SEARCH
-    // The variable visited is used to ensure each node is visited only once.
-    // Uses memoization, caching the result in a variable to prevent redundant computations.
     /**
-     * Depth first search traversal that abides to one-way connections.
+     * Depth first search traversal that abides to one-way connections, printed on the terminal.
      * @param contact The name of the contact to start from
      */
     public void dfsTraversal(String contact) {
@@ -417,19 +1081,84 @@ public class AdjacencyListGraphCB extends AbstractGraphCB implements ContactsMan
             System.out.println("Start contact does not exist in this graph.");
             return;
         }
-        HashMap<Contact, Boolean> visited = new HashMap<>();
-        dfs(start, visited); // Call recursive method
+        new DepthFirstIterator(start).forEachRemaining(this::printVisited);
     }
 
-    private void dfs(Contact visiting, HashMap<Contact, Boolean> visited) {
-        visited.put(visiting, true);
+    private void printVisited(Contact visiting) {
         System.out.println("Visited:[ Name: " + visiting.getName().trim() + " | Student ID: " + visiting.getStudentId() + " ]");
+    }
+
+    /**
+     * Breadth first traversal that visits one contact per next(), enqueueing its unvisited neighbors.
+     */
+    private final class BreadthFirstIterator implements Iterator<Contact> {
+        private final ArrayDeque<Contact> queue = new ArrayDeque<>();
+        private final HashSet<Contact> visited = new HashSet<>(); // Enqueued once, never again
+
+        private BreadthFirstIterator(Contact start) {
+            queue.add(start);
+            visited.add(start);
+        }
 
-        for (Contact neighbor : adj.get(visiting)) {
-            if (visited.get(neighbor) == null) { // All neighbors
-                dfs(neighbor, visited); // Call itself
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public Contact next() {
+            Contact visiting = queue.poll();
+            if (visiting == null) {
+                throw new NoSuchElementException();
+            }
+            for (Contact neighbor : adj.get(visiting)) {
+                if (visited.add(neighbor)) {
+                    queue.add(neighbor);
+                }
             }
+            return visiting;
         }
     }
 
+    /**
+     * Depth first traversal over an explicit stack of neighbor iterators, in the same order as the recursive version.
+     * hasNext() walks down to the next unvisited contact; next() hands it out and pushes its neighbors.
+     */
+    private final class DepthFirstIterator implements Iterator<Contact> {
+        private final ArrayDeque<Iterator<Contact>> stack = new ArrayDeque<>();
+        private final HashSet<Contact> visited = new HashSet<>();
+        private Contact pending; // Found by hasNext(), not handed out yet
+
+        private DepthFirstIterator(Contact start) {
+            visited.add(start);
+            pending = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (pending == null && !stack.isEmpty()) {
+                Iterator<Contact> neighbors = stack.peek();
+                if (!neighbors.hasNext()) {
+                    stack.pop(); // All neighbors done, backtrack
+                    continue;
+                }
+                Contact neighbor = neighbors.next();
+                if (visited.add(neighbor)) {
+                    pending = neighbor;
+                }
+            }
+            return pending != null;
+        }
+
+        @Override
+        public Contact next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Contact visiting = pending;
+            pending = null;
+            stack.push(adj.get(visiting).iterator());
+            return visiting;
+        }
+    }
 }
@@ -3,31 +3,70 @@ package com.contactsmanager.contactsmanagerfx.dataStructures;
 import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
 import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import com.contactsmanager.contactsmanagerfx.model.TraversalOrder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class is a Contacts Book that is implemented using Graph (made from Adjacency Matrix).
- * Unlike adjacency list, this one has a fixed limit/ capacity.
- * Uses 1s and 0s as bytes to tell the connection. Row = from, Column = to.
+ * Unlike adjacency list, this one has a capacity. The capacity doubles when it is reached
+ * and can be shrunk again with compact() (or automatically, see setAutoCompact).
+ * Uses 1s and 0s as bits to tell the connection, packed 64 per long word (see BitMatrix). Row = from, Column = to.
+ * Directed graphs also keep the transposed matrix (Row = to, Column = from), so the contacts
+ * connecting to someone can be read as a row instead of scanning a whole column.
  * CB stands for Contacts Book.
  *
  * Extends AbstractGraphCB to inherit common graph functionality like
  * directionality management, connection validation, and standardized messaging.
  */
 public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
+    private static final int DEFAULT_CAPACITY = 16;
+
     int size;
-    int maxSize;
-    byte[][] matrix; // Where the connections are stored
+    int maxSize; // Current capacity
+    private final int initialCapacity; // compact() never shrinks below this
+    private boolean autoCompact = false;
+    BitMatrix matrix; // Where the connections are stored
+    private BitMatrix reverse; // Directed only: transposed connections, null if undirected
     Contact[] contactsBook; // Where the contact information are stored
+    private HashMap<String, Integer> slotIndex = new HashMap<>(); // Normalized name -> index in contactsBook
+    private final StudentIdIndex studentIdIndex = new StudentIdIndex(); // Student ID -> contacts
+    private final NamePrefixIndex prefixIndex = new NamePrefixIndex(); // Sorted normalized names, for autocomplete
+    private final NameNGramIndex ngramIndex = new NameNGramIndex(); // Name trigrams, for typo-tolerant search
+    private BitSet usedSlots; // Occupied indexes in contactsBook, the lowest clear bit is the next slot to fill
+    private SuggestionCache suggestionCache; // Opt-in, null when off
+    private int parallelSuggestionThreshold = 0; // Friends above which ranked suggestions are counted in parallel, 0 when off
+
+    /**
+     * Constructs an undirected contacts graph with a default initial capacity.
+     */
+    public AdjacencyMatrixGraphCB() {
+        this(DEFAULT_CAPACITY, false);
+    }
 
     /**
      * Constructs an undirected contacts graph of maxSize size.
      *
-     * @param maxSize Maximum size of contacts (people) that can be held.
+     * @param maxSize Initial capacity of contacts (people) that can be held before growing.
      */
     public AdjacencyMatrixGraphCB(int maxSize) {
         this(maxSize, false);
@@ -36,15 +75,18 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
     /**
      * Constructs contacts graph of maxSize size with directionality defined.
      *
-     * @param maxSize  Maximum size of contacts (people) that can be held.
+     * @param maxSize  Initial capacity of contacts (people) that can be held before growing.
      * @param directed Directed graph or not.
      */
     public AdjacencyMatrixGraphCB(int maxSize, boolean directed) {
         super(directed); // Call parent constructor with directionality
         this.size = 0;
         this.maxSize = maxSize;
-        matrix = new byte[maxSize][maxSize];
+        this.initialCapacity = maxSize;
+        matrix = new BitMatrix(maxSize);
+        reverse = directed ? new BitMatrix(maxSize) : null;
         contactsBook = new Contact[maxSize];
+        usedSlots = new BitSet(maxSize);
     }
 
     /*========================================================================*/
@@ -62,7 +104,7 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
             return false;
         }
 
-        return matrix[index1][index2] == 1;
+        return matrix.get(index1, index2);
     }
 
     /**
@@ -90,19 +132,59 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
      * @param contact The contact object to be added
      */
     @Override
-    public void addContact(Contact contact) {
-        if (size == maxSize) { // If full
-            System.out.println("Matrix is full. Cannot add more nodes.");
-            return;
+    public OperationResult addContact(Contact contact) {
+        if (searchIndexOfContact(contact.getName()) != -1) { // Only add if the name doesn't have the person with the same name yet.
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
         }
-        int free = searchIndexOfFree();
-        if (searchIndexOfContact(contact.getName()) == -1) { // Only add if the name doesn't have the person with the same name yet.
-            contactsBook[free] = contact;
-            size++;
-            System.out.println("Added contact. Name: '" + contact.getName() + "' | Student ID: " + contact.getStudentId() + ".");
-        } else {
-            System.out.println("Contact with name '" + contact.getName() + "' already exists. Failed to put in contact.");
+        if (size == maxSize) { // If full, grow geometrically
+            ensureCapacity(size + 1);
+        }
+        slotIndex.put(contact.getNormalizedName(), claimSlot(contact));
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // ADD NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Duplicate names are dropped first, so the matrix grows at most once, to exactly the room the batch needs.
+     * @param contacts The contact objects to be added
+     */
+    @Override
+    public int addContacts(Collection<Contact> contacts) {
+        HashMap<String, Contact> batch = new HashMap<>((int) (contacts.size() / 0.75f) + 1); // First contact of each new name
+        for (Contact contact : contacts) {
+            String key = contact.getNormalizedName();
+            if (!slotIndex.containsKey(key)) {
+                batch.putIfAbsent(key, contact);
+            }
+        }
+        ensureCapacity(size + batch.size());
+        slotIndex = withRoomFor(slotIndex, batch.size());
+        studentIdIndex.ensureCapacity(batch.size());
+
+        for (Contact contact : contacts) {
+            String key = contact.getNormalizedName();
+            if (batch.get(key) == contact && !slotIndex.containsKey(key)) { // The same object twice is added once
+                slotIndex.put(key, claimSlot(contact));
+            }
         }
+        events.onEvent(ContactsEvent.CONTACTS_ADDED, batch.size(), contacts.size());
+        return batch.size();
+    }
+
+    // HELPER FUNCTION: PUT A CONTACT IN THE LOWEST FREE SLOT (THERE MUST BE ONE) AND INDEX IT
+    private int claimSlot(Contact contact) {
+        int free = searchIndexOfFree();
+        usedSlots.set(free); // Claim the slot
+        contactsBook[free] = contact;
+        studentIdIndex.add(contact);
+        prefixIndex.add(contact);
+        ngramIndex.add(contact);
+        size++;
+        return free;
     }
 
     // UPDATE CONTACT
@@ -114,18 +196,34 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
      * @param newStudentId New student ID as a replacement (can be the same as old one)
      */
     @Override
-    public void updateContact(Contact contact, String newName, int newStudentId) {
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
         String name = contact.getName();
         int target = searchIndexOfContact(name);
 
         // Check if contact exists
         if (target == -1) {
-            System.out.println("Contact not found: " + name);
-            return;
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        String oldKey = normalizeName(name);
+        String newKey = normalizeName(newName);
+        if (!oldKey.equals(newKey) && slotIndex.containsKey(newKey)) { // Keep names unique
+            events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
         }
 
+        clearSuggestionCache(); // Cached counts are keyed by the old object
         Contact newContact = new Contact(newName, newStudentId); // Make new contact to replace old one
+        studentIdIndex.remove(contactsBook[target]);
+        prefixIndex.remove(contactsBook[target]);
+        ngramIndex.remove(contactsBook[target]);
+        studentIdIndex.add(newContact);
+        prefixIndex.add(newContact);
+        ngramIndex.add(newContact);
         contactsBook[target] = newContact;
+        slotIndex.remove(oldKey);
+        slotIndex.put(newKey, target);
+        return OperationResult.done(newContact);
     }
 
     // DELETE NODE
@@ -135,71 +233,360 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
      * @param name The name of the contact to be deleted
      */
     @Override
-    public void deleteContact(String name) {
+    public OperationResult deleteContact(String name) {
         int target = searchIndexOfContact(name);
 
         // Check if contact exists
         if (target == -1) {
-            System.out.println("Contact not found: '" + name + "'. Deletion unsuccessful.");
-            return;
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
         }
 
-        for (int j = 0; j < maxSize; j++) { // Delete target's known connections
-            matrix[target][j] = 0;
+        Contact deleted = contactsBook[target];
+        forgetSuggestions(target);
+        clearSlot(target);
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+
+        if (autoCompact && maxSize > initialCapacity && size < maxSize / 4) { // Mostly empty after mass deletes
+            compact();
+        }
+        return OperationResult.done(deleted);
+    }
+
+    // DELETE NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Only the set bits of the deleted contacts' rows are visited, and auto-compact runs
+     * once after the whole batch instead of after each delete.
+     * @param names The names of the contacts to be deleted
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        clearSuggestionCache();
+        int deleted = 0;
+        for (String name : names) {
+            int target = searchIndexOfContact(name);
+            if (target != -1) {
+                clearSlot(target);
+                deleted++;
+            }
         }
-        for (int i = 0; i < maxSize; i++) { // Delete connections of people who had connections to the target.
-            matrix[i][target] = 0;
+        events.onEvent(ContactsEvent.CONTACTS_DELETED, deleted, null);
+
+        if (autoCompact && maxSize > initialCapacity && size < maxSize / 4) {
+            compact();
         }
+        return deleted;
+    }
 
+    // HELPER FUNCTION: DELETE THE CONTACT IN A SLOT WITH ALL ITS CONNECTIONS, AND FREE THE SLOT
+    private void clearSlot(int target) {
+        // Delete connections of people who had connections to the target (only the set bits are visited)
+        BitMatrix incoming = directed ? reverse : matrix;
+        for (int i = incoming.nextSetBit(target, 0); i >= 0; i = incoming.nextSetBit(target, i + 1)) {
+            matrix.clear(i, target);
+        }
+        if (directed) {
+            for (int j = matrix.nextSetBit(target, 0); j >= 0; j = matrix.nextSetBit(target, j + 1)) {
+                reverse.clear(j, target);
+            }
+            reverse.clearRow(target);
+        }
+        matrix.clearRow(target); // Delete target's known connections
+
+        slotIndex.remove(contactsBook[target].getNormalizedName());
+        studentIdIndex.remove(contactsBook[target]);
+        prefixIndex.remove(contactsBook[target]);
+        ngramIndex.remove(contactsBook[target]);
         contactsBook[target] = null; // Delete contact info
+        usedSlots.clear(target); // Slot can be reused
         size--;
-        System.out.println("Deleted contact: " + name);
     }
 
     // SEARCH NODE
     /**
      * {@inheritDoc}
      *
+     * @implSpec Looks the name up in the normalized slot index (case-insensitive, trimmed).
      * @param name The name used to find the contact
      * @return The matching contact object, or null if not found
      */
     @Override
     public Contact searchContact(String name) {
-        for (Contact contact : contactsBook) {
-            if (contact != null && contact.getName().equals(name)) {
-                return contact;
-            }
+        int index = searchIndexOfContact(name);
+        if (index == -1) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return null;
         }
-        System.out.println("Contact not found: " + name);
-        return null;
+        return contactsBook[index];
     }
 
     // HELPER FUNCTION: INTERNALLY SEARCH CONTACT BY INDEX
     private int searchIndexOfContact(String name) {
-        int i = 0;
-        for (Contact contact : contactsBook) {
-            if (contact != null && contact.getName().equals(name)) {
-                return i;
-            }
-            i++;
-        }
-        return -1;
+        Integer index = slotIndex.get(normalizeName(name));
+        return index == null ? -1 : index;
+    }
+
+    // HELPER FUNCTION: LOOK A CONTACT UP WITHOUT REPORTING A MISS (USED BY StampedLockGraphCB'S OPTIMISTIC READS)
+    Contact findContact(String name) {
+        int index = searchIndexOfContact(name);
+        return index == -1 ? null : contactsBook[index];
     }
 
     // HELPER FUNCTION: INTERNALLY SEARCH BLANK SPACE IN CONTACT LIST
+    // Lowest clear bit of the slot bitmap; the caller claims the slot by setting it.
     private int searchIndexOfFree() {
-        if (size == maxSize) {
-            System.out.println("No space left in contacts book.");
+        int free = usedSlots.nextClearBit(0);
+        if (free >= maxSize) {
+            events.onEvent(ContactsEvent.CONTACTS_FULL, null, null);
             return -1;
         }
-        int i = 0;
-        for (Contact contact : contactsBook) {
-            if (contact == null) {
-                return i;
+        return free;
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the ID up in the student ID index instead of scanning every contact.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return studentIdIndex.get(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Reads a slice of the student ID index's sorted copy, which is rebuilt only after changes.
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return studentIdIndex.range(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the sorted name index, so the cost depends on the number of results, not on the book size.
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return prefixIndex.startingWith(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Only contacts sharing trigrams with the name are considered, the best overlaps are re-ranked by edit distance.
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return ngramIndex.closest(name, limit);
+    }
+
+    /*========================================================================*/
+    /*===== Capacity Management ==============================================*/
+
+    // GROW
+    /**
+     * Grows the matrix so it can hold at least minCapacity contacts.
+     * Capacity at least doubles each time, so growing while adding contacts stays amortized.
+     * Existing indexes and connections are kept.
+     *
+     * @param minCapacity The number of contacts that must fit
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= maxSize) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, Math.max(maxSize * 2, DEFAULT_CAPACITY));
+        matrix = matrix.resize(newCapacity);
+        if (directed) {
+            reverse = reverse.resize(newCapacity);
+        }
+        contactsBook = Arrays.copyOf(contactsBook, newCapacity); // New indexes are clear in usedSlots, above the existing free ones
+        maxSize = newCapacity;
+    }
+
+    // SHRINK
+    /**
+     * Moves all contacts to the lowest indexes (keeping their order) and shrinks the capacity
+     * to the number of contacts, but never below the initial capacity.
+     * Indexes of contacts can change; connections are kept.
+     */
+    public void compact() {
+        int newCapacity = Math.max(size, initialCapacity);
+        int[] newIndexOf = new int[maxSize];
+        Contact[] newBook = new Contact[newCapacity];
+        int next = 0;
+        for (int i = 0; i < maxSize; i++) {
+            if (contactsBook[i] != null) {
+                newIndexOf[i] = next;
+                newBook[next] = contactsBook[i];
+                slotIndex.put(contactsBook[i].getNormalizedName(), next);
+                next++;
             }
-            i++;
         }
-        return -1;
+
+        BitMatrix newMatrix = new BitMatrix(newCapacity);
+        BitMatrix newReverse = directed ? new BitMatrix(newCapacity) : null;
+        for (int i = 0; i < maxSize; i++) {
+            if (contactsBook[i] == null) {
+                continue;
+            }
+            for (int j = matrix.nextSetBit(i, 0); j >= 0; j = matrix.nextSetBit(i, j + 1)) {
+                newMatrix.set(newIndexOf[i], newIndexOf[j]);
+                if (directed) {
+                    newReverse.set(newIndexOf[j], newIndexOf[i]);
+                }
+            }
+        }
+
+        matrix = newMatrix;
+        reverse = newReverse;
+        contactsBook = newBook;
+        maxSize = newCapacity;
+        usedSlots = new BitSet(newCapacity);
+        usedSlots.set(0, size);
+    }
+
+    /**
+     * Enables or disables compacting automatically once fewer than a quarter of the slots are used.
+     * Disabled by default, because compacting changes the index of contacts.
+     *
+     * @param autoCompact true to compact after deletes that leave the matrix mostly empty
+     */
+    public void setAutoCompact(boolean autoCompact) {
+        this.autoCompact = autoCompact;
+    }
+
+    /*========================================================================*/
+    /*===== Suggestion Cache Management ======================================*/
+
+    /**
+     * Turns on (or off) the cache of ranked MUTUAL_FRIENDS suggestions. Repeated queries for the same contact
+     * are then answered from its cached ranked list, or re-ranked from its cached counts after a change nearby.
+     * Adding or removing a connection and deleting a contact patch the counts; bulk changes and updates clear the cache.
+     * Queries change the cache, so StampedLockGraphCB refuses a graph with the cache on, and it must not be turned on afterwards.
+     * @param budgetBytes Estimated heap the cache may use before least recently used contacts are evicted, 0 to turn it off
+     */
+    public void setSuggestionCacheBudget(long budgetBytes) {
+        suggestionCache = budgetBytes > 0 ? new SuggestionCache(budgetBytes) : null;
+    }
+
+    boolean isSuggestionCacheOn() {
+        return suggestionCache != null;
+    }
+
+    // HELPER FUNCTION: ANSWER A RANKED QUERY FROM THE CACHE, FILLING IT ON A MISS
+    private List<Contact> cachedSuggestions(int target, String contact, int limit) {
+        SuggestionCache.Entry entry = suggestionCache.get(contactsBook[target]);
+        if (entry == null) {
+            HashMap<Contact, int[]> paths = new HashMap<>(); // Every two-step path, direct friends included
+            for (int friend = matrix.nextSetBit(target, 0); friend >= 0; friend = matrix.nextSetBit(target, friend + 1)) {
+                for (int end = matrix.nextSetBit(friend, 0); end >= 0; end = matrix.nextSetBit(friend, end + 1)) {
+                    if (end != target) {
+                        paths.computeIfAbsent(contactsBook[end], key -> new int[1])[0]++;
+                    }
+                }
+            }
+            entry = suggestionCache.put(contactsBook[target], paths);
+        } else {
+            List<Contact> ranked = SuggestionCache.ranked(entry, limit);
+            if (ranked != null) {
+                if (ranked.isEmpty()) {
+                    events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+                }
+                return ranked;
+            }
+        }
+
+        List<Contact> candidates = new ArrayList<>();
+        SuggestionRanking ranking = new SuggestionRanking(SuggestionScore.MUTUAL_FRIENDS);
+        for (Map.Entry<Contact, int[]> path : entry.paths().entrySet()) {
+            if (!matrix.get(target, slotIndex.get(path.getKey().getNormalizedName()))) { // Not known yet
+                ranking.addCounted(path.getValue()[0]);
+                candidates.add(path.getKey());
+            }
+        }
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int[] best = ranking.top(limit, 0, c -> 0,
+                (c1, c2) -> candidates.get(c1).getNormalizedName().compareTo(candidates.get(c2).getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(candidates.get(c));
+        }
+        SuggestionCache.setRanked(entry, recommendedContacts, best.length == candidates.size());
+        if (candidates.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // HELPER FUNCTION: PATCH THE CACHE FOR A CONNECTION ABOUT TO BE SET (+1) OR JUST CLEARED (-1)
+    private void patchSuggestions(int from, int to, int delta) {
+        if (suggestionCache == null || suggestionCache.isEmpty()) {
+            return;
+        }
+        if (from == to) {
+            suggestionCache.clear(); // A connection to itself is on both ends of the paths, rebuild instead
+            return;
+        }
+        patchPaths(from, to, delta);
+        if (!directed) {
+            patchPaths(to, from, delta);
+        }
+        suggestionCache.trim();
+    }
+
+    // HELPER FUNCTION: COUNT THE PATHS THROUGH ONE EDGE from -> to
+    private void patchPaths(int from, int to, int delta) {
+        SuggestionCache.Entry own = suggestionCache.peek(contactsBook[from]);
+        if (own != null) {
+            SuggestionCache.invalidate(own); // to became (or stopped being) known
+            for (int end = matrix.nextSetBit(to, 0); end >= 0; end = matrix.nextSetBit(to, end + 1)) { // from -> to -> end
+                if (end != from) {
+                    suggestionCache.adjust(own, contactsBook[end], delta);
+                }
+            }
+        }
+        BitMatrix incoming = directed ? reverse : matrix;
+        for (int start = incoming.nextSetBit(from, 0); start >= 0; start = incoming.nextSetBit(from, start + 1)) { // start -> from -> to
+            SuggestionCache.Entry entry = start == to ? null : suggestionCache.peek(contactsBook[start]);
+            if (entry != null) {
+                suggestionCache.adjust(entry, contactsBook[to], delta);
+            }
+        }
+    }
+
+    // HELPER FUNCTION: DROP THE PATHS THROUGH AND TO A CONTACT ABOUT TO BE DELETED
+    private void forgetSuggestions(int target) {
+        if (suggestionCache == null || suggestionCache.isEmpty()) {
+            return;
+        }
+        BitMatrix incoming = directed ? reverse : matrix;
+        for (int start = incoming.nextSetBit(target, 0); start >= 0; start = incoming.nextSetBit(target, start + 1)) { // start -> target -> end
+            SuggestionCache.Entry entry = start == target ? null : suggestionCache.peek(contactsBook[start]);
+            if (entry == null) {
+                continue;
+            }
+            for (int end = matrix.nextSetBit(target, 0); end >= 0; end = matrix.nextSetBit(target, end + 1)) {
+                if (end != start) {
+                    suggestionCache.adjust(entry, contactsBook[end], -1);
+                }
+            }
+        }
+        suggestionCache.forget(contactsBook[target]);
+    }
+
+    private void clearSuggestionCache() {
+        if (suggestionCache != null) {
+            suggestionCache.clear();
+        }
     }
 
     /*========================================================================*/
@@ -214,21 +601,59 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
      * @param contact2 The name of the second contact
      */
     @Override
-    public void addConnection(String contact1, String contact2) {
+    public OperationResult addConnection(String contact1, String contact2) {
         // Find index of both strings for the matrix
         int fromIndex = searchIndexOfContact(contact1); // y = from
         int toIndex = searchIndexOfContact(contact2); // x = to
 
         // Check if both contacts exist
         if (fromIndex == -1 || toIndex == -1) {
-            System.out.println("One or both contacts not found. Cannot add connection.");
-            return;
+            return reportContactsNotFound(contact1, contact2);
+        }
+        if (matrix.get(fromIndex, toIndex)) {
+            return reportConnectionExists(contact1, contact2);
         }
 
-        matrix[fromIndex][toIndex] = 1;
+        patchSuggestions(fromIndex, toIndex, 1); // Before setting, so the two rows do not hold each other yet
+        matrix.set(fromIndex, toIndex);
         if (!directed) { // Undirected graph
-            matrix[toIndex][fromIndex] = 1;
+            matrix.set(toIndex, fromIndex);
+        } else {
+            reverse.set(toIndex, fromIndex);
         }
+        reportConnectionAdded(contact1, contact2);
+        return OperationResult.done(contactsBook[fromIndex]);
+    }
+
+    // ADD CONNECTIONS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Setting a bit that is already set changes nothing, so duplicates need no check.
+     * @param pairs The connections to create
+     */
+    @Override
+    public int addConnections(Collection<String[]> pairs) {
+        clearSuggestionCache();
+        int added = 0;
+        for (String[] pair : pairs) {
+            int fromIndex = searchIndexOfContact(pair[0]);
+            int toIndex = searchIndexOfContact(pair[1]);
+            if (fromIndex == -1 || toIndex == -1) {
+                continue;
+            }
+            if (!matrix.get(fromIndex, toIndex)) {
+                added++;
+            }
+            matrix.set(fromIndex, toIndex);
+            if (!directed) {
+                matrix.set(toIndex, fromIndex);
+            } else {
+                reverse.set(toIndex, fromIndex);
+            }
+        }
+        events.onEvent(ContactsEvent.CONNECTIONS_ADDED, added, pairs.size());
+        return added;
     }
 
     // DELETE CONNECTION
@@ -240,73 +665,196 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
      * @param contact2 The name of the second contact
      */
     @Override
-    public void removeConnection(String contact1, String contact2) {
+    public OperationResult removeConnection(String contact1, String contact2) {
         // Find index of both strings for the matrix
         int fromIndex = searchIndexOfContact(contact1); // y = from
         int toIndex = searchIndexOfContact(contact2); // x = to
 
         // Check if both contacts exist
         if (fromIndex == -1 || toIndex == -1) {
-            System.out.println("One or both contacts not found. Cannot remove connection.");
-            return;
+            return reportContactsNotFound(contact1, contact2);
+        }
+        if (!matrix.get(fromIndex, toIndex)) {
+            return reportConnectionNotFound(contact1, contact2);
         }
 
-        matrix[fromIndex][toIndex] = 0;
+        matrix.clear(fromIndex, toIndex);
         if (!directed) { // Undirected graph
-            matrix[toIndex][fromIndex] = 0;
+            matrix.clear(toIndex, fromIndex);
+        } else {
+            reverse.clear(toIndex, fromIndex);
         }
+        patchSuggestions(fromIndex, toIndex, -1); // After clearing, so the two rows no longer hold each other
+        return OperationResult.done(contactsBook[fromIndex]);
     }
 
     // SUGGEST CONTACTS
     /**
      * {@inheritDoc}
      *
-     * @implSpec Will not suggest the user itself. Will recommend the person's friends' friends.
+     * @implSpec Will not suggest the user itself or people already known. Will recommend the person's friends' friends.
+     * The friends' rows are OR-ed together word by word, then the known people are masked out.
      * @param contact The name of the contact to get suggestions for
      * @return List of suggested contacts
      */
     @Override
     public List<Contact> suggestContacts(String contact) {
-        LinkedList<Integer> directConnectionsIndex = new LinkedList<>();
-        HashSet<Integer> recommendedContactsIndex = new HashSet<>();
-        LinkedList<Contact> recommendedContacts = new LinkedList<>();
+        List<Contact> recommendedContacts = new ArrayList<>();
         int target = searchIndexOfContact(contact);
 
         // Check if contact exists
         if (target == -1) {
-            System.out.println("Contact not found: " + contact);
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact, null);
             return recommendedContacts; // Return empty list
         }
 
-        for (int i = 0; i < maxSize; i++) { // Find person's friends (by index)
-            if (matrix[target][i] == 1) {
-                directConnectionsIndex.add(i);
-            }
+        long[] candidates = new long[matrix.words()];
+        int friendCount = 0;
+        for (int friend = matrix.nextSetBit(target, 0); friend >= 0; friend = matrix.nextSetBit(target, friend + 1)) {
+            matrix.orRowInto(friend, candidates); // Friend's friends (by index)
+            friendCount++;
         }
-        if (directConnectionsIndex.isEmpty()) {
-            System.out.println("Unable to suggest contacts from not knowing anyone.");
+        if (friendCount == 0) {
+            reportNoConnections(contact);
             return recommendedContacts; // Return empty list instead of null
         }
-        for (int directConnection : directConnectionsIndex) { // Find friend's friends (by index)
-            for (int i = 0; i < maxSize; i++) {
-                if ((matrix[directConnection][i] == 1) && (i != target)) {
-                    recommendedContactsIndex.add(i);
-                }
+
+        long[] known = matrix.row(target);
+        int suggestionCount = 0;
+        for (int w = 0; w < candidates.length; w++) {
+            candidates[w] &= ~known[w]; // Exclude direct friends
+            if (w == target >>> 6) {
+                candidates[w] &= ~(1L << target); // Exclude self
             }
+            suggestionCount += Long.bitCount(candidates[w]);
         }
-        for (int suggested : recommendedContactsIndex) { // Change indexes to contact
-            Contact suggestedContact = contactsBook[suggested];
+
+        recommendedContacts = new ArrayList<>(suggestionCount);
+        for (int suggested = BitMatrix.nextSetBit(candidates, 0); suggested >= 0; suggested = BitMatrix.nextSetBit(candidates, suggested + 1)) {
+            Contact suggestedContact = contactsBook[suggested]; // Change indexes to contact
             if (suggestedContact != null) {
                 recommendedContacts.add(suggestedContact);
             }
         }
         if (recommendedContacts.isEmpty()) {
-            System.out.println(contact + "'s friends doesn't know anyone.");
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
         }
 
         return recommendedContacts;
     }
 
+    // SUGGEST CONTACTS, RANKED
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks the set bits of every friend's row once. Candidates are numbered in a per-call table sized by
+     * the friends' degrees, not by the capacity, and their counts kept in primitive arrays; degrees are row bit counts,
+     * O(maxSize / 64) each.
+     * Contacts with more friends than the parallel suggestion threshold have their friends split across the common ForkJoinPool.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIndexOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        int targetDegree = matrix.cardinality(target);
+        if (targetDegree == 0) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+        if (suggestionCache != null && score == SuggestionScore.MUTUAL_FRIENDS) {
+            return cachedSuggestions(target, contact, limit);
+        }
+        if (parallelSuggestionThreshold > 0 && targetDegree > parallelSuggestionThreshold) {
+            return parallelSuggestions(target, targetDegree, contact, limit, score);
+        }
+
+        int[] friendDegrees = new int[targetDegree];
+        long bound = 0;
+        for (int friend = matrix.nextSetBit(target, 0), f = 0; friend >= 0; friend = matrix.nextSetBit(target, friend + 1)) {
+            friendDegrees[f] = matrix.cardinality(friend);
+            bound += friendDegrees[f++];
+        }
+        ReachedNodes reached = new ReachedNodes((int) Math.min(bound, maxSize)); // Candidate numbers, sized by the friends' rows
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (int friend = matrix.nextSetBit(target, 0), f = 0; friend >= 0; friend = matrix.nextSetBit(target, friend + 1)) {
+            int friendDegree = friendDegrees[f++];
+            for (int potential = matrix.nextSetBit(friend, 0); potential >= 0; potential = matrix.nextSetBit(friend, potential + 1)) {
+                if (potential == target || matrix.get(target, potential)) {
+                    continue; // Self or already known
+                }
+                int next = reached.size();
+                int candidate = reached.add(potential);
+                if (candidate == next) {
+                    ranking.add(friendDegree); // In step with the ranking's own numbers
+                } else {
+                    ranking.reach(candidate, friendDegree);
+                }
+            }
+        }
+
+        int[] best = ranking.top(limit, targetDegree, c -> matrix.cardinality(reached.node(c)),
+                (c1, c2) -> contactsBook[reached.node(c1)].getNormalizedName().compareTo(contactsBook[reached.node(c2)].getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(contactsBook[reached.node(c)]);
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    /**
+     * Turns on (or off) parallel counting of ranked suggestions for contacts with many friends.
+     * Their friends are split across the common ForkJoinPool, each task counting into its own map.
+     * Below a few thousand friends the sequential walk is usually faster.
+     * @param degreeThreshold Number of friends above which suggestions are counted in parallel, 0 to turn it off
+     */
+    public void setParallelSuggestionThreshold(int degreeThreshold) {
+        if (degreeThreshold < 0) {
+            throw new IllegalArgumentException("Parallel suggestion threshold must not be negative");
+        }
+        this.parallelSuggestionThreshold = degreeThreshold;
+    }
+
+    // HELPER FUNCTION: COUNT THE CANDIDATES OF A HUB CONTACT IN PARALLEL, THEN RANK THEM
+    private List<Contact> parallelSuggestions(int target, int targetDegree, String contact, int limit, SuggestionScore score) {
+        int[] friends = new int[targetDegree];
+        for (int friend = matrix.nextSetBit(target, 0), f = 0; friend >= 0; friend = matrix.nextSetBit(target, friend + 1)) {
+            friends[f++] = friend;
+        }
+        boolean weighted = score == SuggestionScore.ADAMIC_ADAR;
+        ParallelSuggestions.Counts counts = ParallelSuggestions.count(ForkJoinPool.commonPool(), friends.length, (from, to, into) -> {
+            for (int f = from; f < to; f++) {
+                int friend = friends[f];
+                double adamicAdar = weighted ? SuggestionRanking.adamicAdar(matrix.cardinality(friend)) : 0;
+                for (int potential = matrix.nextSetBit(friend, 0); potential >= 0; potential = matrix.nextSetBit(friend, potential + 1)) {
+                    if (potential != target && !matrix.get(target, potential)) { // Not self, not known yet
+                        into.reach(contactsBook[potential], potential, adamicAdar);
+                    }
+                }
+            }
+        });
+
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (int c = 0; c < counts.size(); c++) {
+            ranking.addCounted(counts.mutual(c), counts.weight(c)); // Candidate numbers match the packed entries
+        }
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int[] best = ranking.top(limit, targetDegree, c -> matrix.cardinality(counts.tag(c)),
+                (c1, c2) -> counts.key(c1).getNormalizedName().compareTo(counts.key(c2).getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(counts.key(c));
+        }
+        if (counts.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
     /*========================================================================*/
     /*===== Printing and Getters Management ==================================*/
 
@@ -319,7 +867,7 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
             System.out.print(i + ") " + String.format("%-50s", contactsBook[i]) + " : ");
 
             for (int j = 0; j < maxSize; j++) {
-                System.out.print(matrix[i][j] + ", ");
+                System.out.print(getConnection(i, j) + ", ");
             }
             System.out.println();
         }
@@ -344,11 +892,62 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
 
     // RETURN THE ADJACENCY MATRIX
     /**
-     * Getter for the Adjacency Matrix
-     * @return the adjacency matrix in byte[][]
+     * Getter for the Adjacency Matrix.
+     * The connections are stored bit-packed, so this builds an unpacked copy; changes to it are not reflected.
+     * Prefer getConnection for single cells.
+     * @return a copy of the adjacency matrix in byte[][]
      */
     public byte[][] getMatrix() {
-        return matrix;
+        byte[][] copy = new byte[maxSize][maxSize];
+        for (int i = 0; i < maxSize; i++) {
+            for (int j = matrix.nextSetBit(i, 0); j >= 0; j = matrix.nextSetBit(i, j + 1)) {
+                copy[i][j] = 1;
+            }
+        }
+        return copy;
+    }
+
+    // RETURN ONE CELL OF THE ADJACENCY MATRIX
+    /**
+     * Getter for a single cell of the Adjacency Matrix.
+     * @param from Row index (from contact)
+     * @param to Column index (to contact)
+     * @return 1 if there is a connection from -> to, 0 otherwise
+     */
+    public byte getConnection(int from, int to) {
+        return matrix.get(from, to) ? (byte) 1 : (byte) 0;
+    }
+
+    // RETURN THE NEXT CONNECTION OF A ROW
+    /**
+     * Finds the next contact a contact is connected to, reading the packed row a word at a time.
+     * Walks a row in O(maxSize / 64 + connections) where calling getConnection for every column is O(maxSize).
+     * @param from Row index (from contact)
+     * @param to First column index (to contact) to consider
+     * @return The index of the next connected contact at or after to, or -1 if there is none
+     */
+    public int nextConnection(int from, int to) {
+        return matrix.nextSetBit(from, to);
+    }
+
+    // RETURN INCOMING CONNECTIONS
+    /**
+     * Getter for the contacts that have a connection to the given contact ("who follows X").
+     * Reads a row of the transposed matrix in directed mode; in undirected mode this is the contact's own row.
+     * @param name The name of the contact
+     * @return List of contacts connected to it, empty if the contact is not found
+     */
+    public List<Contact> getIncomingConnections(String name) {
+        List<Contact> result = new ArrayList<>();
+        int target = searchIndexOfContact(name);
+        if (target == -1) {
+            return result;
+        }
+        BitMatrix incoming = directed ? reverse : matrix;
+        for (int i = incoming.nextSetBit(target, 0); i >= 0; i = incoming.nextSetBit(target, i + 1)) {
+            result.add(contactsBook[i]);
+        }
+        return result;
     }
 
     // RETURN THE CONTACTS
@@ -372,41 +971,197 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
     /*========================================================================*/
     /*===== Traversal Management =============================================*/
 
-    // TRAVERSAL: BREADTH FIRST SEARCH
+    // SHORTEST PATH
     /**
-     * Breadth first search traversal that abides to one-way connections.
-     * @param contact The name of the contact to start from
+     * Finds a shortest chain of connections from one contact to another, abiding to one-way connections.
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @return The contacts on the path, first to last, or an empty list if either contact or a path does not exist
      */
-    public void bfsTraversal(String startName) {
-        int startIndex = searchIndexOfContact(startName);
-        if (startIndex == -1) {
-            System.out.println("Start contact does not exist in this graph.");
-            return;
+    public List<Contact> shortestPath(String from, String to) {
+        return shortestPath(from, to, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds a shortest chain of at most maxDepth connections from one contact to another, abiding to one-way connections.
+     * Searches from both ends at once (outgoing connections from the first contact, incoming ones to the last),
+     * always growing the smaller frontier by one level, until the two searches meet.
+     * Each side only goes about half the distance, so far fewer contacts are visited than by a BFS from one end.
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @param maxDepth The most connections the path may have
+     * @return The contacts on the path, first to last, or an empty list if either contact or a short enough path does not exist
+     */
+    public List<Contact> shortestPath(String from, String to, int maxDepth) {
+        List<Contact> path = new ArrayList<>();
+        int source = searchIndexOfContact(from);
+        int target = searchIndexOfContact(to);
+        if (source == -1 || target == -1) {
+            reportContactNotFound(source == -1 ? from : to);
+            return path;
+        }
+
+        int[] forward = new int[maxSize]; // Slot -> 1 + the slot it is reached from, 0 if not reached from the first contact
+        int[] backward = new int[maxSize]; // Slot -> 1 + the slot it leads to, 0 if not reached from the last contact
+        int meet = bidirectionalSearch(source, target, maxDepth, forward, backward);
+        if (meet == -1) {
+            events.onEvent(ContactsEvent.NO_PATH, from, to);
+            return path;
+        }
+        for (int slot = meet; slot != source; slot = forward[slot] - 1) {
+            path.add(contactsBook[slot]);
+        }
+        path.add(contactsBook[source]);
+        Collections.reverse(path);
+        for (int slot = meet; slot != target; ) {
+            slot = backward[slot] - 1;
+            path.add(contactsBook[slot]);
+        }
+        return path;
+    }
+
+    // HELPER FUNCTION: BIDIRECTIONAL BFS, RETURNS THE SLOT WHERE THE TWO SEARCHES MEET OR -1
+    private int bidirectionalSearch(int source, int target, int maxDepth, int[] forward, int[] backward) {
+        forward[source] = source + 1;
+        backward[target] = target + 1;
+        if (source == target) {
+            return source;
+        }
+        BitMatrix incoming = directed ? reverse : matrix;
+        int[] forwardFrontier = {source};
+        int forwardSize = 1;
+        int[] backwardFrontier = {target};
+        int backwardSize = 1;
+        int[] next = new int[16];
+        // Once both sides have grown, every path of depth connections or fewer would have met already
+        for (int depth = 0; depth < maxDepth && forwardSize > 0 && backwardSize > 0; depth++) {
+            boolean fromSource = forwardSize <= backwardSize;
+            int[] frontier = fromSource ? forwardFrontier : backwardFrontier;
+            int size = fromSource ? forwardSize : backwardSize;
+            BitMatrix edges = fromSource ? matrix : incoming;
+            int[] reached = fromSource ? forward : backward;
+            int[] other = fromSource ? backward : forward;
+            int nextSize = 0;
+            for (int i = 0; i < size; i++) {
+                int node = frontier[i];
+                for (int neighbor = edges.nextSetBit(node, 0); neighbor >= 0; neighbor = edges.nextSetBit(node, neighbor + 1)) {
+                    if (reached[neighbor] != 0) {
+                        continue;
+                    }
+                    reached[neighbor] = node + 1;
+                    if (other[neighbor] != 0) {
+                        return neighbor; // The first meeting is on a shortest path, the other side is a whole level deep
+                    }
+                    if (nextSize == next.length) {
+                        next = Arrays.copyOf(next, nextSize * 2);
+                    }
+                    next[nextSize++] = neighbor;
+                }
+            }
+            if (fromSource) {
+                forwardFrontier = next;
+                forwardSize = nextSize;
+            } else {
+                backwardFrontier = next;
+                backwardSize = nextSize;
+            }
+            next = frontier; // Reuse the finished level's array
         }
+        return -1;
+    }
+
+    // DEGREES OF SEPARATION
+    /**
+     * Counts the connections on a shortest chain from one contact to another, abiding to one-way connections.
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @return The number of connections, 0 for the same contact, or -1 if either contact or a path does not exist
+     */
+    public int degreesOfSeparation(String from, String to) {
+        return degreesOfSeparation(from, to, Integer.MAX_VALUE);
+    }
 
-        boolean[] visited = new boolean[maxSize];
-        LinkedList<Integer> queue = new LinkedList<>();
+    /**
+     * Counts the connections on a shortest chain of at most maxDepth connections, see shortestPath(from, to, maxDepth).
+     * @param from The name of the first contact
+     * @param to The name of the last contact
+     * @param maxDepth The most connections to look through
+     * @return The number of connections, 0 for the same contact, or -1 if either contact or a short enough path does not exist
+     */
+    public int degreesOfSeparation(String from, String to, int maxDepth) {
+        return shortestPath(from, to, maxDepth).size() - 1;
+    }
 
-        visited[startIndex] = true;
-        queue.add(startIndex);
+    // TRAVERSAL: ITERATOR
+    /**
+     * Visits the contacts reachable from a contact one at a time, abiding to one-way connections.
+     * Nothing is printed and nothing is visited ahead of the caller, so the caller can stop after a few contacts.
+     * The traversal keeps an explicit queue or stack, so long chains cannot overflow the call stack.
+     * The graph must not be changed while the iterator is in use.
+     * @param contact The name of the contact to start from
+     * @param order Breadth first or depth first
+     * @return The contacts in visiting order, starting with the contact itself, or nothing if it does not exist
+     */
+    public Iterator<Contact> traversal(String contact, TraversalOrder order) {
+        int start = searchIndexOfContact(contact);
+        if (start == -1) {
+            reportContactNotFound(contact);
+            return Collections.emptyIterator();
+        }
+        return order == TraversalOrder.DEPTH_FIRST ? new DepthFirstIterator(start) : new BreadthFirstIterator(start);
+    }
 
-        while (!queue.isEmpty()) {
-            int currentIndex = queue.poll();
-            System.out.println("Visited:[ Name: " + contactsBook[currentIndex].getName() + " | Student ID: " + contactsBook[currentIndex].getStudentId() + " ]");
+    // TRAVERSAL: STREAM
+    /**
+     * Streams the contacts reachable from a contact, see traversal(contact, order).
+     * The stream is lazy, so limit(), findFirst() or anyMatch() end the traversal early.
+     * @param contact The name of the contact to start from
+     * @param order Breadth first or depth first
+     * @return The contacts in visiting order, starting with the contact itself, or an empty stream if it does not exist
+     */
+    public Stream<Contact> traversalStream(String contact, TraversalOrder order) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(traversal(contact, order),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
 
-            for (int i = 0; i < maxSize; i++) {
-                if (matrix[currentIndex][i] == 1 && !visited[i]) {
-                    visited[i] = true;
-                    queue.add(i);
-                }
+    // TRAVERSAL: VISITOR
+    /**
+     * Calls a visitor on the contacts reachable from a contact in visiting order, until it returns false.
+     * @param contact The name of the contact to start from
+     * @param order Breadth first or depth first
+     * @param visitor Called with every visited contact, returns false to stop the traversal
+     * @return The number of contacts visited, including the one the visitor stopped at
+     */
+    public int traverse(String contact, TraversalOrder order, Predicate<Contact> visitor) {
+        int visited = 0;
+        Iterator<Contact> contacts = traversal(contact, order);
+        while (contacts.hasNext()) {
+            visited++;
+            if (!visitor.test(contacts.next())) {
+                break;
             }
         }
+        return visited;
+    }
+
+    // TRAVERSAL: BREADTH FIRST SEARCH
+    /**
+     * Breadth first search traversal that abides to one-way connections, printed on the terminal.
+     * @param startName The name of the contact to start from
+     */
+    public void bfsTraversal(String startName) {
+        int startIndex = searchIndexOfContact(startName);
+        if (startIndex == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+        new BreadthFirstIterator(startIndex).forEachRemaining(this::printVisited);
     }
 
     // TRAVERSAL: DEPTH FIRST SEARCH
     /**
-     * Depth first search traversal that abides to one-way connections.
-     * @param contact The name of the contact to start from
+     * Depth first search traversal that abides to one-way connections, printed on the terminal.
+     * @param startName The name of the contact to start from
      */
     public void dfsTraversal(String startName) {
         int startIndex = searchIndexOfContact(startName);
@@ -414,21 +1169,91 @@ public class AdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsM
             System.out.println("Start contact does not exist in this graph.");
             return;
         }
+        new DepthFirstIterator(startIndex).forEachRemaining(this::printVisited);
+    }
 
-        boolean[] visited = new boolean[maxSize];
-        dfsVisit(startIndex, visited);
+    private void printVisited(Contact visiting) {
+        System.out.println("Visited:[ Name: " + visiting.getName() + " | Student ID: " + visiting.getStudentId() + " ]");
     }
 
-    // HELPER FUNCTION: RECURSIVE FUNCTION FOR DEPTH FIRST SEARCH
-    private void dfsVisit(int index, boolean[] visited) {
-        visited[index] = true;
-        System.out.println("Visited:[ Name: " + contactsBook[index].getName() + " | Student ID: " + contactsBook[index].getStudentId() + " ]");
+    /**
+     * Breadth first traversal that visits one slot per next(), enqueueing its unvisited neighbors.
+     */
+    private final class BreadthFirstIterator implements Iterator<Contact> {
+        private final boolean[] visited = new boolean[maxSize];
+        private final int[] queue = new int[maxSize]; // Each slot is enqueued at most once
+        private int head = 0;
+        private int tail = 0;
 
-        for (int i = 0; i < maxSize; i++) {
-            if (matrix[index][i] == 1 && !visited[i]) {
-                dfsVisit(i, visited);
+        private BreadthFirstIterator(int start) {
+            visited[start] = true;
+            queue[tail++] = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head < tail;
+        }
+
+        @Override
+        public Contact next() {
+            if (head == tail) {
+                throw new NoSuchElementException();
+            }
+            int visiting = queue[head++];
+            for (int i = matrix.nextSetBit(visiting, 0); i >= 0; i = matrix.nextSetBit(visiting, i + 1)) {
+                if (!visited[i]) {
+                    visited[i] = true;
+                    queue[tail++] = i;
+                }
             }
+            return contactsBook[visiting];
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Depth first traversal over an explicit stack of (slot, next column), in the same order as the recursive version.
+     * hasNext() walks down to the next unvisited slot; next() hands it out and pushes it.
+     */
+    private final class DepthFirstIterator implements Iterator<Contact> {
+        private final boolean[] visited = new boolean[maxSize];
+        private final int[] stackIndex = new int[maxSize]; // Each slot is pushed at most once
+        private final int[] stackColumn = new int[maxSize]; // Next column to look at for the slot at the same depth
+        private int depth = -1;
+        private int pending; // Found by hasNext(), not handed out yet, -1 if none
+
+        private DepthFirstIterator(int start) {
+            visited[start] = true;
+            pending = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (pending == -1 && depth >= 0) {
+                int next = matrix.nextSetBit(stackIndex[depth], stackColumn[depth]);
+                if (next < 0) { // All neighbors done, backtrack
+                    depth--;
+                    continue;
+                }
+                stackColumn[depth] = next + 1;
+                if (!visited[next]) {
+                    visited[next] = true;
+                    pending = next;
+                }
+            }
+            return pending != -1;
+        }
+
+        @Override
+        public Contact next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            depth++;
+            stackIndex[depth] = pending;
+            stackColumn[depth] = 0;
+            pending = -1;
+            return contactsBook[stackIndex[depth]];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import java.util.Arrays;
+
+/**
+ * Square bit matrix used as the connection storage of AdjacencyMatrixGraphCB.
+ * Each row is packed into long words (64 connections per word), so a row can be
+ * scanned, OR-ed or cleared a whole word at a time. Row = from, Column = to.
+ */
+final class BitMatrix {
+    private final int size;
+    private final int words; // Number of long words per row
+    private final long[][] rows;
+
+    /**
+     * Constructs an empty size x size bit matrix.
+     * @param size Number of rows and columns
+     */
+    BitMatrix(int size) {
+        this.size = size;
+        this.words = wordsFor(size);
+        this.rows = new long[size][words];
+    }
+
+    private static int wordsFor(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int words() {
+        return words;
+    }
+
+    boolean get(int row, int col) {
+        return (rows[row][col >>> 6] & (1L << col)) != 0;
+    }
+
+    void set(int row, int col) {
+        rows[row][col >>> 6] |= 1L << col;
+    }
+
+    void clear(int row, int col) {
+        rows[row][col >>> 6] &= ~(1L << col);
+    }
+
+    void clearRow(int row) {
+        Arrays.fill(rows[row], 0L);
+    }
+
+    /**
+     * Copies this matrix into a new one with a different number of rows and columns.
+     * Connections outside the new bounds are dropped.
+     * @param newSize Number of rows and columns of the copy
+     * @return The resized copy
+     */
+    BitMatrix resize(int newSize) {
+        BitMatrix resized = new BitMatrix(newSize);
+        int rowsToCopy = Math.min(size, newSize);
+        int wordsToCopy = Math.min(words, resized.words);
+        for (int r = 0; r < rowsToCopy; r++) {
+            System.arraycopy(rows[r], 0, resized.rows[r], 0, wordsToCopy);
+        }
+        if (newSize < size && (newSize & 63) != 0 && wordsToCopy > 0) { // Clear the tail bits of the last kept word
+            long keep = (1L << newSize) - 1;
+            for (int r = 0; r < rowsToCopy; r++) {
+                resized.rows[r][wordsToCopy - 1] &= keep;
+            }
+        }
+        return resized;
+    }
+
+    /**
+     * Returns the live words of a row. Callers must not modify the array.
+     * @param row The row index
+     * @return The packed row
+     */
+    long[] row(int row) {
+        return rows[row];
+    }
+
+    /**
+     * OR-s a row into the accumulator, word by word.
+     * @param row The row index
+     * @param acc Accumulator of at least words() length
+     */
+    void orRowInto(int row, long[] acc) {
+        long[] r = rows[row];
+        for (int w = 0; w < words; w++) {
+            acc[w] |= r[w];
+        }
+    }
+
+    /**
+     * Number of set bits (connections) in a row.
+     * @param row The row index
+     * @return The popcount of the row
+     */
+    int cardinality(int row) {
+        int count = 0;
+        for (long w : rows[row]) {
+            count += Long.bitCount(w);
+        }
+        return count;
+    }
+
+    /**
+     * Finds the next set column in a row at or after from.
+     * @param row The row index
+     * @param from The first column to consider
+     * @return The column index, or -1 if there is none
+     */
+    int nextSetBit(int row, int from) {
+        return nextSetBit(rows[row], from);
+    }
+
+    /**
+     * Finds the next set bit at or after from in a packed bit array.
+     * @param bits The packed words
+     * @param from The first bit to consider
+     * @return The bit index, or -1 if there is none
+     */
+    static int nextSetBit(long[] bits, int from) {
+        int w = from >>> 6;
+        if (w >= bits.length) {
+            return -1;
+        }
+        long word = bits[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == bits.length) {
+                return -1;
+            }
+            word = bits[w];
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is a thread-safe Contacts Book that is implemented using Graph (made from Adjacency List).
+ * Neighbors are kept in concurrent hash sets, so searches, suggestions and traversals never lock.
+ * Changes lock striped per-node locks: a connection locks the stripes of both contacts, and deleting
+ * or renaming a contact locks it together with every contact it is connected to. Stripes are always
+ * locked in ascending order, so concurrent changes cannot deadlock.
+ * Reads are weakly consistent: they see each change either fully or not at all per neighbor set,
+ * but may see some sets before and some after a change.
+ * CB stands for Contacts Book.
+ *
+ * Extends AbstractGraphCB to inherit common graph functionality like
+ * directionality management, connection validation, and standardized messaging.
+ */
+public class ConcurrentAdjacencyListGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
+    private static final int STRIPES = 64;
+
+    private final ConcurrentHashMap<String, Contact> nameIndex = new ConcurrentHashMap<>(); // Normalized name -> node
+    private final ConcurrentHashMap<Contact, Set<Contact>> adj = new ConcurrentHashMap<>(); // Node -> nodes it connects to
+    private final ConcurrentHashMap<Contact, Set<Contact>> inAdj; // Directed only: node -> nodes connecting to it
+    private final StripedLocks locks = new StripedLocks(STRIPES); // Stripe of a node = hash of its normalized name
+    private final ConcurrentSecondaryIndexes indexes = new ConcurrentSecondaryIndexes(); // Student ID, prefix and trigram indexes
+
+    /**
+     * Constructs an undirected contact graph.
+     */
+    public ConcurrentAdjacencyListGraphCB() {
+        this(false); // Default is undirected
+    }
+
+    /**
+     * Constructs a contact graph with directionality defined.
+     * @param directed Directed graph or not
+     */
+    public ConcurrentAdjacencyListGraphCB(boolean directed) {
+        super(directed);
+        this.inAdj = directed ? new ConcurrentHashMap<>() : null;
+    }
+
+    /*========================================================================*/
+    /*===== Abstract Methods Implementation ==================================*/
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean connectionExists(String contact1, String contact2) {
+        Contact nodeA = nameIndex.get(normalizeName(contact1));
+        Contact nodeB = nameIndex.get(normalizeName(contact2));
+        return nodeA != null && nodeB != null && neighborsOf(nodeA).contains(nodeB);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Contact[] getContactPair(String contact1Name, String contact2Name) {
+        Contact contact1 = nameIndex.get(normalizeName(contact1Name));
+        Contact contact2 = nameIndex.get(normalizeName(contact2Name));
+        if (contact1 == null || contact2 == null) {
+            return null;
+        }
+        return new Contact[]{contact1, contact2};
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    // ADD NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the stripe of the name, so two threads adding the same name cannot both succeed.
+     * The node is published in the name index last, after its neighbor sets exist.
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        String key = contact.getNormalizedName();
+        int[] held = locks.lock(stripeOf(key));
+        try {
+            if (nameIndex.containsKey(key)) {
+                events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+                return OperationResult.failed(Outcome.ALREADY_EXISTS);
+            }
+            adj.put(contact, ConcurrentHashMap.newKeySet());
+            if (directed) {
+                inAdj.put(contact, ConcurrentHashMap.newKeySet());
+            }
+            indexes.add(contact);
+            nameIndex.put(key, contact);
+        } finally {
+            locks.unlock(held);
+        }
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // UPDATE CONTACT
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the contact, its connected contacts and the new name, then moves the neighbor sets
+     * to the new Contact object and replaces the references to it.
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        String oldKey = contact.getNormalizedName();
+        String newKey = normalizeName(newName);
+        Contact oldNode = nameIndex.get(oldKey);
+        if (oldNode == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+
+        int[] held = lockWithNeighbors(oldNode, stripeOf(newKey));
+        try {
+            if (nameIndex.get(oldKey) != oldNode) { // Deleted or replaced while waiting for the locks
+                events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+                return OperationResult.failed(Outcome.NOT_FOUND);
+            }
+            if (!oldKey.equals(newKey) && nameIndex.containsKey(newKey)) { // Keep names unique
+                events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+                return OperationResult.failed(Outcome.ALREADY_EXISTS);
+            }
+
+            Contact newNode = new Contact(newName, newStudentId);
+            Set<Contact> connections = adj.remove(oldNode);
+            replaceIn(connections, oldNode, newNode); // In case it is connected to itself
+            adj.put(newNode, connections);
+            for (Contact neighbor : connections) { // Sets that point back to the contact
+                replaceIn(directed ? inAdj.get(neighbor) : adj.get(neighbor), oldNode, newNode);
+            }
+            if (directed) {
+                Set<Contact> followers = inAdj.remove(oldNode);
+                replaceIn(followers, oldNode, newNode);
+                inAdj.put(newNode, followers);
+                for (Contact follower : followers) {
+                    replaceIn(adj.get(follower), oldNode, newNode);
+                }
+            }
+            indexes.replace(oldNode, newNode);
+            nameIndex.remove(oldKey);
+            nameIndex.put(newKey, newNode);
+            return OperationResult.done(newNode);
+        } finally {
+            locks.unlock(held);
+        }
+    }
+
+    // DELETE NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the contact together with every contact it is connected to, removes it from the
+     * name index first (so new connections to it fail), then removes its edges.
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        String key = normalizeName(name);
+        Contact target = nameIndex.get(key);
+        if (target == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+
+        int[] held = lockWithNeighbors(target);
+        try {
+            if (nameIndex.get(key) != target) { // Deleted or replaced while waiting for the locks
+                events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+                return OperationResult.failed(Outcome.NOT_FOUND);
+            }
+            indexes.remove(target);
+            nameIndex.remove(key);
+            for (Contact neighbor : adj.remove(target)) {
+                if (neighbor != target) { // A self-connection leaves with the contact's own sets
+                    (directed ? inAdj.get(neighbor) : adj.get(neighbor)).remove(target);
+                }
+            }
+            if (directed) {
+                for (Contact follower : inAdj.remove(target)) {
+                    if (follower != target) {
+                        adj.get(follower).remove(target);
+                    }
+                }
+            }
+        } finally {
+            locks.unlock(held);
+        }
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+        return OperationResult.done(target);
+    }
+
+    // SEARCH NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Lock-free lookup in the normalized name index.
+     */
+    @Override
+    public Contact searchContact(String name) {
+        Contact contact = nameIndex.get(normalizeName(name));
+        if (contact == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+        }
+        return contact;
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return indexes.byStudentId(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return indexes.byStudentIdRange(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return indexes.byPrefix(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return indexes.similar(name, limit);
+    }
+
+    /*========================================================================*/
+    /*===== Connections Management ===========================================*/
+
+    // ADD CONNECTION
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the stripes of both contacts in ascending order and checks that both still exist.
+     */
+    @Override
+    public OperationResult addConnection(String contact1, String contact2) {
+        if (!validateConnectionNames(contact1, contact2)) {
+            return OperationResult.failed(Outcome.INVALID);
+        }
+        String key1 = normalizeName(contact1);
+        String key2 = normalizeName(contact2);
+        Contact nodeA = nameIndex.get(key1);
+        Contact nodeB = nameIndex.get(key2);
+        if (nodeA == null || nodeB == null) {
+            return reportContactsNotFound(contact1, contact2);
+        }
+
+        int[] held = locks.lock(stripeOf(key1), stripeOf(key2));
+        try {
+            if (nameIndex.get(key1) != nodeA || nameIndex.get(key2) != nodeB) { // Changed while waiting for the locks
+                return reportContactsNotFound(contact1, contact2);
+            }
+            if (!adj.get(nodeA).add(nodeB)) { // Add edge a->b
+                return reportConnectionExists(contact1, contact2);
+            }
+            if (directed) {
+                inAdj.get(nodeB).add(nodeA);
+            } else {
+                adj.get(nodeB).add(nodeA); // Add edge b->a
+            }
+        } finally {
+            locks.unlock(held);
+        }
+        reportConnectionAdded(contact1, contact2);
+        return OperationResult.done(nodeA);
+    }
+
+    // DELETE CONNECTION
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the stripes of both contacts in ascending order and checks that both still exist.
+     */
+    @Override
+    public OperationResult removeConnection(String contact1, String contact2) {
+        String key1 = normalizeName(contact1);
+        String key2 = normalizeName(contact2);
+        Contact nodeA = nameIndex.get(key1);
+        Contact nodeB = nameIndex.get(key2);
+        if (nodeA == null || nodeB == null) {
+            return reportContactsNotFound(contact1, contact2);
+        }
+
+        int[] held = locks.lock(stripeOf(key1), stripeOf(key2));
+        try {
+            if (nameIndex.get(key1) != nodeA || nameIndex.get(key2) != nodeB) { // Changed while waiting for the locks
+                return reportContactsNotFound(contact1, contact2);
+            }
+            if (!adj.get(nodeA).remove(nodeB)) { // Remove a->b
+                return reportConnectionNotFound(contact1, contact2);
+            }
+            if (directed) {
+                inAdj.get(nodeB).remove(nodeA);
+            } else {
+                adj.get(nodeB).remove(nodeA); // Remove b->a
+            }
+        } finally {
+            locks.unlock(held);
+        }
+        return OperationResult.done(nodeA);
+    }
+
+    // SUGGEST CONTACTS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Will not suggest the user itself or people already known. Will recommend the person's friends' friends.
+     * Lock-free: walks the concurrent neighbor sets as they are.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        Contact nodeA = nameIndex.get(normalizeName(contact));
+        if (nodeA == null) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        Set<Contact> directConnections = neighborsOf(nodeA);
+        if (directConnections.isEmpty()) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        Set<Contact> excluded = new HashSet<>(directConnections); // Direct friends, self and already suggested
+        excluded.add(nodeA);
+        for (Contact friend : directConnections) {
+            for (Contact potential : neighborsOf(friend)) {
+                if (excluded.add(potential)) {
+                    recommendedContacts.add(potential);
+                }
+            }
+        }
+
+        if (recommendedContacts.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // SUGGEST CONTACTS, RANKED
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks every friend's connections once, in O(sum of friend degrees), numbering candidates in a
+     * per-call ContactIds table and counting them in primitive arrays. Lock-free like suggestContacts(String):
+     * the friends are copied once and each friend's set is sized once, so a concurrent change cannot count twice.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        Contact nodeA = nameIndex.get(normalizeName(contact));
+        if (nodeA == null) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        Set<Contact> directConnections = neighborsOf(nodeA);
+        if (directConnections.isEmpty()) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        Contact[] friends = directConnections.toArray(new Contact[0]); // Walked twice, so both walks see the same friends
+        ContactIds reached = new ContactIds(); // Self and direct friends first, then candidates in the order they are reached
+        reached.add(nodeA);
+        for (Contact friend : friends) {
+            reached.add(friend);
+        }
+        int known = reached.size();
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (Contact friend : friends) {
+            Set<Contact> friendsOfFriend = neighborsOf(friend);
+            int friendDegree = friendsOfFriend.size();
+            for (Contact potential : friendsOfFriend) {
+                int next = reached.size();
+                int id = reached.add(potential);
+                if (id == next) {
+                    ranking.add(friendDegree); // Candidate number id - known, in step with the ranking's own numbers
+                } else if (id >= known) {
+                    ranking.reach(id - known, friendDegree);
+                }
+            }
+        }
+
+        int[] best = ranking.top(limit, friends.length, c -> neighborsOf(reached.contact(c + known)).size(),
+                (c1, c2) -> reached.contact(c1 + known).getNormalizedName().compareTo(reached.contact(c2 + known).getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(reached.contact(c + known));
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    /*========================================================================*/
+    /*===== Locking Management ===============================================*/
+
+    private int stripeOf(String normalizedName) {
+        return locks.stripeOf(normalizedName.hashCode());
+    }
+
+    // HELPER FUNCTION: LOCK A NODE TOGETHER WITH EVERY NODE IT SHARES AN EDGE WITH
+    // Neighbors are read without locks, then all stripes are locked in order. New edges need the
+    // node's own stripe, so once every neighbor is covered after locking, the set cannot change anymore.
+    private int[] lockWithNeighbors(Contact node, int... extraStripes) {
+        while (true) {
+            List<Contact> connected = connectedTo(node);
+            int[] wanted = new int[connected.size() + 1 + extraStripes.length];
+            int next = 0;
+            wanted[next++] = stripeOf(node.getNormalizedName());
+            for (int stripe : extraStripes) {
+                wanted[next++] = stripe;
+            }
+            for (Contact other : connected) {
+                wanted[next++] = stripeOf(other.getNormalizedName());
+            }
+
+            int[] held = locks.lock(wanted);
+            boolean covered = true;
+            for (Contact other : connectedTo(node)) {
+                if (!StripedLocks.holds(held, stripeOf(other.getNormalizedName()))) {
+                    covered = false; // A connection was added before we got the node's stripe
+                    break;
+                }
+            }
+            if (covered) {
+                return held;
+            }
+            locks.unlock(held);
+        }
+    }
+
+    // HELPER FUNCTION: ALL NODES WITH AN EDGE TO OR FROM THE NODE
+    private List<Contact> connectedTo(Contact node) {
+        List<Contact> connected = new ArrayList<>(neighborsOf(node));
+        if (directed) {
+            Set<Contact> followers = inAdj.get(node);
+            if (followers != null) {
+                connected.addAll(followers);
+            }
+        }
+        return connected;
+    }
+
+    // HELPER FUNCTION: NEIGHBOR SET, EMPTY IF THE NODE WAS JUST DELETED OR RENAMED
+    private Set<Contact> neighborsOf(Contact node) {
+        Set<Contact> neighbors = adj.get(node);
+        return neighbors == null ? Collections.emptySet() : neighbors;
+    }
+
+    private static void replaceIn(Set<Contact> set, Contact oldContact, Contact newContact) {
+        if (set != null && set.remove(oldContact)) {
+            set.add(newContact);
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    // PRINT ALL CONTACTS
+    /**
+     * Print the contacts list on the terminal.
+     */
+    public void printContactsBook() {
+        for (Map.Entry<Contact, Set<Contact>> entry : adj.entrySet()) {
+            System.out.println(entry.getKey() + ": " + entry.getValue());
+        }
+    }
+
+    // RETURN ALL CONTACTS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Weakly consistent: contacts changed while listing may or may not be included.
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        return new ArrayList<>(nameIndex.values());
+    }
+
+    // RETURN INCOMING CONNECTIONS
+    /**
+     * Getter for the contacts that have a connection to the given contact ("who follows X").
+     * @param name The name of the contact
+     * @return List of contacts connected to it, empty if the contact is not found
+     */
+    public List<Contact> getIncomingConnections(String name) {
+        Contact target = nameIndex.get(normalizeName(name));
+        if (target == null) {
+            return new ArrayList<>();
+        }
+        Set<Contact> incoming = directed ? inAdj.get(target) : adj.get(target);
+        return incoming == null ? new ArrayList<>() : new ArrayList<>(incoming);
+    }
+
+    /*========================================================================*/
+    /*===== Traversal Management =============================================*/
+
+    // TRAVERSAL: BREADTH FIRST SEARCH
+    /**
+     * Breadth first search traversal that abides to one-way connections.
+     * @param contact The name of the contact to start from
+     */
+    public void bfsTraversal(String contact) {
+        Contact start = nameIndex.get(normalizeName(contact));
+        if (start == null) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        Deque<Contact> queue = new ArrayDeque<>();
+        Set<Contact> visited = new HashSet<>();
+        queue.add(start);
+        visited.add(start);
+        while (!queue.isEmpty()) {
+            Contact visiting = queue.poll();
+            printVisited(visiting);
+            for (Contact neighbor : neighborsOf(visiting)) {
+                if (visited.add(neighbor)) {
+                    queue.add(neighbor);
+                }
+            }
+        }
+    }
+
+    // TRAVERSAL: DEPTH FIRST SEARCH
+    /**
+     * Depth first search traversal that abides to one-way connections.
+     * Uses an explicit stack of neighbor iterators so long chains cannot overflow the call stack.
+     * @param contact The name of the contact to start from
+     */
+    public void dfsTraversal(String contact) {
+        Contact start = nameIndex.get(normalizeName(contact));
+        if (start == null) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        Set<Contact> visited = new HashSet<>();
+        Deque<Iterator<Contact>> stack = new ArrayDeque<>();
+        visited.add(start);
+        printVisited(start);
+        stack.push(neighborsOf(start).iterator());
+        while (!stack.isEmpty()) {
+            Iterator<Contact> neighbors = stack.peek();
+            if (!neighbors.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            Contact neighbor = neighbors.next();
+            if (visited.add(neighbor)) {
+                printVisited(neighbor);
+                stack.push(neighborsOf(neighbor).iterator());
+            }
+        }
+    }
+
+    private void printVisited(Contact visiting) {
+        System.out.println("Visited:[ Name: " + visiting.getName().trim() + " | Student ID: " + visiting.getStudentId() + " ]");
+    }
+}
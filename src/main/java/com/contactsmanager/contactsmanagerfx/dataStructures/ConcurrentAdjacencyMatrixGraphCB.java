@@ -0,0 +1,695 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class is a thread-safe Contacts Book that is implemented using Graph (made from Adjacency Matrix).
+ * Unlike AdjacencyMatrixGraphCB, the capacity is fixed, because growing would have to stop every thread.
+ * Each row is an AtomicLongArray of 64-bit words, so single bits are set and cleared with atomic
+ * updates and rows are read without locking. Changes lock striped per-slot locks: a connection
+ * locks the stripes of both slots in ascending order, and deleting a contact locks its own stripe,
+ * which keeps new connections to it out while its row and column are cleared.
+ * Row = from, Column = to. Directed graphs also keep the transposed rows.
+ * CB stands for Contacts Book.
+ *
+ * Extends AbstractGraphCB to inherit common graph functionality like
+ * directionality management, connection validation, and standardized messaging.
+ */
+public class ConcurrentAdjacencyMatrixGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
+    private static final int STRIPES = 64;
+
+    private final int maxSize; // Fixed capacity
+    private final int words; // Number of long words per row
+    private final AtomicLongArray[] matrix; // Where the connections are stored
+    private final AtomicLongArray[] reverse; // Directed only: transposed connections, null if undirected
+    private final AtomicReferenceArray<Contact> contactsBook; // Where the contact information are stored
+    private final ConcurrentHashMap<String, Integer> slotIndex = new ConcurrentHashMap<>(); // Normalized name -> index in contactsBook
+    private final ConcurrentLinkedDeque<Integer> freeSlots = new ConcurrentLinkedDeque<>(); // Empty indexes, most recently freed first, then never-used ones lowest first
+    private final AtomicInteger size = new AtomicInteger();
+    private final StripedLocks locks = new StripedLocks(STRIPES); // Stripe of a slot = its index
+    private final ConcurrentSecondaryIndexes indexes = new ConcurrentSecondaryIndexes(); // Student ID, prefix and trigram indexes
+
+    /**
+     * Constructs an undirected contacts graph of maxSize size.
+     *
+     * @param maxSize Number of contacts (people) that can be held.
+     */
+    public ConcurrentAdjacencyMatrixGraphCB(int maxSize) {
+        this(maxSize, false);
+    }
+
+    /**
+     * Constructs contacts graph of maxSize size with directionality defined.
+     *
+     * @param maxSize  Number of contacts (people) that can be held.
+     * @param directed Directed graph or not.
+     */
+    public ConcurrentAdjacencyMatrixGraphCB(int maxSize, boolean directed) {
+        super(directed);
+        this.maxSize = maxSize;
+        this.words = (maxSize + 63) >>> 6;
+        this.matrix = newRows();
+        this.reverse = directed ? newRows() : null;
+        this.contactsBook = new AtomicReferenceArray<>(maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            freeSlots.addLast(i);
+        }
+    }
+
+    private AtomicLongArray[] newRows() {
+        AtomicLongArray[] rows = new AtomicLongArray[maxSize];
+        for (int i = 0; i < maxSize; i++) {
+            rows[i] = new AtomicLongArray(words);
+        }
+        return rows;
+    }
+
+    /*========================================================================*/
+    /*===== Abstract Methods Implementation ==================================*/
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean connectionExists(String contact1, String contact2) {
+        int index1 = searchIndexOfContact(contact1);
+        int index2 = searchIndexOfContact(contact2);
+        return index1 != -1 && index2 != -1 && getBit(matrix[index1], index2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Contact[] getContactPair(String contact1Name, String contact2Name) {
+        Contact contact1 = contactNamed(searchIndexOfContact(contact1Name), contact1Name);
+        Contact contact2 = contactNamed(searchIndexOfContact(contact2Name), contact2Name);
+        if (contact1 == null || contact2 == null) {
+            return null;
+        }
+        return new Contact[]{contact1, contact2};
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    // ADD NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Claims a free slot, then publishes the name with ConcurrentHashMap.compute so two threads
+     * adding the same name cannot both succeed. The slot is given back if the name is taken.
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        String key = contact.getNormalizedName();
+        if (slotIndex.containsKey(key)) {
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+        Integer free = freeSlots.pollFirst();
+        if (free == null) {
+            events.onEvent(ContactsEvent.CONTACTS_FULL, null, null);
+            return OperationResult.failed(Outcome.FULL);
+        }
+
+        boolean[] added = {false};
+        slotIndex.compute(key, (name, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            contactsBook.set(free, contact);
+            indexes.add(contact);
+            added[0] = true;
+            return free;
+        });
+        if (!added[0]) {
+            freeSlots.addFirst(free);
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+        size.incrementAndGet();
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // UPDATE CONTACT
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Connections are stored by slot, so only the contact in the slot and the name index change.
+     * The new name is claimed with putIfAbsent before the old one is released.
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        String oldKey = contact.getNormalizedName();
+        String newKey = normalizeName(newName);
+        Integer target = slotIndex.get(oldKey);
+        if (target == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+
+        int[] held = locks.lock(locks.stripeOf(target));
+        try {
+            Contact current = contactsBook.get(target);
+            if (current == null || !current.getNormalizedName().equals(oldKey)) { // Deleted while waiting for the lock
+                events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+                return OperationResult.failed(Outcome.NOT_FOUND);
+            }
+            boolean renamed = !oldKey.equals(newKey);
+            if (renamed && slotIndex.putIfAbsent(newKey, target) != null) { // Keep names unique
+                events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+                return OperationResult.failed(Outcome.ALREADY_EXISTS);
+            }
+            Contact newContact = new Contact(newName, newStudentId);
+            indexes.replace(current, newContact);
+            contactsBook.set(target, newContact);
+            if (renamed) {
+                slotIndex.remove(oldKey, target);
+            }
+            return OperationResult.done(newContact);
+        } finally {
+            locks.unlock(held);
+        }
+    }
+
+    // DELETE NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the slot's stripe, clears the contact's row and the bits pointing to it
+     * (found through its own row when undirected, or the transposed row when directed), then frees the slot.
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        String key = normalizeName(name);
+        Integer target = slotIndex.get(key);
+        if (target == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+
+        Contact deleted;
+        int[] held = locks.lock(locks.stripeOf(target));
+        try {
+            Contact current = contactsBook.get(target);
+            if (current == null || !current.getNormalizedName().equals(key)) { // Deleted while waiting for the lock
+                events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+                return OperationResult.failed(Outcome.NOT_FOUND);
+            }
+
+            AtomicLongArray incoming = directed ? reverse[target] : matrix[target];
+            for (int i = nextSetBit(incoming, 0); i >= 0; i = nextSetBit(incoming, i + 1)) {
+                clearBit(matrix[i], target); // Delete connections of people who had connections to the target
+            }
+            if (directed) {
+                for (int j = nextSetBit(matrix[target], 0); j >= 0; j = nextSetBit(matrix[target], j + 1)) {
+                    clearBit(reverse[j], target);
+                }
+                clearRow(reverse[target]);
+            }
+            clearRow(matrix[target]); // Delete target's known connections
+
+            indexes.remove(current);
+            slotIndex.remove(key, target);
+            contactsBook.set(target, null); // Delete contact info
+            size.decrementAndGet();
+            freeSlots.addFirst(target); // Slot can be reused
+            deleted = current;
+        } finally {
+            locks.unlock(held);
+        }
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+        return OperationResult.done(deleted);
+    }
+
+    // SEARCH NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Lock-free lookup in the normalized slot index.
+     */
+    @Override
+    public Contact searchContact(String name) {
+        Contact contact = contactNamed(searchIndexOfContact(name), name);
+        if (contact == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+        }
+        return contact;
+    }
+
+    // HELPER FUNCTION: INTERNALLY SEARCH CONTACT BY INDEX
+    private int searchIndexOfContact(String name) {
+        Integer index = slotIndex.get(normalizeName(name));
+        return index == null ? -1 : index;
+    }
+
+    // HELPER FUNCTION: THE CONTACT IN A SLOT, OR NULL IF THE SLOT WAS FREED OR GIVEN TO ANOTHER NAME SINCE THE LOOKUP
+    private Contact contactNamed(int index, String name) {
+        Contact contact = index == -1 ? null : contactsBook.get(index);
+        return contact != null && contact.getNormalizedName().equals(normalizeName(name)) ? contact : null;
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return indexes.byStudentId(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return indexes.byStudentIdRange(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return indexes.byPrefix(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return indexes.similar(name, limit);
+    }
+
+    /*========================================================================*/
+    /*===== Connections Management ===========================================*/
+
+    // ADD CONNECTION
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the stripes of both slots in ascending order and checks that both still hold the same contacts.
+     */
+    @Override
+    public OperationResult addConnection(String contact1, String contact2) {
+        return updateConnection(contact1, contact2, true);
+    }
+
+    // DELETE CONNECTION
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Locks the stripes of both slots in ascending order and checks that both still hold the same contacts.
+     */
+    @Override
+    public OperationResult removeConnection(String contact1, String contact2) {
+        return updateConnection(contact1, contact2, false);
+    }
+
+    private OperationResult updateConnection(String contact1, String contact2, boolean connect) {
+        int fromIndex = searchIndexOfContact(contact1); // y = from
+        int toIndex = searchIndexOfContact(contact2); // x = to
+        Contact from = contactNamed(fromIndex, contact1);
+        Contact to = contactNamed(toIndex, contact2);
+        if (from == null || to == null) {
+            return reportContactsNotFound(contact1, contact2);
+        }
+
+        int[] held = locks.lock(locks.stripeOf(fromIndex), locks.stripeOf(toIndex));
+        try {
+            if (contactsBook.get(fromIndex) != from || contactsBook.get(toIndex) != to) { // Deleted or renamed while waiting for the locks
+                return reportContactsNotFound(contact1, contact2);
+            }
+            boolean connected = getBit(matrix[fromIndex], toIndex); // Bits only change under both stripes
+            if (connect) {
+                if (connected) {
+                    return reportConnectionExists(contact1, contact2);
+                }
+                setBit(matrix[fromIndex], toIndex);
+                setBit(directed ? reverse[toIndex] : matrix[toIndex], fromIndex);
+            } else {
+                if (!connected) {
+                    return reportConnectionNotFound(contact1, contact2);
+                }
+                clearBit(matrix[fromIndex], toIndex);
+                clearBit(directed ? reverse[toIndex] : matrix[toIndex], fromIndex);
+            }
+            return OperationResult.done(from);
+        } finally {
+            locks.unlock(held);
+        }
+    }
+
+    // SUGGEST CONTACTS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Will not suggest the user itself or people already known. Will recommend the person's friends' friends.
+     * Lock-free: the friends' rows are read word by word and OR-ed together, then the known people are masked out.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIndexOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+
+        long[] known = snapshot(matrix[target]);
+        long[] candidates = new long[words];
+        boolean hasFriends = false;
+        for (int friend = nextSetBit(known, 0); friend >= 0; friend = nextSetBit(known, friend + 1)) {
+            AtomicLongArray friendRow = matrix[friend];
+            for (int w = 0; w < words; w++) {
+                candidates[w] |= friendRow.get(w);
+            }
+            hasFriends = true;
+        }
+        if (!hasFriends) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        candidates[target >>> 6] &= ~(1L << target); // Exclude self
+        for (int w = 0; w < words; w++) {
+            candidates[w] &= ~known[w]; // Exclude direct friends
+        }
+        for (int suggested = nextSetBit(candidates, 0); suggested >= 0; suggested = nextSetBit(candidates, suggested + 1)) {
+            Contact suggestedContact = contactsBook.get(suggested); // Change indexes to contact
+            if (suggestedContact != null) {
+                recommendedContacts.add(suggestedContact);
+            }
+        }
+        if (recommendedContacts.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // SUGGEST CONTACTS, RANKED
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks the set bits of every friend's row once. Candidates are numbered in a per-call table sized by
+     * the friends' degrees, not by the capacity, and their counts kept in primitive arrays.
+     * Lock-free: the contact's own row is copied once, and each friend's row is walked for at most the bits
+     * counted at the start, so connections made meanwhile cannot overflow the table.
+     * A candidate deleted while ranking is left out, so fewer than limit contacts may be returned.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIndexOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        long[] known = snapshot(matrix[target]);
+        int targetDegree = 0;
+        for (long word : known) {
+            targetDegree += Long.bitCount(word);
+        }
+        if (targetDegree == 0) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        int[] friendDegrees = new int[targetDegree];
+        long bound = 0;
+        for (int friend = nextSetBit(known, 0), f = 0; friend >= 0; friend = nextSetBit(known, friend + 1)) {
+            friendDegrees[f] = cardinality(matrix[friend]);
+            bound += friendDegrees[f++];
+        }
+        ReachedNodes reached = new ReachedNodes((int) Math.min(bound, maxSize)); // Candidate numbers, sized by the friends' rows
+        List<Contact> candidates = new ArrayList<>(); // Candidate number -> contact when first reached, null if deleted
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (int friend = nextSetBit(known, 0), f = 0; friend >= 0; friend = nextSetBit(known, friend + 1)) {
+            AtomicLongArray friendRow = matrix[friend];
+            int friendDegree = friendDegrees[f++];
+            int walked = 0;
+            for (int potential = nextSetBit(friendRow, 0); potential >= 0 && walked < friendDegree;
+                 potential = nextSetBit(friendRow, potential + 1), walked++) {
+                if (potential == target || (known[potential >>> 6] & (1L << potential)) != 0) {
+                    continue; // Self or already known
+                }
+                int next = reached.size();
+                int candidate = reached.add(potential);
+                if (candidate == next) {
+                    ranking.add(friendDegree); // In step with the ranking's own numbers
+                    candidates.add(contactsBook.get(potential));
+                } else {
+                    ranking.reach(candidate, friendDegree);
+                }
+            }
+        }
+
+        int[] best = ranking.top(limit, targetDegree, c -> cardinality(matrix[reached.node(c)]),
+                (c1, c2) -> nameOf(candidates.get(c1)).compareTo(nameOf(candidates.get(c2))));
+        for (int c : best) {
+            if (candidates.get(c) != null) {
+                recommendedContacts.add(candidates.get(c));
+            }
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // HELPER FUNCTION: NORMALIZED NAME FOR TIE-BREAKS, EMPTY FOR A SLOT DELETED WHILE RANKING
+    private static String nameOf(Contact contact) {
+        return contact == null ? "" : contact.getNormalizedName();
+    }
+
+    /*========================================================================*/
+    /*===== Bit Operations ===================================================*/
+
+    private static boolean getBit(AtomicLongArray row, int col) {
+        return (row.get(col >>> 6) & (1L << col)) != 0;
+    }
+
+    private static void setBit(AtomicLongArray row, int col) {
+        row.getAndAccumulate(col >>> 6, 1L << col, (word, bit) -> word | bit);
+    }
+
+    private static void clearBit(AtomicLongArray row, int col) {
+        row.getAndAccumulate(col >>> 6, ~(1L << col), (word, mask) -> word & mask);
+    }
+
+    private static void clearRow(AtomicLongArray row) {
+        for (int w = 0; w < row.length(); w++) {
+            row.set(w, 0L);
+        }
+    }
+
+    private static int cardinality(AtomicLongArray row) {
+        int count = 0;
+        for (int w = 0; w < row.length(); w++) {
+            count += Long.bitCount(row.get(w));
+        }
+        return count;
+    }
+
+    private static long[] snapshot(AtomicLongArray row) {
+        long[] copy = new long[row.length()];
+        for (int w = 0; w < copy.length; w++) {
+            copy[w] = row.get(w);
+        }
+        return copy;
+    }
+
+    private static int nextSetBit(AtomicLongArray row, int from) {
+        int w = from >>> 6;
+        if (w >= row.length()) {
+            return -1;
+        }
+        long word = row.get(w) & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == row.length()) {
+                return -1;
+            }
+            word = row.get(w);
+        }
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        return BitMatrix.nextSetBit(bits, from);
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    // LIST ALL CONTACTS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Weakly consistent: contacts changed while listing may or may not be included.
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        List<Contact> result = new ArrayList<>();
+        for (int i = 0; i < maxSize; i++) {
+            Contact contact = contactsBook.get(i);
+            if (contact != null) {
+                result.add(contact);
+            }
+        }
+        return result;
+    }
+
+    // RETURN INCOMING CONNECTIONS
+    /**
+     * Getter for the contacts that have a connection to the given contact ("who follows X").
+     * @param name The name of the contact
+     * @return List of contacts connected to it, empty if the contact is not found
+     */
+    public List<Contact> getIncomingConnections(String name) {
+        List<Contact> result = new ArrayList<>();
+        int target = searchIndexOfContact(name);
+        if (target == -1) {
+            return result;
+        }
+        AtomicLongArray incoming = directed ? reverse[target] : matrix[target];
+        for (int i = nextSetBit(incoming, 0); i >= 0; i = nextSetBit(incoming, i + 1)) {
+            Contact contact = contactsBook.get(i);
+            if (contact != null) {
+                result.add(contact);
+            }
+        }
+        return result;
+    }
+
+    // RETURN ONE CELL OF THE ADJACENCY MATRIX
+    /**
+     * Getter for a single cell of the Adjacency Matrix.
+     * @param from Row index (from contact)
+     * @param to Column index (to contact)
+     * @return 1 if there is a connection from -> to, 0 otherwise
+     */
+    public byte getConnection(int from, int to) {
+        return getBit(matrix[from], to) ? (byte) 1 : (byte) 0;
+    }
+
+    // RETURN THE NUMBER OF CONTACTS
+    /**
+     * Getter for the number of contacts currently stored.
+     * @return the number of contacts
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    // RETURN THE MAX SIZE
+    /**
+     * Getter for the Max size
+     * @return the max size of the matrix in integer
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /*========================================================================*/
+    /*===== Traversal Management =============================================*/
+
+    // TRAVERSAL: BREADTH FIRST SEARCH
+    /**
+     * Breadth first search traversal that abides to one-way connections.
+     * @param startName The name of the contact to start from
+     */
+    public void bfsTraversal(String startName) {
+        int startIndex = searchIndexOfContact(startName);
+        if (startIndex == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        boolean[] visited = new boolean[maxSize];
+        int[] queue = new int[maxSize]; // Each index is enqueued at most once
+        int head = 0;
+        int tail = 0;
+        visited[startIndex] = true;
+        queue[tail++] = startIndex;
+
+        while (head < tail) {
+            int currentIndex = queue[head++];
+            printVisited(currentIndex);
+            for (int i = nextSetBit(matrix[currentIndex], 0); i >= 0; i = nextSetBit(matrix[currentIndex], i + 1)) {
+                if (!visited[i]) {
+                    visited[i] = true;
+                    queue[tail++] = i;
+                }
+            }
+        }
+    }
+
+    // TRAVERSAL: DEPTH FIRST SEARCH
+    /**
+     * Depth first search traversal that abides to one-way connections.
+     * Uses an explicit stack of (slot, next column) so long chains cannot overflow the call stack.
+     * @param startName The name of the contact to start from
+     */
+    public void dfsTraversal(String startName) {
+        int startIndex = searchIndexOfContact(startName);
+        if (startIndex == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        boolean[] visited = new boolean[maxSize];
+        int[] stackIndex = new int[maxSize];
+        int[] stackColumn = new int[maxSize]; // Next column to look at for the slot at the same depth
+        int depth = 0;
+        visited[startIndex] = true;
+        printVisited(startIndex);
+        stackIndex[0] = startIndex;
+        stackColumn[0] = 0;
+
+        while (depth >= 0) {
+            int index = stackIndex[depth];
+            int next = nextSetBit(matrix[index], stackColumn[depth]);
+            if (next < 0) { // All neighbors done
+                depth--;
+                continue;
+            }
+            stackColumn[depth] = next + 1;
+            if (!visited[next]) {
+                visited[next] = true;
+                printVisited(next);
+                depth++;
+                stackIndex[depth] = next;
+                stackColumn[depth] = 0;
+            }
+        }
+    }
+
+    private void printVisited(int index) {
+        Contact contact = contactsBook.get(index);
+        if (contact != null) { // Can be deleted while traversing
+            System.out.println("Visited:[ Name: " + contact.getName() + " | Student ID: " + contact.getStudentId() + " ]");
+        }
+    }
+}
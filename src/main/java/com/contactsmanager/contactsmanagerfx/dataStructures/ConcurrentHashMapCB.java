@@ -0,0 +1,228 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsEventSink;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is a thread-safe Contacts Book that is implemented using ConcurrentHashMap.
+ * Lookups never lock. Changes to one name run inside ConcurrentHashMap.compute, so the map
+ * and the secondary indexes are updated together for that name while other names proceed in parallel.
+ * Names are keyed normalized (trimmed, lowercase), like the graph books.
+ * CB stands for Contacts Book.
+ */
+public class ConcurrentHashMapCB implements ContactsManager {
+
+    private final ConcurrentHashMap<String, Contact> contacts;
+    private final ConcurrentSecondaryIndexes indexes = new ConcurrentSecondaryIndexes(); // Student ID, prefix and trigram indexes
+    private ContactsEventSink events = ContactsEventSink.NONE; // Where added/not found/... are reported
+
+    /**
+     * Constructs a new, empty thread-safe contact book.
+     */
+    public ConcurrentHashMapCB() {
+        this.contacts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEventSink(ContactsEventSink sink) {
+        this.events = sink;
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    // ADD NODE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        boolean[] added = {false};
+        contacts.compute(contact.getNormalizedName(), (key, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            indexes.add(contact);
+            added[0] = true;
+            return contact;
+        });
+        if (!added[0]) {
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // UPDATE CONTACT
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec When the name changes, the new name is claimed first and the old one released after,
+     * so two updates can never end with the same name; both names are visible for a moment in between.
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        String oldKey = contact.getNormalizedName();
+        String newKey = Contact.normalize(newName);
+        Contact updated = new Contact(newName, newStudentId);
+        boolean[] done = {false};
+
+        if (oldKey.equals(newKey)) {
+            contacts.computeIfPresent(oldKey, (key, existing) -> {
+                indexes.replace(existing, updated);
+                done[0] = true;
+                return updated;
+            });
+            if (!done[0]) {
+                events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+                return OperationResult.failed(Outcome.NOT_FOUND);
+            }
+            events.onEvent(ContactsEvent.CONTACT_UPDATED, oldKey, newName);
+            return OperationResult.done(updated);
+        }
+
+        if (!contacts.containsKey(oldKey)) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        contacts.compute(newKey, (key, existing) -> { // Claim the new name
+            if (existing != null) {
+                return existing;
+            }
+            indexes.add(updated);
+            done[0] = true;
+            return updated;
+        });
+        if (!done[0]) {
+            events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+
+        boolean[] released = {false};
+        contacts.computeIfPresent(oldKey, (key, existing) -> { // Release the old name
+            indexes.remove(existing);
+            released[0] = true;
+            return null;
+        });
+        if (!released[0]) { // Deleted by someone else in between, undo the claim
+            contacts.computeIfPresent(newKey, (key, existing) -> {
+                if (existing != updated) {
+                    return existing;
+                }
+                indexes.remove(updated);
+                return null;
+            });
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        events.onEvent(ContactsEvent.CONTACT_UPDATED, oldKey, newName);
+        return OperationResult.done(updated);
+    }
+
+    // DELETE NODE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        Contact[] removed = {null};
+        contacts.computeIfPresent(Contact.normalize(name), (key, existing) -> {
+            indexes.remove(existing);
+            removed[0] = existing;
+            return null;
+        });
+        if (removed[0] == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+        return OperationResult.done(removed[0]);
+    }
+
+    // SEARCH NODE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Contact searchContact(String name) {
+        Contact result = contacts.get(Contact.normalize(name));
+        if (result == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+        }
+        return result;
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return indexes.byStudentId(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return indexes.byStudentIdRange(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return indexes.byPrefix(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return indexes.similar(name, limit);
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    // PRINT ALL CONTACTS
+    /**
+     * Print the contacts list on the terminal.
+     */
+    public void printContactsBook() {
+        for (Map.Entry<String, Contact> entry : contacts.entrySet()) {
+            Contact contact = entry.getValue();
+            System.out.println("Name: " + contact.getName() + " | Student ID: " + contact.getStudentId());
+        }
+    }
+
+    // RETURN ALL CONTACTS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Weakly consistent: contacts changed while listing may or may not be included.
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        return new ArrayList<>(contacts.values());
+    }
+}
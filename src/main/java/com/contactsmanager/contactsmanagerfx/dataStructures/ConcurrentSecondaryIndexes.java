@@ -0,0 +1,89 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The student ID, prefix and trigram indexes bundled for the concurrent contacts books.
+ * StudentIdIndex and NameNGramIndex are not thread-safe, so they are guarded by a read-write lock:
+ * lookups share the read lock, changes take the write lock. NamePrefixIndex is already a
+ * concurrent skip list and is read without locking.
+ */
+final class ConcurrentSecondaryIndexes {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final StudentIdIndex studentIdIndex = new StudentIdIndex();
+    private final NameNGramIndex ngramIndex = new NameNGramIndex();
+    private final NamePrefixIndex prefixIndex = new NamePrefixIndex();
+
+    void add(Contact contact) {
+        lock.writeLock().lock();
+        try {
+            studentIdIndex.add(contact);
+            ngramIndex.add(contact);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        prefixIndex.add(contact);
+    }
+
+    void remove(Contact contact) {
+        prefixIndex.remove(contact);
+        lock.writeLock().lock();
+        try {
+            studentIdIndex.remove(contact);
+            ngramIndex.remove(contact);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replace(Contact oldContact, Contact newContact) {
+        prefixIndex.remove(oldContact);
+        lock.writeLock().lock();
+        try {
+            studentIdIndex.remove(oldContact);
+            ngramIndex.remove(oldContact);
+            studentIdIndex.add(newContact);
+            ngramIndex.add(newContact);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        prefixIndex.add(newContact);
+    }
+
+    List<Contact> byStudentId(int studentId) {
+        lock.readLock().lock();
+        try {
+            return studentIdIndex.get(studentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Contact> byStudentIdRange(int fromId, int toId) {
+        lock.readLock().lock();
+        try {
+            synchronized (studentIdIndex) { // range() rebuilds its sorted copy lazily, so readers take turns
+                return studentIdIndex.range(fromId, toId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Contact> byPrefix(String prefix, int limit) {
+        return prefixIndex.startingWith(prefix, limit);
+    }
+
+    List<Contact> similar(String name, int limit) {
+        lock.readLock().lock();
+        try {
+            return ngramIndex.closest(name, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.Arrays;
+
+/**
+ * Dense int ids for the contacts one search of a graph book touches, handed out on first sight (0, 1, 2, ...).
+ * Lets books without slot ids (the adjacency list) keep search state in int arrays instead of maps.
+ * An open-addressing table with primitive values: keys are the book's own Contact objects, compared by identity,
+ * and hashed by their cached hashCode(), so a lookup neither boxes nor compares names.
+ */
+final class ContactIds {
+    private Contact[] keys = new Contact[64];
+    private int[] ids = new int[64];
+    private Contact[] contacts = new Contact[32]; // Id -> contact
+    private int size = 0;
+
+    /**
+     * Gets the id of a contact, handing out the next one if it has none yet.
+     * @param contact The contact, one of the book's own objects
+     * @return Its id; equal to size() - 1 if it was new
+     */
+    int add(Contact contact) {
+        int mask = keys.length - 1;
+        int i = mix(contact.hashCode()) & mask;
+        while (keys[i] != null) {
+            if (keys[i] == contact) {
+                return ids[i];
+            }
+            i = (i + 1) & mask; // Linear probing
+        }
+        keys[i] = contact;
+        ids[i] = size;
+        if (size == contacts.length) {
+            contacts = Arrays.copyOf(contacts, size * 2);
+        }
+        contacts[size] = contact;
+        if (++size > keys.length / 2) {
+            grow();
+        }
+        return size - 1;
+    }
+
+    Contact contact(int id) {
+        return contacts[id];
+    }
+
+    int size() {
+        return size;
+    }
+
+    // HELPER FUNCTION: DOUBLE THE TABLE AND REHASH
+    private void grow() {
+        keys = new Contact[keys.length * 2];
+        ids = new int[keys.length];
+        int mask = keys.length - 1;
+        for (int id = 0; id < size; id++) {
+            int i = mix(contacts[id].hashCode()) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = contacts[id];
+            ids[i] = id;
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16); // Spread the high bits over the low ones the mask keeps
+    }
+}
@@ -0,0 +1,551 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is a read-only Contacts Book that is implemented using a Graph in Compressed Sparse Row (CSR) form.
+ * It is frozen from an AdjacencyListGraphCB or AdjacencyMatrixGraphCB and never changes afterwards.
+ * Neighbors of node i are targets[offsets[i]] .. targets[offsets[i + 1] - 1], so reads walk
+ * contiguous int arrays instead of linked nodes.
+ * CB stands for Contacts Book.
+ *
+ * Mutating operations are rejected with a message, like other failed operations in the contacts books.
+ */
+public class CsrGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
+
+    final Contact[] contacts; // Node id -> contact
+    final int[] offsets; // Node id -> start of its neighbors in targets, length = nodes + 1
+    final int[] targets; // Neighbor node ids, grouped by source node
+    private final Map<String, Integer> nameIndex; // Normalized name -> node id
+    private final StudentIdIndex studentIdIndex = new StudentIdIndex(); // Student ID -> contacts
+    private final NamePrefixIndex prefixIndex = new NamePrefixIndex(); // Sorted normalized names, for autocomplete
+    private final NameNGramIndex ngramIndex = new NameNGramIndex(); // Name trigrams, for typo-tolerant search
+
+    private CsrGraphCB(Contact[] contacts, int[] offsets, int[] targets, boolean directed) {
+        super(directed);
+        this.contacts = contacts;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.nameIndex = new HashMap<>(contacts.length * 4 / 3 + 1);
+        for (int i = 0; i < contacts.length; i++) {
+            nameIndex.put(contacts[i].getNormalizedName(), i);
+            studentIdIndex.add(contacts[i]);
+            prefixIndex.add(contacts[i]);
+            ngramIndex.add(contacts[i]);
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Freezing =========================================================*/
+
+    // FREEZE FROM ADJACENCY LIST
+    /**
+     * Builds a CSR snapshot of an adjacency list graph.
+     * @param graph The graph to freeze
+     * @return The read-only snapshot
+     */
+    public static CsrGraphCB freeze(AdjacencyListGraphCB graph) {
+        Map<Contact, Collection<Contact>> adj = graph.getAdjacencyList();
+        Contact[] contacts = adj.keySet().toArray(new Contact[0]);
+        Map<Contact, Integer> idOf = new HashMap<>(contacts.length * 4 / 3 + 1);
+        for (int i = 0; i < contacts.length; i++) {
+            idOf.put(contacts[i], i);
+        }
+
+        int[] offsets = new int[contacts.length + 1];
+        for (int i = 0; i < contacts.length; i++) {
+            offsets[i + 1] = offsets[i] + adj.get(contacts[i]).size();
+        }
+        int[] targets = new int[offsets[contacts.length]];
+        for (int i = 0; i < contacts.length; i++) {
+            int next = offsets[i];
+            for (Contact neighbor : adj.get(contacts[i])) {
+                targets[next++] = idOf.get(neighbor);
+            }
+        }
+        return new CsrGraphCB(contacts, offsets, targets, graph.isDirected());
+    }
+
+    // BUILD FROM CSR ARRAYS
+    /**
+     * Builds a read-only graph from arrays that are already in CSR form, e.g. decoded from a snapshot file.
+     * The arrays are taken over, not copied, and must not be changed afterwards.
+     * @param contacts Node id -> contact
+     * @param offsets Node id -> start of its neighbors in targets, length = nodes + 1
+     * @param targets Neighbor node ids, grouped by source node
+     * @param directed Directed graph or not (undirected connections are stored in both directions)
+     * @return The read-only graph
+     * @throws IllegalArgumentException if the offsets or targets do not describe a graph over the contacts
+     */
+    public static CsrGraphCB of(Contact[] contacts, int[] offsets, int[] targets, boolean directed) {
+        if (offsets.length != contacts.length + 1 || offsets[0] != 0 || offsets[contacts.length] != targets.length) {
+            throw new IllegalArgumentException("Offsets do not match " + contacts.length + " nodes and " + targets.length + " targets");
+        }
+        for (int i = 0; i < contacts.length; i++) {
+            if (offsets[i] > offsets[i + 1]) {
+                throw new IllegalArgumentException("Offsets decrease at node " + i);
+            }
+        }
+        for (int target : targets) {
+            if (target < 0 || target >= contacts.length) {
+                throw new IllegalArgumentException("Target out of range: " + target);
+            }
+        }
+        return new CsrGraphCB(contacts, offsets, targets, directed);
+    }
+
+    // FREEZE FROM ADJACENCY MATRIX
+    /**
+     * Builds a CSR snapshot of an adjacency matrix graph. Empty slots are dropped, so node ids are dense.
+     * @param graph The graph to freeze
+     * @return The read-only snapshot
+     */
+    public static CsrGraphCB freeze(AdjacencyMatrixGraphCB graph) {
+        Contact[] book = graph.contactsBook;
+        int[] idOfSlot = new int[book.length];
+        Contact[] contacts = new Contact[graph.size];
+        int nodes = 0;
+        for (int slot = 0; slot < book.length; slot++) {
+            if (book[slot] != null) {
+                idOfSlot[slot] = nodes;
+                contacts[nodes++] = book[slot];
+            }
+        }
+
+        BitMatrix matrix = graph.matrix;
+        int[] offsets = new int[nodes + 1];
+        for (int slot = 0, id = 0; slot < book.length; slot++) {
+            if (book[slot] != null) {
+                offsets[id + 1] = offsets[id] + matrix.cardinality(slot);
+                id++;
+            }
+        }
+        int[] targets = new int[offsets[nodes]];
+        int next = 0;
+        for (int slot = 0; slot < book.length; slot++) {
+            if (book[slot] == null) {
+                continue;
+            }
+            for (int j = matrix.nextSetBit(slot, 0); j >= 0; j = matrix.nextSetBit(slot, j + 1)) {
+                targets[next++] = idOfSlot[j];
+            }
+        }
+        return new CsrGraphCB(contacts, offsets, targets, graph.isDirected());
+    }
+
+    /*========================================================================*/
+    /*===== Abstract Methods Implementation ==================================*/
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean connectionExists(String contact1, String contact2) {
+        int from = searchIdOfContact(contact1);
+        int to = searchIdOfContact(contact2);
+        if (from == -1 || to == -1) {
+            return false;
+        }
+        for (int e = offsets[from]; e < offsets[from + 1]; e++) {
+            if (targets[e] == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Contact[] getContactPair(String contact1Name, String contact2Name) {
+        int id1 = searchIdOfContact(contact1Name);
+        int id2 = searchIdOfContact(contact2Name);
+        if (id1 == -1 || id2 == -1) {
+            return null;
+        }
+        return new Contact[]{contacts[id1], contacts[id2]};
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, the contact is not added.
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        return reportReadOnly("add contact", contact.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, none of the contacts are added.
+     */
+    @Override
+    public int addContacts(Collection<Contact> contacts) {
+        reportReadOnly("add contacts", contacts.size());
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, the contact is not updated.
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        return reportReadOnly("update contact", contact.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, the contact is not deleted.
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        return reportReadOnly("delete contact", name);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, none of the contacts are deleted.
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        reportReadOnly("delete contacts", names.size());
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the name up in the normalized name index (case-insensitive, trimmed).
+     */
+    @Override
+    public Contact searchContact(String name) {
+        int id = searchIdOfContact(name);
+        if (id == -1) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return null;
+        }
+        return contacts[id];
+    }
+
+    // HELPER FUNCTION: INTERNALLY SEARCH NODE ID BY NAME
+    private int searchIdOfContact(String name) {
+        Integer id = nameIndex.get(normalizeName(name));
+        return id == null ? -1 : id;
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the ID up in the student ID index instead of scanning every contact.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return studentIdIndex.get(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Reads a slice of the student ID index's sorted copy, which is rebuilt only after changes.
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return studentIdIndex.range(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the sorted name index, so the cost depends on the number of results, not on the book size.
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return prefixIndex.startingWith(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Only contacts sharing trigrams with the name are considered, the best overlaps are re-ranked by edit distance.
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return ngramIndex.closest(name, limit);
+    }
+
+    private OperationResult reportReadOnly(String operation, Object subject) {
+        events.onEvent(ContactsEvent.READ_ONLY, operation, subject);
+        return OperationResult.failed(Outcome.READ_ONLY);
+    }
+
+    /*========================================================================*/
+    /*===== Connections Management ===========================================*/
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, the connection is not added.
+     */
+    @Override
+    public OperationResult addConnection(String contact1, String contact2) {
+        return reportReadOnly("add connection", contact1 + " -> " + contact2);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, none of the connections are added.
+     */
+    @Override
+    public int addConnections(Collection<String[]> pairs) {
+        reportReadOnly("add connections", pairs.size());
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The snapshot is read-only, the connection is not removed.
+     */
+    @Override
+    public OperationResult removeConnection(String contact1, String contact2) {
+        return reportReadOnly("remove connection", contact1 + " -> " + contact2);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Will not suggest the user itself or people already known. Will recommend the person's friends' friends.
+     * Nodes reached are numbered in a per-call table sized by the friends' degrees, so concurrent readers
+     * do not interfere and the work is O(sum of friend degrees), not O(V).
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIdOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        if (offsets[target] == offsets[target + 1]) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        ReachedNodes reached = reachedFrom(target); // Self, direct friends and already suggested
+        for (int e = offsets[target]; e < offsets[target + 1]; e++) {
+            int friend = targets[e];
+            for (int f = offsets[friend]; f < offsets[friend + 1]; f++) {
+                int potential = targets[f];
+                int next = reached.size();
+                if (reached.add(potential) == next) { // Reached for the first time
+                    recommendedContacts.add(contacts[potential]);
+                }
+            }
+        }
+
+        if (recommendedContacts.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks every friend's slice of targets once, in O(sum of friend degrees). Candidates are numbered
+     * in a per-call table sized by the friends' degrees and their counts kept in primitive arrays; degrees are
+     * offset differences.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIdOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        if (offsets[target] == offsets[target + 1]) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        ReachedNodes reached = reachedFrom(target);
+        int known = reached.size(); // Self and direct friends, numbered before any candidate
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (int e = offsets[target]; e < offsets[target + 1]; e++) {
+            int friend = targets[e];
+            int friendDegree = offsets[friend + 1] - offsets[friend];
+            for (int f = offsets[friend]; f < offsets[friend + 1]; f++) {
+                int next = reached.size();
+                int number = reached.add(targets[f]);
+                if (number == next) {
+                    ranking.add(friendDegree); // Candidate number - known, in step with the ranking's own numbers
+                } else if (number >= known) {
+                    ranking.reach(number - known, friendDegree);
+                }
+            }
+        }
+
+        int[] best = ranking.top(limit, offsets[target + 1] - offsets[target], c -> degreeOf(reached.node(c + known)),
+                (c1, c2) -> contacts[reached.node(c1 + known)].getNormalizedName()
+                        .compareTo(contacts[reached.node(c2 + known)].getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(contacts[reached.node(c + known)]);
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // HELPER FUNCTION: A TABLE FOR THE NODES A SUGGESTION QUERY REACHES, WITH SELF AND DIRECT FRIENDS NUMBERED FIRST
+    private ReachedNodes reachedFrom(int target) {
+        long bound = 1 + offsets[target + 1] - offsets[target];
+        for (int e = offsets[target]; e < offsets[target + 1]; e++) {
+            bound += degreeOf(targets[e]);
+        }
+        ReachedNodes reached = new ReachedNodes((int) Math.min(bound, contacts.length));
+        reached.add(target);
+        for (int e = offsets[target]; e < offsets[target + 1]; e++) {
+            reached.add(targets[e]);
+        }
+        return reached;
+    }
+
+    private int degreeOf(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        return new ArrayList<>(Arrays.asList(contacts));
+    }
+
+    /**
+     * Getter for the number of nodes.
+     * @return the number of contacts in the snapshot
+     */
+    public int getNodeCount() {
+        return contacts.length;
+    }
+
+    /**
+     * Getter for the number of stored (directed) edges. Undirected connections are stored in both directions.
+     * @return the length of the targets array
+     */
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    /*========================================================================*/
+    /*===== Traversal Management =============================================*/
+
+    // TRAVERSAL: BREADTH FIRST SEARCH
+    /**
+     * Breadth first search traversal that abides to one-way connections.
+     * @param contact The name of the contact to start from
+     */
+    public void bfsTraversal(String contact) {
+        int start = searchIdOfContact(contact);
+        if (start == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        boolean[] visited = new boolean[contacts.length];
+        int[] queue = new int[contacts.length]; // Each node is enqueued at most once
+        int head = 0;
+        int tail = 0;
+        visited[start] = true;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int current = queue[head++];
+            printVisited(current);
+            for (int e = offsets[current]; e < offsets[current + 1]; e++) {
+                int neighbor = targets[e];
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    // TRAVERSAL: DEPTH FIRST SEARCH
+    /**
+     * Depth first search traversal that abides to one-way connections.
+     * Uses an explicit stack of (node, next edge) so long chains cannot overflow the call stack.
+     * @param contact The name of the contact to start from
+     */
+    public void dfsTraversal(String contact) {
+        int start = searchIdOfContact(contact);
+        if (start == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        boolean[] visited = new boolean[contacts.length];
+        int[] stackNode = new int[contacts.length];
+        int[] stackEdge = new int[contacts.length]; // Next edge to look at for the node at the same depth
+        int depth = 0;
+        visited[start] = true;
+        printVisited(start);
+        stackNode[0] = start;
+        stackEdge[0] = offsets[start];
+
+        while (depth >= 0) {
+            int node = stackNode[depth];
+            if (stackEdge[depth] == offsets[node + 1]) { // All neighbors done
+                depth--;
+                continue;
+            }
+            int neighbor = targets[stackEdge[depth]++];
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                printVisited(neighbor);
+                depth++;
+                stackNode[depth] = neighbor;
+                stackEdge[depth] = offsets[neighbor];
+            }
+        }
+    }
+
+    private void printVisited(int id) {
+        System.out.println("Visited:[ Name: " + contacts[id].getName().trim() + " | Student ID: " + contacts[id].getStudentId() + " ]");
+    }
+}
@@ -1,9 +1,14 @@
 package com.contactsmanager.contactsmanagerfx.dataStructures;
 
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsEventSink;
 import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +20,11 @@ import java.util.Map;
  */
 public class HashMapCB implements ContactsManager {
 
-    private final Map<String, Contact> contacts;
+    private HashMap<String, Contact> contacts;
+    private final StudentIdIndex studentIdIndex = new StudentIdIndex(); // Student ID -> contacts
+    private final NamePrefixIndex prefixIndex = new NamePrefixIndex(); // Sorted normalized names, for autocomplete
+    private final NameNGramIndex ngramIndex = new NameNGramIndex(); // Name trigrams, for typo-tolerant search
+    private ContactsEventSink events = ContactsEventSink.NONE; // Where added/not found/... are reported
 
     /**
      * Constructs a new, empty HashMap-based contact book.
@@ -24,6 +33,14 @@ public class HashMapCB implements ContactsManager {
         this.contacts = new HashMap<>();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEventSink(ContactsEventSink sink) {
+        this.events = sink;
+    }
+
     /*========================================================================*/
     /*===== Contacts/Node Management =========================================*/
 
@@ -32,14 +49,46 @@ public class HashMapCB implements ContactsManager {
      * {@inheritDoc}
      */
     @Override
-    public void addContact(Contact contact) {
-        String key = contact.getName().toLowerCase(); // So it's just name in lowercase.
+    public OperationResult addContact(Contact contact) {
+        String key = contact.getNormalizedName(); // Trimmed, lowercase name, like the other books and the name indexes
         if (contacts.containsKey(key)) {
-            System.out.println("Contact with name '" + contact.getName() + "' already exists. Failed to put in contact.");
-            return;
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
         }
         contacts.put(key, contact); // Add contact
-        System.out.println("Added contact. Name: '" + contact.getName() + "' | Student ID: " + contact.getStudentId() +".");
+        studentIdIndex.add(contact);
+        prefixIndex.add(contact);
+        ngramIndex.add(contact);
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // ADD NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The map is sized once for the whole batch, and putIfAbsent checks and claims each name in one lookup.
+     */
+    @Override
+    public int addContacts(Collection<Contact> batch) {
+        if (batch.size() > contacts.size()) { // Copy into a map big enough for both, instead of doubling along the way
+            HashMap<String, Contact> sized = new HashMap<>((int) ((contacts.size() + batch.size()) / 0.75f) + 1);
+            sized.putAll(contacts);
+            contacts = sized;
+        }
+        studentIdIndex.ensureCapacity(batch.size());
+
+        int added = 0;
+        for (Contact contact : batch) {
+            if (contacts.putIfAbsent(contact.getNormalizedName(), contact) == null) {
+                studentIdIndex.add(contact);
+                prefixIndex.add(contact);
+                ngramIndex.add(contact);
+                added++;
+            }
+        }
+        events.onEvent(ContactsEvent.CONTACTS_ADDED, added, batch.size());
+        return added;
     }
 
     // UPDATE CONTACT
@@ -47,19 +96,30 @@ public class HashMapCB implements ContactsManager {
      * {@inheritDoc}
      */
     @Override
-    public void updateContact(Contact contact, String newName, int newStudentId) {
-        String oldKey = contact.getName().toLowerCase();
-        String newKey = newName.toLowerCase();
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        String oldKey = contact.getNormalizedName();
+        String newKey = Contact.normalize(newName);
 
         if (!contacts.containsKey(oldKey)) {
-            System.out.println("Failed to get contact. It doesn't exist.");
-            return;
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        if (!oldKey.equals(newKey) && contacts.containsKey(newKey)) { // Keep names unique
+            events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
         }
 
-        contacts.remove(oldKey);
+        Contact previous = contacts.remove(oldKey);
+        studentIdIndex.remove(previous);
+        prefixIndex.remove(previous);
+        ngramIndex.remove(previous);
         Contact updated = new Contact(newName, newStudentId);
         contacts.put(newKey, updated);
-        System.out.println("Updated contact: " + oldKey + " -> " + newName);
+        studentIdIndex.add(updated);
+        prefixIndex.add(updated);
+        ngramIndex.add(updated);
+        events.onEvent(ContactsEvent.CONTACT_UPDATED, oldKey, newName);
+        return OperationResult.done(updated);
     }
 
     // DELETE NODE
@@ -67,13 +127,38 @@ public class HashMapCB implements ContactsManager {
      * {@inheritDoc}
      */
     @Override
-    public void deleteContact(String name) {
-        String key = name.toLowerCase();
-        if (contacts.remove(key) != null) {
-            System.out.println("Deleted contact: " + name);
-        } else {
-            System.out.println("Contact not found: " + name);
+    public OperationResult deleteContact(String name) {
+        String key = Contact.normalize(name);
+        Contact removed = contacts.remove(key);
+        if (removed == null) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        studentIdIndex.remove(removed);
+        prefixIndex.remove(removed);
+        ngramIndex.remove(removed);
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+        return OperationResult.done(removed);
+    }
+
+    // DELETE NODES
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        int deleted = 0;
+        for (String name : names) {
+            Contact removed = contacts.remove(Contact.normalize(name));
+            if (removed != null) {
+                studentIdIndex.remove(removed);
+                prefixIndex.remove(removed);
+                ngramIndex.remove(removed);
+                deleted++;
+            }
         }
+        events.onEvent(ContactsEvent.CONTACTS_DELETED, deleted, null);
+        return deleted;
     }
 
 
@@ -84,16 +169,60 @@ public class HashMapCB implements ContactsManager {
      */
     @Override
     public Contact searchContact(String name) {
-        String key = name.toLowerCase();
+        String key = Contact.normalize(name);
         Contact result = contacts.get(key);
         if (result == null) {
-            System.out.println("Contact not found: " + name);
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
         }
         return result;
     }
 
 
 
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the ID up in the student ID index instead of scanning every contact.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return studentIdIndex.get(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Reads a slice of the student ID index's sorted copy, which is rebuilt only after changes.
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return studentIdIndex.range(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the sorted name index, so the cost depends on the number of results, not on the book size.
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return prefixIndex.startingWith(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Only contacts sharing trigrams with the name are considered, the best overlaps are re-ranked by edit distance.
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return ngramIndex.closest(name, limit);
+    }
+
     /*========================================================================*/
     /*===== Printing and Getters Management ==================================*/
 
@@ -0,0 +1,814 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This class is a Contacts Book that is implemented using Graph (made from an Adjacency List of primitive ints).
+ * Every contact gets a dense int id, and the neighbors of a contact are stored as ids in a growable int[].
+ * Connections therefore cost 4 bytes each and never hash or allocate a Contact or list node.
+ * Ids of deleted contacts are reused.
+ * Directed graphs also keep the incoming ids of every contact, so deletes only touch connected contacts.
+ * CB stands for Contacts Book.
+ *
+ * Extends AbstractGraphCB to inherit common graph functionality like
+ * directionality management, connection validation, and standardized messaging.
+ */
+public class IntAdjacencyListGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_DEGREE_CAPACITY = 4;
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private Contact[] contacts = new Contact[INITIAL_CAPACITY]; // Id -> contact, null for free ids
+    private int[][] neighbors = new int[INITIAL_CAPACITY][]; // Id -> neighbor ids, valid up to degree[id]
+    private int[] degree = new int[INITIAL_CAPACITY];
+    private int[][] inNeighbors; // Directed only: id -> ids with an edge to it, valid up to inDegree[id]
+    private int[] inDegree;
+    private HashMap<String, Integer> nameIndex = new HashMap<>(); // Normalized name -> id
+    private final StudentIdIndex studentIdIndex = new StudentIdIndex(); // Student ID -> contacts
+    private final NamePrefixIndex prefixIndex = new NamePrefixIndex(); // Sorted normalized names, for autocomplete
+    private final NameNGramIndex ngramIndex = new NameNGramIndex(); // Name trigrams, for typo-tolerant search
+    private int[] freeIds = new int[INITIAL_CAPACITY]; // Stack of ids released by deleteContact
+    private int freeCount = 0;
+    private int idLimit = 0; // Ids in use are all below this
+    private int size = 0;
+
+    private int[] marks = new int[INITIAL_CAPACITY]; // Scratch marks for suggestions and traversals
+    private int markStamp = 0;
+    private int[] candidateOf = new int[INITIAL_CAPACITY]; // Scratch candidate numbers, valid where marks hold the round's stamp
+
+    /**
+     * Constructs an undirected contact graph.
+     */
+    public IntAdjacencyListGraphCB() {
+        super(); // Default is undirected
+    }
+
+    /**
+     * Constructs a contact graph with directionality defined.
+     * @param directed Directed graph or not
+     */
+    public IntAdjacencyListGraphCB(boolean directed) {
+        super(directed);
+        if (directed) {
+            inNeighbors = new int[INITIAL_CAPACITY][];
+            inDegree = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Abstract Methods Implementation ==================================*/
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean connectionExists(String contact1, String contact2) {
+        int from = searchIdOfContact(contact1);
+        int to = searchIdOfContact(contact2);
+        return from != -1 && to != -1 && indexOfNeighbor(neighbors, degree, from, to) != -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Contact[] getContactPair(String contact1Name, String contact2Name) {
+        int id1 = searchIdOfContact(contact1Name);
+        int id2 = searchIdOfContact(contact2Name);
+        if (id1 == -1 || id2 == -1) {
+            return null;
+        }
+        return new Contact[]{contacts[id1], contacts[id2]};
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    // ADD NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Ensures no duplicate names (case-insensitive) exist before adding.
+     * The new contact gets a free id and an empty neighbor array.
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        String key = contact.getNormalizedName();
+        if (nameIndex.containsKey(key)) {
+            events.onEvent(ContactsEvent.CONTACT_EXISTS, contact.getName(), null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+
+        if (freeCount == 0 && idLimit == contacts.length) {
+            grow(idLimit * 2);
+        }
+        nameIndex.put(key, claimId(contact));
+        events.onEvent(ContactsEvent.CONTACT_ADDED, contact, null);
+        return OperationResult.done(contact);
+    }
+
+    // ADD NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The id-indexed arrays, the name index and the student ID index are sized once for the whole batch.
+     * Duplicate names are caught by the name index itself, in the same pass that adds the contacts.
+     */
+    @Override
+    public int addContacts(Collection<Contact> contacts) {
+        int needed = idLimit + Math.max(0, contacts.size() - freeCount);
+        if (needed > this.contacts.length) {
+            grow(Math.max(needed, this.contacts.length * 2));
+        }
+        nameIndex = withRoomFor(nameIndex, contacts.size());
+        studentIdIndex.ensureCapacity(contacts.size());
+
+        int added = 0;
+        for (Contact contact : contacts) {
+            String key = contact.getNormalizedName();
+            if (!nameIndex.containsKey(key)) {
+                nameIndex.put(key, claimId(contact));
+                added++;
+            }
+        }
+        events.onEvent(ContactsEvent.CONTACTS_ADDED, added, contacts.size());
+        return added;
+    }
+
+    // HELPER FUNCTION: GIVE A CONTACT A FREE ID (THERE MUST BE ROOM) AND INDEX IT, EXCEPT BY NAME
+    private int claimId(Contact contact) {
+        int id = freeCount > 0 ? freeIds[--freeCount] : idLimit++;
+        contacts[id] = contact;
+        neighbors[id] = NO_NEIGHBORS;
+        degree[id] = 0;
+        if (directed) {
+            inNeighbors[id] = NO_NEIGHBORS;
+            inDegree[id] = 0;
+        }
+        studentIdIndex.add(contact);
+        prefixIndex.add(contact);
+        ngramIndex.add(contact);
+        size++;
+        return id;
+    }
+
+    // HELPER FUNCTION: GROW THE ID-INDEXED ARRAYS
+    private void grow(int capacity) {
+        contacts = Arrays.copyOf(contacts, capacity);
+        neighbors = Arrays.copyOf(neighbors, capacity);
+        degree = Arrays.copyOf(degree, capacity);
+        freeIds = Arrays.copyOf(freeIds, capacity);
+        marks = Arrays.copyOf(marks, capacity);
+        candidateOf = Arrays.copyOf(candidateOf, capacity);
+        if (directed) {
+            inNeighbors = Arrays.copyOf(inNeighbors, capacity);
+            inDegree = Arrays.copyOf(inDegree, capacity);
+        }
+    }
+
+    // UPDATE CONTACT
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Connections are stored by id, so only the contact in the id slot and the name index change.
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        String oldKey = contact.getNormalizedName();
+        String newKey = normalizeName(newName);
+        int id = searchIdOfContact(contact.getName());
+        if (id == -1) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, contact.getName(), null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        if (!oldKey.equals(newKey) && nameIndex.containsKey(newKey)) { // Keep names unique
+            events.onEvent(ContactsEvent.CONTACT_NAME_TAKEN, newName, null);
+            return OperationResult.failed(Outcome.ALREADY_EXISTS);
+        }
+
+        Contact newContact = new Contact(newName, newStudentId);
+        studentIdIndex.remove(contacts[id]);
+        prefixIndex.remove(contacts[id]);
+        ngramIndex.remove(contacts[id]);
+        studentIdIndex.add(newContact);
+        prefixIndex.add(newContact);
+        ngramIndex.add(newContact);
+        contacts[id] = newContact;
+        nameIndex.remove(oldKey);
+        nameIndex.put(newKey, id);
+        return OperationResult.done(newContact);
+    }
+
+    // DELETE NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Deletes the contact and removes all associated edges, then frees its id.
+     * Only connected contacts are touched, found through the neighbors (undirected) or the incoming ids (directed).
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        int target = searchIdOfContact(name);
+        if (target == -1) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return OperationResult.failed(Outcome.NOT_FOUND);
+        }
+        Contact deleted = contacts[target];
+
+        if (!directed) {
+            int[] targetNeighbors = neighbors[target];
+            for (int e = 0; e < degree[target]; e++) {
+                if (targetNeighbors[e] != target) { // A self-connection would shrink the row being walked
+                    removeNeighbor(neighbors, degree, targetNeighbors[e], target);
+                }
+            }
+        } else {
+            int[] followers = inNeighbors[target];
+            for (int e = 0; e < inDegree[target]; e++) { // Remove edges to the contact
+                removeNeighbor(neighbors, degree, followers[e], target);
+            }
+            int[] targetNeighbors = neighbors[target];
+            for (int e = 0; e < degree[target]; e++) { // Forget the contact's own edges in the incoming ids
+                removeNeighbor(inNeighbors, inDegree, targetNeighbors[e], target);
+            }
+            inNeighbors[target] = null;
+            inDegree[target] = 0;
+        }
+        releaseId(target);
+        events.onEvent(ContactsEvent.CONTACT_DELETED, name, null);
+        return OperationResult.done(deleted);
+    }
+
+    // DELETE NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The deleted ids are marked first, then every row holding one of them is filtered once
+     * for the whole batch, instead of being searched once per deleted id it holds.
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        BitSet targets = new BitSet(idLimit);
+        for (String name : names) {
+            int id = searchIdOfContact(name);
+            if (id != -1) {
+                targets.set(id);
+            }
+        }
+
+        BitSet affected = new BitSet(idLimit); // Surviving ids whose rows hold a target
+        BitSet affectedIn = directed ? new BitSet(idLimit) : null; // Surviving ids whose incoming rows hold a target
+        for (int target = targets.nextSetBit(0); target >= 0; target = targets.nextSetBit(target + 1)) {
+            int[] row = directed ? inNeighbors[target] : neighbors[target];
+            int count = directed ? inDegree[target] : degree[target];
+            for (int e = 0; e < count; e++) {
+                affected.set(row[e]);
+            }
+            if (directed) {
+                for (int e = 0; e < degree[target]; e++) {
+                    affectedIn.set(neighbors[target][e]);
+                }
+            }
+        }
+        affected.andNot(targets);
+        for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1)) {
+            removeNeighbors(neighbors, degree, id, targets);
+        }
+        if (directed) {
+            affectedIn.andNot(targets);
+            for (int id = affectedIn.nextSetBit(0); id >= 0; id = affectedIn.nextSetBit(id + 1)) {
+                removeNeighbors(inNeighbors, inDegree, id, targets);
+            }
+        }
+
+        for (int target = targets.nextSetBit(0); target >= 0; target = targets.nextSetBit(target + 1)) {
+            if (directed) {
+                inNeighbors[target] = null;
+                inDegree[target] = 0;
+            }
+            releaseId(target);
+        }
+        events.onEvent(ContactsEvent.CONTACTS_DELETED, targets.cardinality(), null);
+        return targets.cardinality();
+    }
+
+    // HELPER FUNCTION: FORGET THE CONTACT OF AN ID WHOSE EDGES HAVE ALREADY BEEN REMOVED, AND FREE THE ID
+    private void releaseId(int target) {
+        nameIndex.remove(contacts[target].getNormalizedName());
+        studentIdIndex.remove(contacts[target]);
+        prefixIndex.remove(contacts[target]);
+        ngramIndex.remove(contacts[target]);
+        contacts[target] = null;
+        neighbors[target] = null;
+        degree[target] = 0;
+        freeIds[freeCount++] = target;
+        size--;
+    }
+
+    // SEARCH NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the name up in the normalized name index (case-insensitive, trimmed).
+     */
+    @Override
+    public Contact searchContact(String name) {
+        int id = searchIdOfContact(name);
+        if (id == -1) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return null;
+        }
+        return contacts[id];
+    }
+
+    // HELPER FUNCTION: INTERNALLY SEARCH ID BY NAME
+    private int searchIdOfContact(String name) {
+        Integer id = nameIndex.get(normalizeName(name));
+        return id == null ? -1 : id;
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Looks the ID up in the student ID index instead of scanning every contact.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return studentIdIndex.get(studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Reads a slice of the student ID index's sorted copy, which is rebuilt only after changes.
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        return studentIdIndex.range(fromId, toId);
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the sorted name index, so the cost depends on the number of results, not on the book size.
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return prefixIndex.startingWith(prefix, limit);
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Only contacts sharing trigrams with the name are considered, the best overlaps are re-ranked by edit distance.
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return ngramIndex.closest(name, limit);
+    }
+
+    /*========================================================================*/
+    /*===== Connections Management ===========================================*/
+
+    // ADD CONNECTION
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Adds a one-way or two-way connection depending on directionality.
+     * Prevents duplicate connections.
+     */
+    @Override
+    public OperationResult addConnection(String contact1, String contact2) {
+        if (!validateConnectionNames(contact1, contact2)) {
+            return OperationResult.failed(Outcome.INVALID);
+        }
+        int from = searchIdOfContact(contact1);
+        int to = searchIdOfContact(contact2);
+        if (from == -1 || to == -1) {
+            return reportContactsNotFound(contact1, contact2);
+        }
+        if (indexOfNeighbor(neighbors, degree, from, to) != -1) {
+            return reportConnectionExists(contact1, contact2);
+        }
+
+        appendNeighbor(neighbors, degree, from, to); // Add edge a->b
+        if (directed) {
+            appendNeighbor(inNeighbors, inDegree, to, from);
+        } else if (indexOfNeighbor(neighbors, degree, to, from) == -1) {
+            appendNeighbor(neighbors, degree, to, from); // Add edge b->a
+        }
+        reportConnectionAdded(contact1, contact2);
+        return OperationResult.done(contacts[from]);
+    }
+
+    // ADD CONNECTIONS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Edges are appended without searching the rows. Afterwards every row that grew is
+     * deduplicated once with the scratch marks, keeping the first copy of each neighbor, so the
+     * batch costs O(pairs + touched rows) instead of a row scan per pair.
+     * New connections are counted from what is left past each row's old degree.
+     */
+    @Override
+    public int addConnections(Collection<String[]> pairs) {
+        BitSet touched = new BitSet(idLimit); // Ids whose rows got appended to
+        int[] oldDegree = new int[idLimit]; // Degree of each touched id before the batch
+        for (String[] pair : pairs) {
+            int from = searchIdOfContact(pair[0]);
+            int to = searchIdOfContact(pair[1]);
+            if (from == -1 || to == -1) {
+                continue;
+            }
+            if (!touched.get(from)) {
+                oldDegree[from] = degree[from];
+                touched.set(from);
+            }
+            if (!touched.get(to)) {
+                oldDegree[to] = degree[to];
+                touched.set(to);
+            }
+            appendNeighbor(neighbors, degree, from, to);
+            if (directed) {
+                appendNeighbor(inNeighbors, inDegree, to, from);
+            } else {
+                appendNeighbor(neighbors, degree, to, from);
+            }
+        }
+        int added = 0;
+        for (int id = touched.nextSetBit(0); id >= 0; id = touched.nextSetBit(id + 1)) {
+            dedupeNeighbors(neighbors, degree, id);
+            if (directed) {
+                dedupeNeighbors(inNeighbors, inDegree, id);
+            }
+            for (int e = oldDegree[id]; e < degree[id]; e++) { // Dedupe keeps order, so new neighbors are at the end
+                if (directed || neighbors[id][e] >= id) { // Undirected connections are stored twice, count them once
+                    added++;
+                }
+            }
+        }
+        events.onEvent(ContactsEvent.CONNECTIONS_ADDED, added, pairs.size());
+        return added;
+    }
+
+    // DELETE CONNECTION
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Deletes a one-way or two-way connection depending on directionality.
+     */
+    @Override
+    public OperationResult removeConnection(String contact1, String contact2) {
+        int from = searchIdOfContact(contact1);
+        int to = searchIdOfContact(contact2);
+        if (from == -1 || to == -1) {
+            return reportContactsNotFound(contact1, contact2);
+        }
+        if (!removeNeighbor(neighbors, degree, from, to)) {
+            return reportConnectionNotFound(contact1, contact2);
+        }
+        if (!directed) {
+            removeNeighbor(neighbors, degree, to, from);
+        } else {
+            removeNeighbor(inNeighbors, inDegree, to, from);
+        }
+        return OperationResult.done(contacts[from]);
+    }
+
+    // HELPER FUNCTION: POSITION OF A NEIGHBOR IN A ROW, OR -1
+    // The rows/counts pair is either neighbors/degree or inNeighbors/inDegree.
+    private static int indexOfNeighbor(int[][] rows, int[] counts, int id, int neighbor) {
+        int[] row = rows[id];
+        for (int e = 0; e < counts[id]; e++) {
+            if (row[e] == neighbor) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    // HELPER FUNCTION: APPEND TO A ROW, DOUBLING IT WHEN FULL
+    private static void appendNeighbor(int[][] rows, int[] counts, int id, int neighbor) {
+        int[] row = rows[id];
+        if (counts[id] == row.length) {
+            row = Arrays.copyOf(row, Math.max(INITIAL_DEGREE_CAPACITY, row.length * 2));
+            rows[id] = row;
+        }
+        row[counts[id]++] = neighbor;
+    }
+
+    // HELPER FUNCTION: REMOVE FROM A ROW BY MOVING THE LAST NEIGHBOR INTO ITS PLACE
+    private static boolean removeNeighbor(int[][] rows, int[] counts, int id, int neighbor) {
+        int e = indexOfNeighbor(rows, counts, id, neighbor);
+        if (e == -1) {
+            return false;
+        }
+        int last = --counts[id];
+        rows[id][e] = rows[id][last];
+        return true;
+    }
+
+    // HELPER FUNCTION: REMOVE EVERY NEIGHBOR IN THE SET FROM A ROW IN ONE PASS, KEEPING THE ORDER OF THE REST
+    private static void removeNeighbors(int[][] rows, int[] counts, int id, BitSet removed) {
+        int[] row = rows[id];
+        int kept = 0;
+        for (int e = 0; e < counts[id]; e++) {
+            if (!removed.get(row[e])) {
+                row[kept++] = row[e];
+            }
+        }
+        counts[id] = kept;
+    }
+
+    // HELPER FUNCTION: DROP REPEATED NEIGHBORS FROM A ROW, KEEPING THE FIRST OF EACH
+    private void dedupeNeighbors(int[][] rows, int[] counts, int id) {
+        int stamp = nextMarkStamp();
+        int[] row = rows[id];
+        int kept = 0;
+        for (int e = 0; e < counts[id]; e++) {
+            if (marks[row[e]] != stamp) {
+                marks[row[e]] = stamp;
+                row[kept++] = row[e];
+            }
+        }
+        counts[id] = kept;
+    }
+
+    // HELPER FUNCTION: START A NEW ROUND OF SCRATCH MARKS
+    private int nextMarkStamp() {
+        if (++markStamp == 0) { // Wrapped around, old marks could collide
+            Arrays.fill(marks, 0);
+            markStamp = 1;
+        }
+        return markStamp;
+    }
+
+    // SUGGEST CONTACTS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Will not suggest the user itself or people already known. Will recommend the person's friends' friends.
+     * Uses stamped scratch marks, so the only allocation is the result list.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIdOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        if (degree[target] == 0) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        int stamp = nextMarkStamp(); // Marks self, direct friends and already suggested
+        int[] direct = neighbors[target];
+        marks[target] = stamp;
+        for (int e = 0; e < degree[target]; e++) {
+            marks[direct[e]] = stamp;
+        }
+        for (int e = 0; e < degree[target]; e++) {
+            int friend = direct[e];
+            int[] friendsOfFriend = neighbors[friend];
+            for (int f = 0; f < degree[friend]; f++) {
+                int potential = friendsOfFriend[f];
+                if (marks[potential] != stamp) {
+                    marks[potential] = stamp;
+                    recommendedContacts.add(contacts[potential]);
+                }
+            }
+        }
+
+        if (recommendedContacts.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // SUGGEST CONTACTS, RANKED
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks every friend's neighbor array once, in O(sum of friend degrees). Candidates are numbered
+     * in the stamped scratch arrays and their counts kept in primitive arrays; degrees are read from the degree array.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIdOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        if (degree[target] == 0) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        int known = nextMarkStamp(); // Marks self and direct friends
+        int reached = nextMarkStamp(); // Marks candidates, numbered in candidateOf; taken before any mark is set
+        int[] direct = neighbors[target];
+        marks[target] = known;
+        for (int e = 0; e < degree[target]; e++) {
+            marks[direct[e]] = known;
+        }
+        int[] idOf = new int[16]; // Candidate number -> id
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (int e = 0; e < degree[target]; e++) {
+            int friend = direct[e];
+            int[] friendsOfFriend = neighbors[friend];
+            for (int f = 0; f < degree[friend]; f++) {
+                int potential = friendsOfFriend[f];
+                if (marks[potential] == known) {
+                    continue;
+                }
+                if (marks[potential] != reached) {
+                    int candidate = ranking.add(degree[friend]);
+                    if (candidate == idOf.length) {
+                        idOf = Arrays.copyOf(idOf, candidate * 2);
+                    }
+                    idOf[candidate] = potential;
+                    marks[potential] = reached;
+                    candidateOf[potential] = candidate;
+                } else {
+                    ranking.reach(candidateOf[potential], degree[friend]);
+                }
+            }
+        }
+
+        int[] ids = idOf;
+        int[] best = ranking.top(limit, degree[target], c -> degree[ids[c]],
+                (c1, c2) -> contacts[ids[c1]].getNormalizedName().compareTo(contacts[ids[c2]].getNormalizedName()));
+        for (int c : best) {
+            recommendedContacts.add(contacts[ids[c]]);
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    // PRINT ALL CONTACTS
+    /**
+     * Print the contacts list on the terminal.
+     */
+    public void printContactsBook() {
+        for (int id = 0; id < idLimit; id++) {
+            if (contacts[id] == null) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(contacts[id] + ": [");
+            for (int e = 0; e < degree[id]; e++) {
+                line.append(e == 0 ? "" : ", ").append(contacts[neighbors[id][e]]);
+            }
+            System.out.println(line.append("]"));
+        }
+    }
+
+    // RETURN ALL CONTACTS
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        List<Contact> allContacts = new ArrayList<>(size);
+        for (int id = 0; id < idLimit; id++) {
+            if (contacts[id] != null) {
+                allContacts.add(contacts[id]);
+            }
+        }
+        return allContacts;
+    }
+
+    // RETURN NUMBER OF CONNECTIONS
+    /**
+     * Getter for the number of connections going out of a contact.
+     * @param name The name of the contact
+     * @return the degree of the contact, or -1 if not found
+     */
+    public int getDegree(String name) {
+        int id = searchIdOfContact(name);
+        return id == -1 ? -1 : degree[id];
+    }
+
+    // RETURN INCOMING CONNECTIONS
+    /**
+     * Getter for the contacts that have a connection to the given contact ("who follows X").
+     * Uses the incoming ids in directed mode; in undirected mode this is the contact's own connections.
+     * @param name The name of the contact
+     * @return List of contacts connected to it, empty if the contact is not found
+     */
+    public List<Contact> getIncomingConnections(String name) {
+        List<Contact> result = new ArrayList<>();
+        int id = searchIdOfContact(name);
+        if (id == -1) {
+            return result;
+        }
+        int[] row = directed ? inNeighbors[id] : neighbors[id];
+        int count = directed ? inDegree[id] : degree[id];
+        for (int e = 0; e < count; e++) {
+            result.add(contacts[row[e]]);
+        }
+        return result;
+    }
+
+    /*========================================================================*/
+    /*===== Traversal Management =============================================*/
+
+    // TRAVERSAL: BREADTH FIRST SEARCH
+    /**
+     * Breadth first search traversal that abides to one-way connections.
+     * @param contact The name of the contact to start from
+     */
+    public void bfsTraversal(String contact) {
+        int start = searchIdOfContact(contact);
+        if (start == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        int stamp = nextMarkStamp(); // Marks visited ids
+        int[] queue = new int[size]; // Each id is enqueued at most once
+        int head = 0;
+        int tail = 0;
+        marks[start] = stamp;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int current = queue[head++];
+            printVisited(current);
+            for (int e = 0; e < degree[current]; e++) {
+                int neighbor = neighbors[current][e];
+                if (marks[neighbor] != stamp) {
+                    marks[neighbor] = stamp;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    // TRAVERSAL: DEPTH FIRST SEARCH
+    /**
+     * Depth first search traversal that abides to one-way connections.
+     * Uses an explicit stack of (id, next edge) so long chains cannot overflow the call stack.
+     * @param contact The name of the contact to start from
+     */
+    public void dfsTraversal(String contact) {
+        int start = searchIdOfContact(contact);
+        if (start == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        int stamp = nextMarkStamp(); // Marks visited ids
+        int[] stackId = new int[size];
+        int[] stackEdge = new int[size]; // Next edge to look at for the id at the same depth
+        int depth = 0;
+        marks[start] = stamp;
+        printVisited(start);
+        stackId[0] = start;
+        stackEdge[0] = 0;
+
+        while (depth >= 0) {
+            int id = stackId[depth];
+            if (stackEdge[depth] == degree[id]) { // All neighbors done
+                depth--;
+                continue;
+            }
+            int neighbor = neighbors[id][stackEdge[depth]++];
+            if (marks[neighbor] != stamp) {
+                marks[neighbor] = stamp;
+                printVisited(neighbor);
+                depth++;
+                stackId[depth] = neighbor;
+                stackEdge[depth] = 0;
+            }
+        }
+    }
+
+    private void printVisited(int id) {
+        System.out.println("Visited:[ Name: " + contacts[id].getName().trim() + " | Student ID: " + contacts[id].getStudentId() + " ]");
+    }
+}
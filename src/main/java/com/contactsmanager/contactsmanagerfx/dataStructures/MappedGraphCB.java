@@ -0,0 +1,744 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import com.contactsmanager.contactsmanagerfx.persistence.AtomicFiles;
+import com.contactsmanager.contactsmanagerfx.persistence.ChannelOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class is a read-only Contacts Book that is implemented using a Graph in CSR form kept in a memory-mapped file.
+ * Nothing but the header is loaded: lookups, suggestions and traversals read the mapping directly, so the graph
+ * can be bigger than the heap and opening it is instant (pages come from the OS page cache as they are touched).
+ * Contact objects are created on demand when a result is returned.
+ * CB stands for Contacts Book.
+ * <p>
+ * File layout (big-endian, every section follows the previous one):
+ * <pre>
+ * [int magic][int flags][int nodes][int reserved][long edges][long name bytes]
+ * long offsets[nodes + 1]        node id -> start of its neighbors in targets
+ * long nameOffsets[nodes + 1]    node id -> start of its name in names
+ * int targets[edges]             neighbor node ids, grouped by source node, sorted
+ * int studentIds[nodes]          node id -> student ID
+ * int byName[nodes]              node ids sorted by normalized name
+ * int byStudentId[nodes]         node ids sorted by student ID
+ * byte names[name bytes]         UTF-8 names
+ * </pre>
+ * Such a file is written once from a CsrGraphCB (e.g. one loaded from a ContactsSnapshot) with write().
+ * Mutating operations are rejected with a message, like other failed operations in the contacts books.
+ */
+public class MappedGraphCB extends AbstractGraphCB implements ContactsManager, ConnectionsManager {
+
+    private static final int MAGIC = 0x43424D31; // "CBM1": contacts book mapped graph, format version 1
+    private static final int HEADER_SIZE = 32;
+    private static final int DIRECTED = 1;
+    private static final int CHUNK_SHIFT = 30; // Sections are mapped in 1 GiB chunks, a MappedByteBuffer holds at most 2 GiB
+    private static final int SIMILAR_WINDOW = 8; // Names looked at on each side of the query, per requested result
+
+    private final int nodes;
+    private final long edges;
+    private final Region offsets;
+    private final Region nameOffsets;
+    private final Region targets;
+    private final Region studentIds;
+    private final Region byName;
+    private final Region byStudentId;
+    private final Region names;
+
+    private MappedGraphCB(FileChannel channel, boolean directed, int nodes, long edges, long nameBytes) throws IOException {
+        super(directed);
+        this.nodes = nodes;
+        this.edges = edges;
+        long position = HEADER_SIZE;
+        offsets = new Region(channel, position, 8L * (nodes + 1));
+        nameOffsets = new Region(channel, position += offsets.size, 8L * (nodes + 1));
+        targets = new Region(channel, position += nameOffsets.size, 4L * edges);
+        studentIds = new Region(channel, position += targets.size, 4L * nodes);
+        byName = new Region(channel, position += studentIds.size, 4L * nodes);
+        byStudentId = new Region(channel, position += byName.size, 4L * nodes);
+        names = new Region(channel, position += byStudentId.size, nameBytes);
+    }
+
+    /*========================================================================*/
+    /*===== Opening and Writing ==============================================*/
+
+    // OPEN A MAPPED GRAPH
+    /**
+     * Maps a graph file written by write(). The file can be closed by the OS as soon as this returns,
+     * the mapping stays valid until the graph is garbage collected.
+     * @param path The graph file
+     * @return The read-only graph
+     * @throws IOException if the file cannot be read, or is not a mapped graph
+     */
+    public static MappedGraphCB open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+                throw new IOException("Not a mapped contacts graph");
+            }
+            boolean directed = (header.getInt(4) & DIRECTED) != 0;
+            int nodes = header.getInt(8);
+            long edges = header.getLong(16);
+            long nameBytes = header.getLong(24);
+            if (nodes < 0 || edges < 0 || nameBytes < 0
+                    || channel.size() != HEADER_SIZE + 16L * (nodes + 1) + 4L * edges + 12L * nodes + nameBytes) {
+                throw new IOException("Mapped contacts graph is cut short or corrupt");
+            }
+            return new MappedGraphCB(channel, directed, nodes, edges, nameBytes);
+        }
+    }
+
+    // WRITE A MAPPED GRAPH
+    /**
+     * Writes a read-only graph into the file layout of this class, replacing the file only once it is complete.
+     * @param path The graph file
+     * @param graph The graph to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, CsrGraphCB graph) throws IOException {
+        Contact[] contacts = graph.contacts;
+        int n = contacts.length;
+        byte[][] nameBytes = new byte[n][];
+        long nameBytesTotal = 0;
+        for (int i = 0; i < n; i++) {
+            nameBytes[i] = contacts[i].getName().getBytes(StandardCharsets.UTF_8);
+            nameBytesTotal += nameBytes[i].length;
+        }
+        long totalNameBytes = nameBytesTotal;
+        Integer[] byNameOrder = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byNameOrder[i] = i;
+        }
+        Integer[] byStudentIdOrder = byNameOrder.clone();
+        Arrays.sort(byNameOrder, Comparator.comparing(id -> contacts[id].getNormalizedName()));
+        Arrays.sort(byStudentIdOrder, Comparator.comparingInt(id -> contacts[id].getStudentId())); // Stable, ties by id
+
+        AtomicFiles.replace(path, channel -> {
+            ChannelOutput out = new ChannelOutput(channel, 1 << 20);
+            out.putInt(MAGIC);
+            out.putInt(graph.isDirected() ? DIRECTED : 0);
+            out.putInt(n);
+            out.putInt(0);
+            out.putLong(graph.targets.length);
+            out.putLong(totalNameBytes);
+            for (int i = 0; i <= n; i++) {
+                out.putLong(graph.offsets[i]);
+            }
+            long nameOffset = 0;
+            for (int i = 0; i <= n; i++) {
+                out.putLong(nameOffset);
+                nameOffset += i < n ? nameBytes[i].length : 0;
+            }
+            for (int i = 0; i < n; i++) {
+                int[] row = Arrays.copyOfRange(graph.targets, graph.offsets[i], graph.offsets[i + 1]);
+                Arrays.sort(row); // Sorted rows let connection checks binary search
+                for (int target : row) {
+                    out.putInt(target);
+                }
+            }
+            for (Contact contact : contacts) {
+                out.putInt(contact.getStudentId());
+            }
+            for (int id : byNameOrder) {
+                out.putInt(id);
+            }
+            for (int id : byStudentIdOrder) {
+                out.putInt(id);
+            }
+            for (byte[] name : nameBytes) {
+                out.putBytes(name);
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * One section of the file, mapped in chunks so it can be larger than a single MappedByteBuffer.
+     * Chunks are a multiple of 8 bytes, so an int or a long never spans two of them.
+     */
+    private static final class Region {
+        private static final long MASK = (1L << CHUNK_SHIFT) - 1;
+
+        private final long size;
+        private final MappedByteBuffer[] chunks;
+
+        private Region(FileChannel channel, long position, long size) throws IOException {
+            this.size = size;
+            this.chunks = new MappedByteBuffer[(int) ((size + MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + start, Math.min(MASK + 1, size - start));
+            }
+        }
+
+        private int getInt(long index) {
+            long at = index << 2;
+            return chunks[(int) (at >>> CHUNK_SHIFT)].getInt((int) (at & MASK));
+        }
+
+        private long getLong(long index) {
+            long at = index << 3;
+            return chunks[(int) (at >>> CHUNK_SHIFT)].getLong((int) (at & MASK));
+        }
+
+        private byte[] getBytes(long from, int length) {
+            byte[] bytes = new byte[length];
+            int done = 0;
+            while (done < length) { // A name can span two chunks
+                long at = from + done;
+                MappedByteBuffer chunk = chunks[(int) (at >>> CHUNK_SHIFT)];
+                int offset = (int) (at & MASK);
+                int count = Math.min(length - done, chunk.capacity() - offset);
+                chunk.get(offset, bytes, done, count);
+                done += count;
+            }
+            return bytes;
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Reading the Mapping ==============================================*/
+
+    private String nameOf(int id) {
+        long from = nameOffsets.getLong(id);
+        return new String(names.getBytes(from, (int) (nameOffsets.getLong(id + 1) - from)), StandardCharsets.UTF_8);
+    }
+
+    private Contact contactOf(int id) {
+        return new Contact(nameOf(id), studentIds.getInt(id));
+    }
+
+    // HELPER FUNCTION: FIRST POSITION IN byName WHOSE NORMALIZED NAME IS AT OR AFTER key
+    private int lowerBoundByName(String key) {
+        int low = 0;
+        int high = nodes;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (normalizeName(nameOf(byName.getInt(mid))).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // HELPER FUNCTION: FIRST POSITION IN byStudentId WHOSE STUDENT ID IS AT OR AFTER studentId
+    private int lowerBoundByStudentId(int studentId) {
+        int low = 0;
+        int high = nodes;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (studentIds.getInt(byStudentId.getInt(mid)) < studentId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // HELPER FUNCTION: INTERNALLY SEARCH NODE ID BY NAME
+    private int searchIdOfContact(String name) {
+        String key = normalizeName(name);
+        if (key == null) {
+            return -1;
+        }
+        int position = lowerBoundByName(key);
+        if (position == nodes) {
+            return -1;
+        }
+        int id = byName.getInt(position);
+        return normalizeName(nameOf(id)).equals(key) ? id : -1;
+    }
+
+    // HELPER FUNCTION: BINARY SEARCH A SORTED ROW
+    private boolean hasEdge(int from, int to) {
+        long low = offsets.getLong(from);
+        long high = offsets.getLong(from + 1) - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int target = targets.getInt(mid);
+            if (target < to) {
+                low = mid + 1;
+            } else if (target > to) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*========================================================================*/
+    /*===== Abstract Methods Implementation ==================================*/
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean connectionExists(String contact1, String contact2) {
+        int from = searchIdOfContact(contact1);
+        int to = searchIdOfContact(contact2);
+        return from != -1 && to != -1 && hasEdge(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Contact[] getContactPair(String contact1Name, String contact2Name) {
+        int id1 = searchIdOfContact(contact1Name);
+        int id2 = searchIdOfContact(contact2Name);
+        if (id1 == -1 || id2 == -1) {
+            return null;
+        }
+        return new Contact[]{contactOf(id1), contactOf(id2)};
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, the contact is not added.
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        return reportReadOnly("add contact", contact.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, none of the contacts are added.
+     */
+    @Override
+    public int addContacts(Collection<Contact> contacts) {
+        reportReadOnly("add contacts", contacts.size());
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, the contact is not updated.
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        return reportReadOnly("update contact", contact.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, the contact is not deleted.
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        return reportReadOnly("delete contact", name);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, none of the contacts are deleted.
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        reportReadOnly("delete contacts", names.size());
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Binary searches the file's sorted name table (case-insensitive, trimmed), O(log V) name reads.
+     */
+    @Override
+    public Contact searchContact(String name) {
+        int id = searchIdOfContact(name);
+        if (id == -1) {
+            events.onEvent(ContactsEvent.CONTACT_NOT_FOUND, name, null);
+            return null;
+        }
+        return contactOf(id);
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Binary searches the file's student ID table.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return searchByStudentIdRange(studentId, studentId);
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the file's student ID table and reads forward, O(log V + k).
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        List<Contact> result = new ArrayList<>();
+        if (fromId > toId) {
+            return result;
+        }
+        for (int position = lowerBoundByStudentId(fromId); position < nodes; position++) {
+            int id = byStudentId.getInt(position);
+            if (studentIds.getInt(id) > toId) {
+                break;
+            }
+            result.add(contactOf(id));
+        }
+        return result;
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Seeks into the file's sorted name table and reads forward, O(log V + k).
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        List<Contact> result = new ArrayList<>(Math.max(0, Math.min(limit, 16)));
+        String key = prefix == null ? "" : prefix.stripLeading().toLowerCase();
+        if (key.isEmpty() || limit <= 0) {
+            return result;
+        }
+        for (int position = lowerBoundByName(key); position < nodes && result.size() < limit; position++) {
+            int id = byName.getInt(position);
+            if (!normalizeName(nameOf(id)).startsWith(key)) {
+                break;
+            }
+            result.add(contactOf(id));
+        }
+        return result;
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec There is no trigram index in the file, so only the names sorted next to the query are
+     * ranked by edit distance: typos after the first letters are found, a wrong first letter usually is not.
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        List<Contact> result = new ArrayList<>();
+        String query = normalizeName(name);
+        if (query == null || query.isEmpty() || limit <= 0) {
+            return result;
+        }
+        int position = lowerBoundByName(query);
+        int window = (int) Math.min((long) limit * SIMILAR_WINDOW, nodes); // No overflow for huge limits
+        List<int[]> candidates = new ArrayList<>(); // {node id, edit distance}
+        for (int p = Math.max(0, position - window); p < Math.min(nodes, position + window); p++) {
+            int id = byName.getInt(p);
+            int distance = NameNGramIndex.editDistance(query, normalizeName(nameOf(id)));
+            if (distance <= Math.max(1, query.length() / 2)) { // Farther than that is not a typo
+                candidates.add(new int[]{id, distance});
+            }
+        }
+        candidates.sort(Comparator.comparingInt(c -> c[1])); // Stable, ties stay in name order
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            result.add(contactOf(candidates.get(i)[0]));
+        }
+        return result;
+    }
+
+    private OperationResult reportReadOnly(String operation, Object subject) {
+        events.onEvent(ContactsEvent.READ_ONLY, operation, subject);
+        return OperationResult.failed(Outcome.READ_ONLY);
+    }
+
+    /*========================================================================*/
+    /*===== Connections Management ===========================================*/
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, the connection is not added.
+     */
+    @Override
+    public OperationResult addConnection(String contact1, String contact2) {
+        return reportReadOnly("add connection", contact1 + " -> " + contact2);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, none of the connections are added.
+     */
+    @Override
+    public int addConnections(Collection<String[]> pairs) {
+        reportReadOnly("add connections", pairs.size());
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The mapped graph is read-only, the connection is not removed.
+     */
+    @Override
+    public OperationResult removeConnection(String contact1, String contact2) {
+        return reportReadOnly("remove connection", contact1 + " -> " + contact2);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Will not suggest the user itself or people already known. Will recommend the person's friends' friends.
+     * Marks are kept in a per-call primitive table sized by the friends' degrees, not by the graph, so the heap stays small.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIdOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        long start = offsets.getLong(target);
+        long end = offsets.getLong(target + 1);
+        if (start == end) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        ReachedNodes reached = reachedFrom(target); // Self, direct friends and already suggested
+        for (long e = start; e < end; e++) {
+            int friend = targets.getInt(e);
+            for (long f = offsets.getLong(friend), last = offsets.getLong(friend + 1); f < last; f++) {
+                int potential = targets.getInt(f);
+                int next = reached.size();
+                if (reached.add(potential) == next) { // Reached for the first time
+                    recommendedContacts.add(contactOf(potential));
+                }
+            }
+        }
+
+        if (recommendedContacts.isEmpty()) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Walks every friend's slice of targets once, in O(sum of friend degrees). Candidates are numbered
+     * in a per-call table sized by the friends' degrees and their counts kept in primitive arrays; degrees are
+     * offset differences. Names are read from the mapping only to break ties and for the contacts returned.
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        List<Contact> recommendedContacts = new ArrayList<>();
+        int target = searchIdOfContact(contact);
+        if (target == -1) {
+            reportContactNotFound(contact);
+            return recommendedContacts;
+        }
+        long start = offsets.getLong(target);
+        long end = offsets.getLong(target + 1);
+        if (start == end) {
+            reportNoConnections(contact);
+            return recommendedContacts;
+        }
+
+        ReachedNodes reached = reachedFrom(target);
+        int known = reached.size(); // Self and direct friends, numbered before any candidate
+        SuggestionRanking ranking = new SuggestionRanking(score);
+        for (long e = start; e < end; e++) {
+            int friend = targets.getInt(e);
+            int friendDegree = degreeOf(friend);
+            for (long f = offsets.getLong(friend), last = offsets.getLong(friend + 1); f < last; f++) {
+                int next = reached.size();
+                int number = reached.add(targets.getInt(f));
+                if (number == next) {
+                    ranking.add(friendDegree); // Candidate number - known, in step with the ranking's own numbers
+                } else if (number >= known) {
+                    ranking.reach(number - known, friendDegree);
+                }
+            }
+        }
+
+        int[] best = ranking.top(limit, (int) (end - start), c -> degreeOf(reached.node(c + known)),
+                (c1, c2) -> normalizeName(nameOf(reached.node(c1 + known))).compareTo(normalizeName(nameOf(reached.node(c2 + known)))));
+        for (int c : best) {
+            recommendedContacts.add(contactOf(reached.node(c + known)));
+        }
+        if (ranking.size() == 0) {
+            events.onEvent(ContactsEvent.NO_SUGGESTIONS, contact, null);
+        }
+        return recommendedContacts;
+    }
+
+    // HELPER FUNCTION: A TABLE FOR THE NODES A SUGGESTION QUERY REACHES, WITH SELF AND DIRECT FRIENDS NUMBERED FIRST
+    private ReachedNodes reachedFrom(int target) {
+        long start = offsets.getLong(target);
+        long end = offsets.getLong(target + 1);
+        long bound = 1 + end - start;
+        for (long e = start; e < end; e++) {
+            bound += degreeOf(targets.getInt(e));
+        }
+        ReachedNodes reached = new ReachedNodes((int) Math.min(bound, nodes));
+        reached.add(target);
+        for (long e = start; e < end; e++) {
+            reached.add(targets.getInt(e));
+        }
+        return reached;
+    }
+
+    // HELPER FUNCTION: NUMBER OF CONNECTIONS GOING OUT OF A NODE, FROM ITS OFFSETS
+    private int degreeOf(int id) {
+        return (int) (offsets.getLong(id + 1) - offsets.getLong(id));
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Creates every contact on the heap, avoid it on graphs larger than the heap.
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        List<Contact> result = new ArrayList<>(nodes);
+        for (int id = 0; id < nodes; id++) {
+            result.add(contactOf(id));
+        }
+        return result;
+    }
+
+    /**
+     * Getter for the number of nodes.
+     * @return the number of contacts in the file
+     */
+    public int getNodeCount() {
+        return nodes;
+    }
+
+    /**
+     * Getter for the number of stored (directed) edges. Undirected connections are stored in both directions.
+     * @return the length of the targets section
+     */
+    public long getEdgeCount() {
+        return edges;
+    }
+
+    /*========================================================================*/
+    /*===== Traversal Management =============================================*/
+
+    // TRAVERSAL: BREADTH FIRST SEARCH
+    /**
+     * Breadth first search traversal that abides to one-way connections.
+     * Visited nodes are kept in a bit set and the queue grows with the nodes reached, not with the graph.
+     * @param contact The name of the contact to start from
+     */
+    public void bfsTraversal(String contact) {
+        int start = searchIdOfContact(contact);
+        if (start == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        BitSet visited = new BitSet();
+        int[] queue = new int[16];
+        int head = 0;
+        int tail = 0;
+        visited.set(start);
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int current = queue[head++];
+            printVisited(current);
+            for (long e = offsets.getLong(current), end = offsets.getLong(current + 1); e < end; e++) {
+                int neighbor = targets.getInt(e);
+                if (!visited.get(neighbor)) {
+                    visited.set(neighbor);
+                    if (tail == queue.length) {
+                        queue = Arrays.copyOf(queue, tail * 2);
+                    }
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    // TRAVERSAL: DEPTH FIRST SEARCH
+    /**
+     * Depth first search traversal that abides to one-way connections.
+     * Uses an explicit stack of (node, next edge) so long chains cannot overflow the call stack.
+     * @param contact The name of the contact to start from
+     */
+    public void dfsTraversal(String contact) {
+        int start = searchIdOfContact(contact);
+        if (start == -1) {
+            System.out.println("Start contact does not exist in this graph.");
+            return;
+        }
+
+        BitSet visited = new BitSet();
+        int[] stackNode = new int[16];
+        long[] stackEdge = new long[16]; // Next edge to look at for the node at the same depth
+        int depth = 0;
+        visited.set(start);
+        printVisited(start);
+        stackNode[0] = start;
+        stackEdge[0] = offsets.getLong(start);
+
+        while (depth >= 0) {
+            int node = stackNode[depth];
+            if (stackEdge[depth] == offsets.getLong(node + 1)) { // All neighbors done
+                depth--;
+                continue;
+            }
+            int neighbor = targets.getInt(stackEdge[depth]++);
+            if (!visited.get(neighbor)) {
+                visited.set(neighbor);
+                printVisited(neighbor);
+                depth++;
+                if (depth == stackNode.length) {
+                    stackNode = Arrays.copyOf(stackNode, depth * 2);
+                    stackEdge = Arrays.copyOf(stackEdge, depth * 2);
+                }
+                stackNode[depth] = neighbor;
+                stackEdge[depth] = offsets.getLong(neighbor);
+            }
+        }
+    }
+
+    private void printVisited(int id) {
+        System.out.println("Visited:[ Name: " + nameOf(id).trim() + " | Student ID: " + studentIds.getInt(id) + " ]");
+    }
+}
@@ -0,0 +1,146 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Secondary index for typo-tolerant name search, shared by the contacts books.
+ * Every normalized name is split into trigrams (padded, so "bob" gives "  b", " bo", "bob", "ob "),
+ * and each trigram maps to the contacts whose names contain it.
+ * A query only looks at contacts sharing at least one trigram with it, keeps the ones sharing
+ * the most, and re-ranks those by edit distance.
+ */
+final class NameNGramIndex {
+    private static final int N = 3;
+    private static final int CANDIDATES_PER_RESULT = 8; // How many best-overlap candidates are re-ranked per requested result
+
+    private final Map<String, Set<Contact>> postings = new HashMap<>(); // Trigram -> contacts with that trigram
+    private final Map<Contact, Integer> gramCounts = new HashMap<>(); // Contact -> number of distinct trigrams
+
+    void add(Contact contact) {
+        Set<String> grams = grams(contact.getNormalizedName());
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(contact);
+        }
+        gramCounts.put(contact, grams.size());
+    }
+
+    void remove(Contact contact) {
+        gramCounts.remove(contact);
+        for (String gram : grams(contact.getNormalizedName())) {
+            Set<Contact> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(contact);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds up to limit contacts whose names are closest to the given name.
+     * @param name The (possibly misspelled) name
+     * @param limit The maximum number of contacts to return
+     * @return Contacts ordered by edit distance (closest first), empty if nothing shares a trigram with the name
+     */
+    List<Contact> closest(String name, int limit) {
+        List<Contact> result = new ArrayList<>();
+        String query = Contact.normalize(name);
+        if (query == null || query.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        // Count the shared trigrams of every candidate
+        Set<String> queryGrams = grams(query);
+        Map<Contact, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Contact> posting = postings.get(gram);
+            if (posting != null) {
+                for (Contact candidate : posting) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        // Keep the candidates with the best overlap (Dice coefficient) in a bounded min-heap
+        int keep = (int) Math.min((long) limit * CANDIDATES_PER_RESULT, shared.size()); // No overflow for huge limits
+        PriorityQueue<Candidate> best = new PriorityQueue<>(keep + 1, Comparator.comparingDouble(c -> c.overlap));
+        for (Map.Entry<Contact, Integer> entry : shared.entrySet()) {
+            int candidateGrams = gramCounts.get(entry.getKey()); // Distinct, like the query's and the shared ones
+            double overlap = 2.0 * entry.getValue() / (queryGrams.size() + candidateGrams);
+            if (best.size() < keep) {
+                best.add(new Candidate(entry.getKey(), overlap));
+            } else if (overlap > best.peek().overlap) {
+                best.poll();
+                best.add(new Candidate(entry.getKey(), overlap));
+            }
+        }
+
+        // Re-rank by edit distance, then by overlap and name for stable ties
+        List<Candidate> ranked = new ArrayList<>(best);
+        for (Candidate candidate : ranked) {
+            candidate.distance = editDistance(query, candidate.contact.getNormalizedName());
+        }
+        ranked.sort(Comparator.<Candidate>comparingInt(c -> c.distance)
+                .thenComparing(c -> -c.overlap)
+                .thenComparing(c -> c.contact.getNormalizedName()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            result.add(ranked.get(i).contact);
+        }
+        return result;
+    }
+
+    // HELPER FUNCTION: DISTINCT TRIGRAMS OF A PADDED NAME
+    private static Set<String> grams(String normalizedName) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalizedName == null) {
+            return grams;
+        }
+        String padded = "  " + normalizedName + " ";
+        for (int i = 0; i + N <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + N));
+        }
+        return grams;
+    }
+
+    // HELPER FUNCTION: LEVENSHTEIN DISTANCE WITH TWO ROWS
+    static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Candidate {
+        private final Contact contact;
+        private final double overlap;
+        private int distance;
+
+        private Candidate(Contact contact, double overlap) {
+            this.contact = contact;
+            this.overlap = overlap;
+        }
+    }
+}
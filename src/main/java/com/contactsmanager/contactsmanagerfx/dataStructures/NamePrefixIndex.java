@@ -0,0 +1,48 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Secondary index of contacts sorted by normalized name, shared by the contacts books.
+ * A prefix query seeks to the first name at or after the prefix and walks forward until
+ * the names stop matching, so it costs O(log V + k) instead of scanning every contact.
+ * Backed by a skip list so autocomplete can read it from a background thread while the
+ * FX thread keeps adding and deleting contacts.
+ */
+final class NamePrefixIndex {
+    private final ConcurrentSkipListMap<String, Contact> byName = new ConcurrentSkipListMap<>(); // Normalized name -> contact
+
+    void add(Contact contact) {
+        byName.put(contact.getNormalizedName(), contact);
+    }
+
+    void remove(Contact contact) {
+        byName.remove(contact.getNormalizedName(), contact);
+    }
+
+    /**
+     * Finds up to limit contacts whose normalized name starts with the normalized prefix.
+     * @param prefix The start of the name (case-insensitive, leading whitespace ignored)
+     * @param limit The maximum number of contacts to return
+     * @return The matching contacts ordered by name, empty if the prefix is blank or nothing matches
+     */
+    List<Contact> startingWith(String prefix, int limit) {
+        List<Contact> result = new ArrayList<>(Math.max(0, Math.min(limit, 16)));
+        String key = prefix == null ? "" : prefix.stripLeading().toLowerCase();
+        if (key.isEmpty() || limit <= 0) {
+            return result;
+        }
+        for (Map.Entry<String, Contact> entry : byName.tailMap(key).entrySet()) {
+            if (!entry.getKey().startsWith(key) || result.size() == limit) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+}
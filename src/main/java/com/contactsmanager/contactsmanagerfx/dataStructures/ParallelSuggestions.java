@@ -0,0 +1,191 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the friends-of-friends of a hub contact on a ForkJoinPool, for the ranked suggestions of the graph books.
+ * The direct friends are split into ranges; every leaf task walks its friends' connections into its own
+ * open-addressing map with primitive counts (no boxing, no sharing between threads), and the maps are merged
+ * pairwise as the tasks join. Splitting only pays off for contacts with many friends, so the books use it
+ * above a degree threshold and walk smaller neighborhoods on the calling thread.
+ */
+final class ParallelSuggestions {
+    private static final int MIN_LEAF = 64; // Fewest friends worth a task of their own
+    private static final int LEAVES_PER_THREAD = 4; // Some slack for friends with very different degrees
+
+    private ParallelSuggestions() {
+    }
+
+    /**
+     * Walks the connections of a range of friends into one leaf's counts.
+     */
+    interface Walk {
+        void walk(int fromFriend, int toFriend, Counts into);
+    }
+
+    /**
+     * Counts the candidates reached through every friend, in parallel.
+     * @param pool The pool to run on
+     * @param friends Number of direct friends, the walk gets ranges of [0, friends)
+     * @param walk Walks a range of friends
+     * @return The merged counts, packed so entries 0 to size() - 1 are the candidates
+     */
+    static Counts count(ForkJoinPool pool, int friends, Walk walk) {
+        int leaf = Math.max(MIN_LEAF, friends / (pool.getParallelism() * LEAVES_PER_THREAD));
+        Counts counts = pool.invoke(new CountTask(walk, 0, friends, leaf));
+        counts.pack();
+        return counts;
+    }
+
+    /**
+     * Splits a range of friends in halves until it is small enough to walk, then merges the halves' counts.
+     */
+    private static final class CountTask extends RecursiveTask<Counts> {
+        private static final long serialVersionUID = 1L;
+
+        private final Walk walk;
+        private final int from;
+        private final int to;
+        private final int leaf;
+
+        private CountTask(Walk walk, int from, int to, int leaf) {
+            this.walk = walk;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected Counts compute() {
+            if (to - from <= leaf) {
+                Counts counts = new Counts();
+                walk.walk(from, to, counts);
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(walk, from, middle, leaf);
+            left.fork();
+            Counts right = new CountTask(walk, middle, to, leaf).compute();
+            Counts merged = left.join();
+            if (merged.size < right.size) { // Merge the smaller map into the bigger one
+                Counts swap = merged;
+                merged = right;
+                right = swap;
+            }
+            merged.addAll(right);
+            return merged;
+        }
+    }
+
+    /**
+     * Open-addressing map from a candidate to its counts, owned by one task at a time.
+     * Keys are the book's own Contact objects, so they are compared by identity; the tag is any int
+     * the book wants back with the candidate (the matrix keeps its slot there).
+     */
+    static final class Counts {
+        private Contact[] keys = new Contact[64];
+        private int[] tags = new int[64];
+        private int[] mutual = new int[64];
+        private double[] weight = new double[64];
+        private int size = 0;
+
+        /**
+         * Records a path to a candidate through a friend.
+         * @param candidate The contact reached
+         * @param tag The book's number for the candidate, kept from the first path
+         * @param adamicAdar Adamic-Adar weight of the friend in between, from SuggestionRanking.adamicAdar(), 0 if not needed
+         */
+        void reach(Contact candidate, int tag, double adamicAdar) {
+            add(candidate, tag, 1, adamicAdar);
+        }
+
+        int size() {
+            return size;
+        }
+
+        Contact key(int entry) {
+            return keys[entry];
+        }
+
+        int tag(int entry) {
+            return tags[entry];
+        }
+
+        int mutual(int entry) {
+            return mutual[entry];
+        }
+
+        double weight(int entry) {
+            return weight[entry];
+        }
+
+        // HELPER FUNCTION: ADD COUNTS TO A CANDIDATE, INSERTING IT IF NEW
+        private void add(Contact candidate, int tag, int paths, double adamicAdar) {
+            int mask = keys.length - 1;
+            int i = mix(candidate.hashCode()) & mask;
+            while (keys[i] != null && keys[i] != candidate) {
+                i = (i + 1) & mask; // Linear probing
+            }
+            if (keys[i] == null) {
+                keys[i] = candidate;
+                tags[i] = tag;
+                size++;
+            }
+            mutual[i] += paths;
+            weight[i] += adamicAdar;
+            if (size > keys.length * 3 / 4) {
+                grow();
+            }
+        }
+
+        // HELPER FUNCTION: ADD EVERY CANDIDATE OF ANOTHER LEAF
+        private void addAll(Counts other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.keys[i] != null) {
+                    add(other.keys[i], other.tags[i], other.mutual[i], other.weight[i]);
+                }
+            }
+        }
+
+        // HELPER FUNCTION: DOUBLE THE TABLE AND REHASH
+        private void grow() {
+            Contact[] oldKeys = keys;
+            int[] oldTags = tags;
+            int[] oldMutual = mutual;
+            double[] oldWeight = weight;
+            keys = new Contact[oldKeys.length * 2];
+            tags = new int[keys.length];
+            mutual = new int[keys.length];
+            weight = new double[keys.length];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    add(oldKeys[i], oldTags[i], oldMutual[i], oldWeight[i]);
+                }
+            }
+        }
+
+        // HELPER FUNCTION: MOVE THE ENTRIES TO THE FRONT, THE MAP CANNOT BE ADDED TO AFTERWARDS
+        private void pack() {
+            int next = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    keys[next] = keys[i];
+                    tags[next] = tags[i];
+                    mutual[next] = mutual[i];
+                    weight[next] = weight[i];
+                    next++;
+                }
+            }
+            Arrays.fill(keys, next, keys.length, null);
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16); // Spread the high bits over the low ones the mask keeps
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+/**
+ * Dense numbers for the node ids one query of a CSR graph reaches, handed out on first sight (0, 1, 2, ...).
+ * Lets a query keep per-node state without an array the size of the graph, and without shared scratch arrays,
+ * so concurrent readers of the same graph do not interfere.
+ * An open-addressing table with primitive keys and values, sized once from an upper bound on the nodes reached.
+ */
+final class ReachedNodes {
+    private final int[] keys; // Node id + 1, 0 for an empty slot
+    private final int[] numbers;
+    private final int[] nodes; // Number -> node id
+    private int size = 0;
+
+    /**
+     * @param capacity The most distinct nodes the query can reach, e.g. 1 + the sum of the degrees it walks
+     */
+    ReachedNodes(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) * 2; // Power of two, at most half full
+        keys = new int[tableSize];
+        numbers = new int[tableSize];
+        nodes = new int[capacity];
+    }
+
+    /**
+     * Gets the number of a node, handing out the next one if it has none yet.
+     * @param node The node id
+     * @return Its number; equal to size() - 1 if it was new
+     */
+    int add(int node) {
+        int mask = keys.length - 1;
+        int i = mix(node) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == node + 1) {
+                return numbers[i];
+            }
+            i = (i + 1) & mask; // Linear probing
+        }
+        keys[i] = node + 1;
+        numbers[i] = size;
+        nodes[size] = node;
+        return size++;
+    }
+
+    int node(int number) {
+        return nodes[number];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int mix(int node) {
+        int hash = node * 0x9E3779B9; // Neighboring ids land far apart
+        return hash ^ (hash >>> 16); // Spread the high bits over the low ones the mask keeps
+    }
+}
@@ -0,0 +1,334 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsEventSink;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This class makes a single-threaded graph contacts book safe to share between threads, tuned for read-heavy workloads.
+ * Only lookups by name and by student ID are optimistic: they run under a StampedLock optimistic read, taking
+ * no lock at all, and are retried under a read lock only when a change happened while they ran.
+ * Everything else (suggestions, prefix and similar search, range search, listAllContacts and read()) holds the read lock,
+ * because walking the plain collections of the book during a change could see them half-changed without throwing.
+ * Read locks are shared, so queries never wait for each other, only for changes, which take the write lock.
+ * <p>
+ * Readers run side by side, so only books whose queries write nothing can be wrapped:
+ * AdjacencyListGraphCB and AdjacencyMatrixGraphCB with their suggestion cache off (see the of() factories).
+ * IntAdjacencyListGraphCB keeps shared scratch marks for its queries and cannot be wrapped.
+ *
+ * @param <G> The wrapped graph, which must be both a ContactsManager and a ConnectionsManager
+ */
+public class StampedLockGraphCB<G extends ContactsManager & ConnectionsManager> implements ContactsManager, ConnectionsManager {
+
+    private final G graph;
+    private final Function<String, Contact> lookup; // Name lookup that reports nothing, so an optimistic retry cannot report twice
+    private final StampedLock lock = new StampedLock();
+    private final Object rangeLock = new Object(); // Student ID range queries build a sorted copy lazily, see searchByStudentIdRange
+
+    private StampedLockGraphCB(G graph, Function<String, Contact> lookup) {
+        this.graph = graph;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Wraps an adjacency list graph. The graph must not be used directly afterwards, only through this wrapper.
+     * @param graph The graph to wrap, with its suggestion cache off
+     * @return The thread-safe wrapper
+     * @throws IllegalArgumentException if the graph's suggestion cache is on, its queries would change it
+     */
+    public static StampedLockGraphCB<AdjacencyListGraphCB> of(AdjacencyListGraphCB graph) {
+        if (graph.isSuggestionCacheOn()) {
+            throw new IllegalArgumentException("Turn the suggestion cache off before wrapping the graph");
+        }
+        return new StampedLockGraphCB<>(graph, graph::findContact);
+    }
+
+    /**
+     * Wraps an adjacency matrix graph. The graph must not be used directly afterwards, only through this wrapper.
+     * @param graph The graph to wrap, with its suggestion cache off
+     * @return The thread-safe wrapper
+     * @throws IllegalArgumentException if the graph's suggestion cache is on, its queries would change it
+     */
+    public static StampedLockGraphCB<AdjacencyMatrixGraphCB> of(AdjacencyMatrixGraphCB graph) {
+        if (graph.isSuggestionCacheOn()) {
+            throw new IllegalArgumentException("Turn the suggestion cache off before wrapping the graph");
+        }
+        return new StampedLockGraphCB<>(graph, graph::findContact);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Sets the sink of the wrapped graph, under the write lock.
+     */
+    @Override
+    public void setEventSink(ContactsEventSink sink) {
+        write(() -> graph.setEventSink(sink));
+    }
+
+    /*========================================================================*/
+    /*===== Locking ==========================================================*/
+
+    /**
+     * Runs a query optimistically: without locking, then checks that no change happened meanwhile.
+     * If one did, or the query tripped over a half-done change and threw, it is run again under the read lock.
+     * Only for single hash lookups, which end after a few probes whatever state they see, and which report nothing.
+     * @param query The query, which must not change the graph or report events
+     * @return The result of the query
+     * @param <T> The result type
+     */
+    private <T> T optimisticRead(Supplier<T> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e; // A real failure, not caused by a concurrent change
+                }
+            }
+        }
+        return read(query);
+    }
+
+    /**
+     * Runs a query under the read lock, side by side with other readers.
+     * @param query The query, which must not change the graph
+     * @return The result of the query
+     * @param <T> The result type
+     */
+    private <T> T read(Supplier<T> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a change under the write lock.
+     * @param change The change
+     */
+    private void write(Runnable change) {
+        write(() -> {
+            change.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a change under the write lock and returns what it returned.
+     * @param change The change
+     * @return The result of the change
+     */
+    private <T> T write(Supplier<T> change) {
+        long stamp = lock.writeLock();
+        try {
+            return change.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Contacts/Node Management =========================================*/
+
+    // ADD NODE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult addContact(Contact contact) {
+        return write(() -> graph.addContact(contact));
+    }
+
+    // ADD NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The whole batch runs under one write lock.
+     */
+    @Override
+    public int addContacts(Collection<Contact> contacts) {
+        return write(() -> graph.addContacts(contacts));
+    }
+
+    // UPDATE CONTACT
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult updateContact(Contact contact, String newName, int newStudentId) {
+        return write(() -> graph.updateContact(contact, newName, newStudentId));
+    }
+
+    // DELETE NODE
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult deleteContact(String name) {
+        return write(() -> graph.deleteContact(name));
+    }
+
+    // DELETE NODES
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The whole batch runs under one write lock.
+     */
+    @Override
+    public int deleteContacts(Collection<String> names) {
+        return write(() -> graph.deleteContacts(names));
+    }
+
+    // SEARCH NODE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Optimistic. A miss is looked up again under the read lock, which reports it exactly once.
+     */
+    @Override
+    public Contact searchContact(String name) {
+        Contact contact = optimisticRead(() -> lookup.apply(name));
+        return contact != null ? contact : read(() -> graph.searchContact(name));
+    }
+
+    // SEARCH BY STUDENT ID
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec Optimistic.
+     */
+    @Override
+    public List<Contact> searchByStudentId(int studentId) {
+        return optimisticRead(() -> graph.searchByStudentId(studentId));
+    }
+
+    // SEARCH BY STUDENT ID RANGE
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The first range query after a change rebuilds the index's sorted copy,
+     * so range queries also take turns with each other.
+     */
+    @Override
+    public List<Contact> searchByStudentIdRange(int fromId, int toId) {
+        long stamp = lock.readLock();
+        try {
+            synchronized (rangeLock) {
+                return graph.searchByStudentIdRange(fromId, toId);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // SEARCH BY NAME PREFIX
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchByPrefix(String prefix, int limit) {
+        return read(() -> graph.searchByPrefix(prefix, limit));
+    }
+
+    // SEARCH BY SIMILAR NAME
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> searchSimilar(String name, int limit) {
+        return read(() -> graph.searchSimilar(name, limit));
+    }
+
+    /*========================================================================*/
+    /*===== Connections Management ===========================================*/
+
+    // ADD CONNECTION
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult addConnection(String contact1, String contact2) {
+        return write(() -> graph.addConnection(contact1, contact2));
+    }
+
+    // ADD CONNECTIONS
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec The whole batch runs under one write lock.
+     */
+    @Override
+    public int addConnections(Collection<String[]> pairs) {
+        return write(() -> graph.addConnections(pairs));
+    }
+
+    // DELETE CONNECTION
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult removeConnection(String contact1, String contact2) {
+        return write(() -> graph.removeConnection(contact1, contact2));
+    }
+
+    // SUGGEST CONTACTS
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact) {
+        return read(() -> graph.suggestContacts(contact));
+    }
+
+    // SUGGEST CONTACTS, RANKED
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> suggestContacts(String contact, int limit, SuggestionScore score) {
+        return read(() -> graph.suggestContacts(contact, limit, score));
+    }
+
+    /*========================================================================*/
+    /*===== Printing and Getters Management ==================================*/
+
+    // RETURN ALL CONTACTS
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Contact> listAllContacts() {
+        return read(graph::listAllContacts);
+    }
+
+    // RUN ANY OTHER QUERY
+    /**
+     * Runs any other query on the wrapped graph (shortest paths, incoming connections, ...) under the read lock.
+     * The query must only read the graph, and must build its whole result before it returns: the lock is released
+     * by then, so lazy results such as traversal() iterators and traversalStream() streams, or live views such as
+     * getAdjacencyList(), would read the graph with no lock held. Collect them inside the query instead,
+     * e.g. {@code read(g -> g.traversalStream(name, order).toList())}.
+     * @param query The query
+     * @return The result of the query
+     * @param <T> The result type
+     */
+    public <T> T read(Function<? super G, T> query) {
+        return read(() -> query.apply(graph));
+    }
+}
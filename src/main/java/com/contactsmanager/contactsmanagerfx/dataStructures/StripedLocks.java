@@ -0,0 +1,77 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that nodes are spread over by hash, used by the concurrent graph books.
+ * Operations that touch several nodes lock all of their stripes in ascending order,
+ * so two operations can never wait for each other in a cycle (no deadlock).
+ */
+final class StripedLocks {
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Constructs the locks.
+     * @param count Number of stripes, rounded up to a power of two
+     */
+    StripedLocks(int count) {
+        int size = Integer.highestOneBit(Math.max(1, count - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Stripe of a hash, with the high bits mixed in so similar hashes spread out.
+     * @param hash The hash of the node
+     * @return The stripe index
+     */
+    int stripeOf(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Locks the given stripes in ascending order, each one once.
+     * @param wanted Stripe indexes, may contain duplicates and be in any order
+     * @return The stripes that were locked, sorted; pass it to unlock
+     */
+    int[] lock(int... wanted) {
+        int[] sorted = wanted.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) { // Drop duplicates
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        int[] held = count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+        for (int stripe : held) {
+            stripes[stripe].lock();
+        }
+        return held;
+    }
+
+    /**
+     * Unlocks stripes returned by lock, in reverse order.
+     * @param held The locked stripes
+     */
+    void unlock(int[] held) {
+        for (int i = held.length - 1; i >= 0; i--) {
+            stripes[held[i]].unlock();
+        }
+    }
+
+    /**
+     * Whether a stripe is among the held ones.
+     * @param held The sorted stripes returned by lock
+     * @param stripe The stripe to look for
+     * @return true if it is held
+     */
+    static boolean holds(int[] held, int stripe) {
+        return Arrays.binarySearch(held, stripe) >= 0;
+    }
+}
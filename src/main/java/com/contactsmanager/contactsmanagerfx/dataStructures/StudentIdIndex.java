@@ -0,0 +1,197 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Secondary index from student ID to contacts, shared by the contacts books.
+ * Exact lookups use an open-addressing hash table on primitive int keys (linear probing),
+ * so probing never boxes an Integer. Student IDs are not unique, so one ID can map to several contacts.
+ * Range queries use a sorted copy of the entries that is rebuilt lazily after changes.
+ */
+final class StudentIdIndex {
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of two
+    private static final Contact TOMBSTONE = new Contact("", 0); // Marks removed entries so probing continues past them
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Contact[] values = new Contact[INITIAL_CAPACITY]; // null = never used
+    private int size = 0; // Live entries
+    private int used = 0; // Live entries + tombstones
+
+    private int modCount = 0; // Changes since creation
+    private int sortedModCount = -1; // modCount the sorted copy was built at
+    private int[] sortedKeys = new int[0];
+    private Contact[] sortedValues = new Contact[0];
+
+    /**
+     * Adds a contact under its current student ID.
+     * @param contact The contact to index
+     */
+    void add(Contact contact) {
+        if ((used + 1) * 4 > keys.length * 3) { // Keep load (including tombstones) under 75%
+            rehash((size + 1) * 2 > keys.length ? keys.length * 2 : keys.length); // Same size just drops tombstones
+        }
+        int mask = keys.length - 1;
+        int i = mix(contact.getStudentId()) & mask;
+        while (values[i] != null && values[i] != TOMBSTONE) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == null) {
+            used++;
+        }
+        keys[i] = contact.getStudentId();
+        values[i] = contact;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Makes room for a batch of contacts, so adding them does not rehash along the way.
+     * @param extra The number of contacts about to be added
+     */
+    void ensureCapacity(int extra) {
+        int capacity = keys.length;
+        while ((used + extra) * 4 > capacity * 3) {
+            capacity *= 2;
+        }
+        if (capacity != keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    /**
+     * Removes a contact that was indexed under the given student ID.
+     * @param studentId The student ID the contact was indexed under
+     * @param contact The contact to remove (matched by identity)
+     * @return true if it was found
+     */
+    boolean remove(int studentId, Contact contact) {
+        int mask = keys.length - 1;
+        for (int i = mix(studentId) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (values[i] == contact && keys[i] == studentId) {
+                values[i] = TOMBSTONE;
+                size--;
+                modCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes a contact indexed under its current student ID.
+     * @param contact The contact to remove
+     * @return true if it was found
+     */
+    boolean remove(Contact contact) {
+        return remove(contact.getStudentId(), contact);
+    }
+
+    /**
+     * Finds all contacts with the given student ID.
+     * @param studentId The student ID to look up
+     * @return The matching contacts, empty if there are none
+     */
+    List<Contact> get(int studentId) {
+        List<Contact> result = new ArrayList<>(1);
+        int mask = keys.length - 1;
+        for (int i = mix(studentId) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == studentId && values[i] != TOMBSTONE) {
+                result.add(values[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds all contacts with a student ID in [fromId, toId], ordered by student ID.
+     * @param fromId The lowest student ID, inclusive
+     * @param toId The highest student ID, inclusive
+     * @return The matching contacts, empty if there are none or fromId > toId
+     */
+    List<Contact> range(int fromId, int toId) {
+        List<Contact> result = new ArrayList<>();
+        if (fromId > toId) {
+            return result;
+        }
+        ensureSorted();
+        for (int i = lowerBound(fromId); i < sortedKeys.length && sortedKeys[i] <= toId; i++) {
+            result.add(sortedValues[i]);
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // HELPER FUNCTION: REBUILD THE SORTED COPY IF THE TABLE CHANGED SINCE THE LAST RANGE QUERY
+    private void ensureSorted() {
+        if (sortedModCount == modCount) {
+            return;
+        }
+        long[] packed = new long[size]; // Student ID in the high bits, table slot in the low bits
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && values[i] != TOMBSTONE) {
+                packed[n++] = ((long) keys[i] << 32) | i;
+            }
+        }
+        Arrays.sort(packed);
+        sortedKeys = new int[size];
+        sortedValues = new Contact[size];
+        for (int k = 0; k < size; k++) {
+            int slot = (int) packed[k];
+            sortedKeys[k] = keys[slot];
+            sortedValues[k] = values[slot];
+        }
+        sortedModCount = modCount;
+    }
+
+    // HELPER FUNCTION: FIRST POSITION IN THE SORTED COPY WITH A KEY >= id
+    private int lowerBound(int id) {
+        int low = 0;
+        int high = sortedKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedKeys[mid] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // HELPER FUNCTION: MOVE LIVE ENTRIES INTO A NEW TABLE, DROPPING TOMBSTONES
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Contact[] oldValues = values;
+        keys = new int[capacity];
+        values = new Contact[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] == null || oldValues[j] == TOMBSTONE) {
+                continue;
+            }
+            int i = mix(oldKeys[j]) & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+        used = size;
+    }
+
+    // Spreads sequential student IDs over the table (Murmur3 finalizer)
+    private static int mix(int key) {
+        int h = key * 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,187 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opt-in cache of ranked suggestions, shared by the graph contacts books.
+ * For every cached contact t it keeps the number of two-step paths t -> friend -> c to every contact c
+ * (direct friends included, so removing a connection can bring them back as candidates),
+ * plus the last ranked list built from those counts.
+ * <p>
+ * The books patch the counts when a connection is added or removed or a contact is deleted, touching only
+ * the cached contacts in the changed connection's 1-hop neighborhood; a patch drops the ranked list of the
+ * contacts it changes, which is rebuilt from the counts without walking the graph again.
+ * Entries are evicted least recently used first once their estimated size passes the memory budget.
+ */
+final class SuggestionCache {
+    private static final long CONTACT_BYTES = 160; // Rough heap cost of a cached contact: LRU node, entry, count map
+    private static final long COUNT_BYTES = 64; // Rough heap cost of one count: map node and int[1]
+
+    private final long budget;
+    private long used = 0;
+    private final LinkedHashMap<Contact, Entry> entries = new LinkedHashMap<>(); // Least recently used first, get() moves an entry to the end
+
+    /**
+     * The counts of one contact and the ranked list built from them.
+     */
+    static final class Entry {
+        private final HashMap<Contact, int[]> paths; // Contact -> number of two-step paths to it
+        private List<Contact> ranked; // Best first, null after a patch
+        private boolean complete; // Whether ranked holds every candidate, not just the best few
+
+        private Entry(HashMap<Contact, int[]> paths) {
+            this.paths = paths;
+        }
+
+        Map<Contact, int[]> paths() {
+            return paths;
+        }
+    }
+
+    /**
+     * Constructs an empty cache.
+     * @param budget Estimated heap size the entries may use, in bytes
+     */
+    SuggestionCache(long budget) {
+        this.budget = budget;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Gets the entry of a contact and marks it as recently used.
+     * @param contact The contact suggestions are for
+     * @return The entry, or null if the contact is not cached
+     */
+    Entry get(Contact contact) {
+        Entry entry = entries.remove(contact);
+        if (entry != null) {
+            entries.put(contact, entry); // Re-inserting moves it to the most recently used end
+        }
+        return entry;
+    }
+
+    /**
+     * Gets the entry of a contact for patching, without counting it as a use.
+     * @param contact The contact
+     * @return The entry, or null if the contact is not cached
+     */
+    Entry peek(Contact contact) {
+        return entries.get(contact);
+    }
+
+    /**
+     * Caches the path counts of a contact, evicting the least recently used entries if the budget is exceeded.
+     * A single entry bigger than the whole budget is not kept.
+     * @param contact The contact the counts are for
+     * @param paths Contact -> number of two-step paths to it
+     * @return The new entry
+     */
+    Entry put(Contact contact, HashMap<Contact, int[]> paths) {
+        evict(contact);
+        Entry entry = new Entry(paths);
+        entries.put(contact, entry);
+        used += CONTACT_BYTES + COUNT_BYTES * paths.size();
+        trim();
+        return entry;
+    }
+
+    /**
+     * Gets the best contacts of a cached ranked list, if it holds enough of them.
+     * @param entry The entry
+     * @param limit The number of contacts wanted
+     * @return A copy of at most limit contacts, or null if the list must be rebuilt
+     */
+    static List<Contact> ranked(Entry entry, int limit) {
+        if (entry.ranked == null || (!entry.complete && entry.ranked.size() < limit)) {
+            return null;
+        }
+        return new ArrayList<>(entry.ranked.subList(0, Math.min(Math.max(limit, 0), entry.ranked.size())));
+    }
+
+    /**
+     * Stores the ranked list built from an entry's counts.
+     * @param entry The entry
+     * @param ranked The ranked contacts, best first
+     * @param complete Whether the list holds every candidate
+     */
+    static void setRanked(Entry entry, List<Contact> ranked, boolean complete) {
+        entry.ranked = new ArrayList<>(ranked);
+        entry.complete = complete;
+    }
+
+    /**
+     * Drops the ranked list of an entry whose contact gained or lost a connection of its own.
+     * Its known contacts changed, so the list is stale even if no count did (e.g. the new friend has no friends).
+     * @param entry The entry
+     */
+    static void invalidate(Entry entry) {
+        entry.ranked = null;
+    }
+
+    /**
+     * Adds to or removes from the number of paths to a contact, forgetting the count when it reaches zero.
+     * @param entry The entry to patch, from peek()
+     * @param end The contact at the end of the paths
+     * @param delta +1 for a new path, -1 for a removed one
+     */
+    void adjust(Entry entry, Contact end, int delta) {
+        entry.ranked = null;
+        int[] count = entry.paths.get(end);
+        if (count == null) {
+            entry.paths.put(end, new int[]{delta});
+            used += COUNT_BYTES;
+        } else if ((count[0] += delta) == 0) {
+            entry.paths.remove(end);
+            used -= COUNT_BYTES;
+        }
+    }
+
+    /**
+     * Forgets every path that ends at a deleted contact, and the deleted contact's own entry.
+     * @param contact The deleted contact
+     */
+    void forget(Contact contact) {
+        evict(contact);
+        for (Entry entry : entries.values()) {
+            if (entry.paths.remove(contact) != null) {
+                entry.ranked = null;
+                used -= COUNT_BYTES;
+            }
+        }
+    }
+
+    // HELPER FUNCTION: DROP ONE ENTRY
+    private void evict(Contact contact) {
+        Entry entry = entries.remove(contact);
+        if (entry != null) {
+            used -= CONTACT_BYTES + COUNT_BYTES * entry.paths.size();
+        }
+    }
+
+    /**
+     * Evicts least recently used entries until the estimated size is within the budget again.
+     */
+    void trim() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (used > budget && eldest.hasNext()) {
+            Entry entry = eldest.next();
+            used -= CONTACT_BYTES + COUNT_BYTES * entry.paths.size();
+            eldest.remove();
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        used = 0;
+    }
+}
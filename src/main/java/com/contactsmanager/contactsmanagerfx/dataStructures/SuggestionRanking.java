@@ -0,0 +1,189 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Scores the friends-of-friends of one contact for ranked suggestions, shared by the graph contacts books.
+ * The book walks every (friend, friend of friend) path once and reports it here; scores are accumulated in
+ * primitive arrays indexed by candidate number (the order candidates were first reached), and the best k
+ * are picked with a bounded min-heap. The whole ranking is O(sum of friend degrees + candidates * log k).
+ */
+final class SuggestionRanking {
+    private static final double TIE = 1e-9; // Relative difference below which two scores are equal
+    private final SuggestionScore score;
+    private int[] mutual = new int[16]; // Candidate -> shared connections
+    private double[] weight = new double[16]; // Candidate -> Adamic-Adar sum
+    private int count = 0;
+    private double[] scores; // Candidate -> final score, set by top()
+    private TieBreak tieBreak;
+
+    /**
+     * Orders two candidates with equal scores, without boxing them.
+     */
+    interface TieBreak {
+        int compare(int candidate1, int candidate2);
+    }
+
+    SuggestionRanking(SuggestionScore score) {
+        this.score = score;
+    }
+
+    /**
+     * Adds a candidate reached for the first time, through a friend with the given degree.
+     * @param friendDegree Number of connections of the friend the candidate was reached through
+     * @return The candidate number, to pass to reach() for the next paths
+     */
+    int add(int friendDegree) {
+        if (count == mutual.length) {
+            mutual = Arrays.copyOf(mutual, count * 2);
+            weight = Arrays.copyOf(weight, count * 2);
+        }
+        reach(count, friendDegree);
+        return count++;
+    }
+
+    /**
+     * Records another path to a known candidate.
+     * @param candidate The candidate number returned by add()
+     * @param friendDegree Number of connections of the friend it was reached through
+     */
+    void reach(int candidate, int friendDegree) {
+        mutual[candidate]++;
+        if (score == SuggestionScore.ADAMIC_ADAR) {
+            weight[candidate] += adamicAdar(friendDegree);
+        }
+    }
+
+    /**
+     * Weight of one shared friend in the Adamic-Adar score: friends with fewer connections count more.
+     * @param friendDegree Number of connections of the shared friend
+     * @return 1 / ln(degree), a friend of degree 1 counts like one of degree 2
+     */
+    static double adamicAdar(int friendDegree) {
+        return 1.0 / Math.log(Math.max(2, friendDegree));
+    }
+
+    /**
+     * Adds a candidate whose shared connections were already counted, e.g. by the suggestion cache.
+     * Only for MUTUAL_FRIENDS and JACCARD, Adamic-Adar needs the degree of every friend in between.
+     * @param paths Number of shared connections
+     * @return The candidate number
+     */
+    int addCounted(int paths) {
+        return addCounted(paths, 0);
+    }
+
+    /**
+     * Adds a candidate whose shared connections and Adamic-Adar sum were already counted, e.g. in parallel.
+     * @param paths Number of shared connections
+     * @param adamicAdar Sum of the shared connections' Adamic-Adar weights
+     * @return The candidate number
+     */
+    int addCounted(int paths, double adamicAdar) {
+        int candidate = add(0);
+        mutual[candidate] = paths;
+        weight[candidate] = adamicAdar;
+        return candidate;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Picks the best candidates.
+     * @param limit The maximum number of candidates to return
+     * @param targetDegree Number of connections of the contact the suggestions are for (Jaccard only)
+     * @param degreeOf Candidate number -> its number of connections (Jaccard only)
+     * @param tieBreak Orders candidates with equal scores, e.g. by name, so results are stable
+     * @return Candidate numbers, best first
+     */
+    int[] top(int limit, int targetDegree, IntUnaryOperator degreeOf, TieBreak tieBreak) {
+        this.tieBreak = tieBreak;
+        scores = new double[count];
+        for (int c = 0; c < count; c++) {
+            switch (score) {
+                case ADAMIC_ADAR:
+                    scores[c] = weight[c];
+                    break;
+                case JACCARD:
+                    scores[c] = (double) mutual[c] / (targetDegree + degreeOf.applyAsInt(c) - mutual[c]);
+                    break;
+                default:
+                    scores[c] = mutual[c];
+                    break;
+            }
+        }
+        // Min-heap of the best k so far, worst on top
+        int[] heap = new int[Math.min(Math.max(limit, 0), count)];
+        int heapSize = 0;
+        for (int c = 0; c < count && heap.length > 0; c++) {
+            if (heapSize < heap.length) {
+                heap[heapSize] = c;
+                siftUp(heap, heapSize++);
+            } else if (compare(c, heap[0]) < 0) {
+                heap[0] = c;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        int[] best = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) { // Pop worst first, fill from the back
+            best[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize);
+        }
+        return best;
+    }
+
+    // HELPER FUNCTION: NEGATIVE IF candidate1 RANKS BEFORE candidate2
+    private int compare(int candidate1, int candidate2) {
+        double difference = scores[candidate2] - scores[candidate1]; // Higher scores first
+        if (Math.abs(difference) > TIE * Math.max(scores[candidate1], scores[candidate2])) {
+            return difference > 0 ? 1 : -1;
+        }
+        return tieBreak.compare(candidate1, candidate2); // Adamic-Adar sums can differ in the last bits with the walk order
+
+    }
+
+    // HELPER FUNCTION: MOVE A NEW ENTRY UP WHILE IT IS WORSE THAN ITS PARENT
+    private void siftUp(int[] heap, int index) {
+        int entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(entry, heap[parent]) <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+
+    // HELPER FUNCTION: MOVE THE TOP DOWN WHILE A CHILD IS WORSE THAN IT
+    private void siftDown(int[] heap, int size) {
+        if (size == 0) {
+            return;
+        }
+        int index = 0;
+        int entry = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && compare(heap[child + 1], heap[child]) > 0) {
+                child++; // The worse of the two children
+            }
+            if (compare(heap[child], entry) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+}
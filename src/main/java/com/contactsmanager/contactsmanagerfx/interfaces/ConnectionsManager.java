@@ -1,6 +1,9 @@
 package com.contactsmanager.contactsmanagerfx.interfaces;
 
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import java.util.Collection;
 import java.util.List;
 
 /*
@@ -12,15 +15,35 @@ public interface ConnectionsManager {
      * Creates a connection between two contacts.
      * @param contact1 The name of the first contact
      * @param contact2 The name of the second contact
+     * @return DONE with the first contact, NOT_FOUND if either contact does not exist, ALREADY_EXISTS, or INVALID for an empty name
      */
-    void addConnection(String contact1, String contact2);
+    OperationResult addConnection(String contact1, String contact2);
+
+    /**
+     * Creates many connections at once, without printing anything per connection.
+     * Pairs naming a missing contact are skipped, and connections that already exist are not duplicated.
+     *
+     * @implSpec The default calls addConnection for every pair.
+     * @param pairs The connections to create, each as {name of the first contact, name of the second contact}
+     * @return The number of connections actually created
+     */
+    default int addConnections(Collection<String[]> pairs) {
+        int added = 0;
+        for (String[] pair : pairs) {
+            if (addConnection(pair[0], pair[1]).isDone()) {
+                added++;
+            }
+        }
+        return added;
+    }
 
     /**
      * Removes a connection between two contacts.
      * @param contact1 The name of the first contact
      * @param contact2 The name of the second contact
+     * @return DONE with the first contact, NOT_FOUND if either contact or the connection does not exist, or INVALID for an empty name
      */
-    void removeConnection(String contact1, String contact2);
+    OperationResult removeConnection(String contact1, String contact2);
 
     /**
      * Suggests contacts that might be relevant to the given contact.
@@ -30,4 +53,15 @@ public interface ConnectionsManager {
      * @return List of suggested contacts
      */
     List<Contact> suggestContacts(String contact);
+
+    /**
+     * Suggests the friends-of-friends most likely to be relevant to the given contact, best first.
+     * Ties are broken by name, so the order is stable.
+     *
+     * @param contact The name of the contact to get suggestions for
+     * @param limit The maximum number of contacts to return
+     * @param score How candidates are scored
+     * @return At most limit suggested contacts, best first
+     */
+    List<Contact> suggestContacts(String contact, int limit, SuggestionScore score);
 }
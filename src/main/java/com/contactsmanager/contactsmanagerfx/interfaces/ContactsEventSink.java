@@ -0,0 +1,36 @@
+package com.contactsmanager.contactsmanagerfx.interfaces;
+
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+
+/*
+ * Listener that receives the events reported by a contacts book (added, not found, already exists, ...).
+ * Books call it with the raw arguments, so formatting and output happen only in sinks that want them.
+ */
+@FunctionalInterface
+public interface ContactsEventSink {
+    /**
+     * Sink that ignores every event. The default of all contacts books.
+     */
+    ContactsEventSink NONE = (event, subject, detail) -> { };
+
+    /**
+     * Receives one event.
+     * @param event What happened
+     * @param subject The first argument of the event (a name, a Contact or a count), may be null
+     * @param detail The second argument of the event, may be null
+     */
+    void onEvent(ContactsEvent event, Object subject, Object detail);
+
+    /**
+     * Creates a sink that prints the events of at least the given severity to the terminal.
+     * @param minimum The lowest severity to print
+     * @return The printing sink
+     */
+    static ContactsEventSink console(ContactsEvent.Severity minimum) {
+        return (event, subject, detail) -> {
+            if (event.getSeverity().compareTo(minimum) >= 0) {
+                System.out.println(event.format(subject, detail));
+            }
+        };
+    }
+}
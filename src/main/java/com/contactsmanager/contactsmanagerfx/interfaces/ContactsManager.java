@@ -1,6 +1,8 @@
 package com.contactsmanager.contactsmanagerfx.interfaces;
 
 import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import java.util.Collection;
 import java.util.List;
 
 /*
@@ -13,22 +15,94 @@ public interface ContactsManager {
      * In graph-based data structures, all connections will be initialized with no connections.
      *
      * @param contact The contact object to be added
+     * @return DONE with the added contact, ALREADY_EXISTS if the name is taken (or FULL/READ_ONLY where applicable)
      */
-    void addContact(Contact contact);
+    OperationResult addContact(Contact contact);
 
     /**
-     * Searches for a contact using name (case-sensitive match).
+     * Adds many contacts at once, without printing anything per contact.
+     * A contact is skipped if its name is already taken, in the book or earlier in the batch.
+     *
+     * @implSpec The default calls addContact for every contact; implementations should size
+     * their storage once for the whole batch instead.
+     * @param contacts The contact objects to be added
+     * @return The number of contacts actually added
+     */
+    default int addContacts(Collection<Contact> contacts) {
+        int added = 0;
+        for (Contact contact : contacts) {
+            if (addContact(contact).isDone()) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Searches for a contact by name. Names match by their normalized form (trimmed, case-insensitive), see Contact.normalize.
      * @param name The name used to find the contact
      * @return The matching contact object, or null if not found
      */
     Contact searchContact(String name);
 
+    /**
+     * Searches for contacts using student ID.
+     * Student IDs are not required to be unique, so every matching contact is returned.
+     * @param studentId The student ID used to find the contacts
+     * @return List of matching contacts, empty if not found
+     */
+    List<Contact> searchByStudentId(int studentId);
+
+    /**
+     * Searches for contacts with a student ID between fromId and toId (both inclusive).
+     * @param fromId The lowest student ID to include
+     * @param toId The highest student ID to include
+     * @return List of matching contacts ordered by student ID, empty if none match
+     */
+    List<Contact> searchByStudentIdRange(int fromId, int toId);
+
+    /**
+     * Searches for contacts whose name starts with the given prefix (case-insensitive), for autocomplete.
+     * @param prefix The start of the name to look for
+     * @param limit The maximum number of contacts to return
+     * @return List of at most limit matching contacts ordered by name, empty if none match
+     */
+    List<Contact> searchByPrefix(String prefix, int limit);
+
+    /**
+     * Searches for the contacts with names closest to the given name, tolerating typos.
+     * @param name The (possibly misspelled) name to look for
+     * @param limit The maximum number of contacts to return
+     * @return List of at most limit contacts, closest first, empty if no name is similar
+     */
+    List<Contact> searchSimilar(String name, int limit);
+
     /**
      * Deletes a contact node from the data structure.
      * In graph-based implementations, also removes all connections to/ from the contact.
      * @param name The name of the contact to be deleted
+     * @return DONE with the deleted contact, or NOT_FOUND
      */
-    void deleteContact(String name);
+    OperationResult deleteContact(String name);
+
+    /**
+     * Deletes many contacts at once, without printing anything per contact.
+     * Names that are not found are skipped.
+     *
+     * @implSpec The default calls deleteContact for every name; implementations should visit
+     * each affected connection list only once instead.
+     * @param names The names of the contacts to be deleted
+     * @return The number of contacts actually deleted
+     */
+    default int deleteContacts(Collection<String> names) {
+        int deleted = 0;
+        for (String name : names) {
+            if (deleteContact(name).isDone()) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
 
     /**
      * Updates the name and student ID of an existing contact.
@@ -37,8 +111,16 @@ public interface ContactsManager {
      * @param contact The contact object that needs to be changed
      * @param newName The new name to replace the old contact's name
      * @param newStudentId New student ID as a replacement (can be the same as old one)
+     * @return DONE with the updated contact, NOT_FOUND if the contact does not exist, or ALREADY_EXISTS if another contact has the new name (graph books keep names unique)
+     */
+    OperationResult updateContact(Contact contact, String newName, int newStudentId);
+
+    /**
+     * Sets where the data structure reports its events (contact added, not found, already exists, ...).
+     * Nothing is reported by default, so operations do no formatting or I/O for messages.
+     * @param sink The sink to report to, e.g. ContactsEventSink.console(...), or ContactsEventSink.NONE
      */
-    void updateContact(Contact contact, String newName, int newStudentId);
+    void setEventSink(ContactsEventSink sink);
 
     /**
      * Retrieves all contacts stored in the system as a list.
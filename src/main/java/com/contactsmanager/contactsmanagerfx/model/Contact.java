@@ -4,10 +4,14 @@ import java.util.Objects;
 
 /**
  * Represents a contact with a name and student ID.
+ * The normalized name (trimmed, lowercase) and the hash code are computed once and
+ * recomputed by the setters, so lookups in hash-based collections do not allocate strings.
  */
 public class Contact {
     private String name;
     private int studentId;
+    private String normalizedName; // Cached normalize(name)
+    private int hash; // Cached hashCode(), depends on normalizedName and studentId
 
     /**
      * Constructs a new Contact with the specified name and student ID.
@@ -18,6 +22,17 @@ public class Contact {
     public Contact(String name, int studentId) {
         this.name = name;
         this.studentId = studentId;
+        this.normalizedName = normalize(name);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Normalizes a contact name into the form used for comparisons and name indexes (trimmed, lowercase).
+     * @param name The contact name
+     * @return The normalized name, or null if name is null
+     */
+    public static String normalize(String name) {
+        return name == null ? null : name.trim().toLowerCase();
     }
 
     /**
@@ -34,6 +49,16 @@ public class Contact {
      */
     public void setName(String name) {
         this.name = name;
+        this.normalizedName = normalize(name);
+        this.hash = computeHash();
+    }
+
+    /**
+     * Returns the normalized name of the contact (trimmed, lowercase).
+     * @return The cached normalized name, or null if the name is null
+     */
+    public String getNormalizedName() {
+        return this.normalizedName;
     }
 
     /**
@@ -50,6 +75,7 @@ public class Contact {
      */
     public void setStudentId(int studentId) {
         this.studentId = studentId;
+        this.hash = computeHash();
     }
 
     /**
@@ -73,15 +99,11 @@ public class Contact {
         if (!(o instanceof Contact)) return false;
         Contact contact = (Contact) o;
 
-        // Compare student IDs
-        if (studentId != contact.studentId) return false;
+        // Compare student IDs and cached hashes first, they are cheap
+        if (studentId != contact.studentId || hash != contact.hash) return false;
 
-        // Compare names, handling null values and trimming whitespace
-        if (name == null) {
-            return contact.name == null;
-        } else {
-            return name.trim().equalsIgnoreCase(contact.name == null ? null : contact.name.trim());
-        }
+        // Compare the cached normalized names, handling null values
+        return Objects.equals(normalizedName, contact.normalizedName);
     }
 
     /**
@@ -92,9 +114,12 @@ public class Contact {
      */
     @Override
     public int hashCode() {
-        // Use the trimmed, lowercase name for hash code calculation to be consistent with equals
-        String normalizedName = name == null ? null : name.trim().toLowerCase();
-        return Objects.hash(normalizedName, studentId);
+        return hash;
+    }
+
+    // Uses the trimmed, lowercase name for hash code calculation to be consistent with equals
+    private int computeHash() {
+        return 31 * Objects.hashCode(normalizedName) + studentId;
     }
 
 
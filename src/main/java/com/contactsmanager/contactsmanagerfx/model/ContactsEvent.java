@@ -0,0 +1,64 @@
+package com.contactsmanager.contactsmanagerfx.model;
+
+/**
+ * Things a contacts book reports while it works: changes it made and requests it could not carry out.
+ * Books hand the event and its raw arguments to a ContactsEventSink; the message is only built
+ * by sinks that actually show it, so a book with the default sink does no formatting or I/O.
+ */
+public enum ContactsEvent {
+    CONTACT_ADDED(Severity.INFO, "Added contact %s."),
+    CONTACTS_ADDED(Severity.INFO, "Added %s of %s contacts."),
+    CONTACT_EXISTS(Severity.WARNING, "Contact with name '%s' already exists. Failed to put in contact."),
+    CONTACT_UPDATED(Severity.INFO, "Updated contact: %s -> %s"),
+    CONTACT_NAME_TAKEN(Severity.WARNING, "Contact with name '%s' already exists. Update unsuccessful."),
+    CONTACT_DELETED(Severity.INFO, "Deleted contact: %s"),
+    CONTACTS_DELETED(Severity.INFO, "Deleted %s contacts."),
+    CONTACT_NOT_FOUND(Severity.WARNING, "Contact not found: %s"),
+    CONTACTS_FULL(Severity.WARNING, "No space left in contacts book."),
+    CONNECTION_ADDED(Severity.INFO, "Connection added between %s and %s"),
+    CONNECTIONS_ADDED(Severity.INFO, "Added %s of %s connections."),
+    CONNECTION_EXISTS(Severity.WARNING, "Connection between %s and %s already exists."),
+    CONNECTION_NOT_FOUND(Severity.WARNING, "Connection between %s and %s does not exist."),
+    CONNECTION_CONTACTS_NOT_FOUND(Severity.WARNING, "One or both contacts not found (%s, %s). Cannot perform connection operation."),
+    INVALID_NAME(Severity.WARNING, "Contact names cannot be null or empty"),
+    NO_CONNECTIONS(Severity.INFO, "Unable to suggest contacts for %s - no connections found."),
+    NO_SUGGESTIONS(Severity.INFO, "%s's friends don't know anyone."),
+    NO_PATH(Severity.INFO, "No chain of connections from %s to %s."),
+    READ_ONLY(Severity.WARNING, "Contacts book is read-only. Cannot %s (%s).");
+
+    /**
+     * How important an event is, so sinks can filter (INFO < WARNING).
+     */
+    public enum Severity { INFO, WARNING }
+
+    private final Severity severity;
+    private final String template;
+
+    ContactsEvent(Severity severity, String template) {
+        this.severity = severity;
+        this.template = template;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Builds the readable message of this event.
+     * Contacts are shown by name and student ID, missing arguments are left out.
+     *
+     * @param subject The first argument (a name, a Contact or a count), may be null
+     * @param detail The second argument, may be null
+     * @return The message
+     */
+    public String format(Object subject, Object detail) {
+        return String.format(template, describe(subject), describe(detail));
+    }
+
+    private static Object describe(Object argument) {
+        if (argument instanceof Contact contact) {
+            return "'" + contact.getName() + "' | Student ID: " + contact.getStudentId();
+        }
+        return argument == null ? "" : argument;
+    }
+}
@@ -0,0 +1,57 @@
+package com.contactsmanager.contactsmanagerfx.model;
+
+/**
+ * What a change to a contacts book did: whether it was carried out and, if so, the contact it affected.
+ * Returned by the add/update/delete and connection methods, so callers can act on one call
+ * instead of searching before or after the change.
+ *
+ * @param outcome What happened
+ * @param contact The affected contact (added, updated, deleted, or the first contact of a connection), null unless done
+ */
+public record OperationResult(Outcome outcome, Contact contact) {
+
+    /**
+     * Why a change was or was not carried out.
+     */
+    public enum Outcome {
+        DONE, // The change was made
+        NOT_FOUND, // A named contact or connection does not exist
+        ALREADY_EXISTS, // The name or connection is already taken
+        INVALID, // A name is null or empty
+        FULL, // No room left (fixed-capacity books)
+        READ_ONLY // The book cannot be changed
+    }
+
+    // Failures carry no contact, so one shared instance per outcome is enough
+    private static final OperationResult[] FAILURES = new OperationResult[Outcome.values().length];
+    static {
+        for (Outcome outcome : Outcome.values()) {
+            FAILURES[outcome.ordinal()] = new OperationResult(outcome, null);
+        }
+    }
+
+    /**
+     * Result of a change that was made.
+     * @param contact The affected contact
+     * @return The result
+     */
+    public static OperationResult done(Contact contact) {
+        return new OperationResult(Outcome.DONE, contact);
+    }
+
+    /**
+     * Result of a change that was not made.
+     * @param outcome Why it was not made (not DONE)
+     * @return The shared result for that outcome
+     */
+    public static OperationResult failed(Outcome outcome) {
+        return FAILURES[outcome.ordinal()];
+    }
+
+    /**
+     * @return true if the change was made
+     */
+    public boolean isDone() {
+        return outcome == Outcome.DONE;
+    }
+}
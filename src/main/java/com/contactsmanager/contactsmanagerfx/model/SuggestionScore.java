@@ -0,0 +1,11 @@
+package com.contactsmanager.contactsmanagerfx.model;
+
+/**
+ * How ranked suggestions order the friends-of-friends of a contact.
+ * Every score grows with the connections a candidate shares with the contact.
+ */
+public enum SuggestionScore {
+    MUTUAL_FRIENDS, // Number of shared connections
+    ADAMIC_ADAR, // Shared connections weighted by 1 / ln(degree), so a friend with few connections counts more than a hub
+    JACCARD // Shared connections / all connections of the two, so people with huge networks do not always win
+}
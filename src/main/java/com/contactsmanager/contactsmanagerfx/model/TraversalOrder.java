@@ -0,0 +1,9 @@
+package com.contactsmanager.contactsmanagerfx.model;
+
+/**
+ * The order a graph traversal visits the contacts reachable from its start.
+ */
+public enum TraversalOrder {
+    BREADTH_FIRST, // Closest contacts first, level by level
+    DEPTH_FIRST // Follows each chain of connections as far as it goes before backtracking
+}
@@ -27,7 +27,7 @@ public class DataStructureComparator {
     private static final double OUTLIER_THRESHOLD = 1.5; // IQR multiplier for outlier detection
 
     private int currentBatchSize = 0; // Add this field to track the actual batch size
-    private static final int MAX_MATRIX_SIZE = 10000; // Maximum size for adjacency matrix
+    private static final int MAX_MATRIX_SIZE = 10000; // Largest initial capacity for adjacency matrix, it grows past this when needed
 
     /**
      * Creates a new DataStructureComparator.
@@ -86,6 +86,30 @@ public class DataStructureComparator {
     }
 
 
+    /**
+     * Creates a new, empty contacts book of the same kind as the given one, for the add contact runs.
+     *
+     * @param structure The registered data structure
+     * @param matrixSize Initial capacity for the adjacency matrix
+     * @return An empty contacts book of the same class
+     */
+    private ContactsManager newEmptyLike(ContactsManager structure, int matrixSize) {
+        if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB) {
+            return new com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB();
+        } else if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB) {
+            return new com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB(matrixSize);
+        } else if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.IntAdjacencyListGraphCB) {
+            return new com.contactsmanager.contactsmanagerfx.dataStructures.IntAdjacencyListGraphCB();
+        } else if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentAdjacencyListGraphCB) {
+            return new com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentAdjacencyListGraphCB();
+        } else if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentAdjacencyMatrixGraphCB) {
+            return new com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentAdjacencyMatrixGraphCB(currentBatchSize); // Fixed capacity, cannot grow
+        } else if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentHashMapCB) {
+            return new com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentHashMapCB();
+        }
+        return new com.contactsmanager.contactsmanagerfx.dataStructures.HashMapCB();
+    }
+
     /**
      * Compares the performance of adding a contact across all data structures.
      *
@@ -98,16 +122,19 @@ public class DataStructureComparator {
 
         for (int i = 0; i < contactStructures.size(); i++) {
             String name = structureNames.get(i);
+            if (skipReadOnly(i, "addContact")) {
+                continue;
+            }
+
             List<PerformanceMetric> runMetrics = new ArrayList<>();
 
-            // For matrix, use a more reasonable size
+            // For matrix, preallocate up to a reasonable size and let it grow for the rest
             int matrixSize = Math.min(currentBatchSize, MAX_MATRIX_SIZE);
             if (name.equals("Adjacency Matrix")) {
-                System.out.printf("Using matrix size: %d x %d\n", matrixSize, matrixSize);
+                System.out.printf("Using initial matrix capacity: %d x %d\n", matrixSize, matrixSize);
             }
 
             for (int run = 0; run < runs; run++) {
-                final int currentRun = run; // Make effectively final for lambda
 
                 // Show progress
                 System.out.printf("  [%s] Run %d/%d... ", name, run + 1, runs);
@@ -115,23 +142,13 @@ public class DataStructureComparator {
                 // Extended warmup for larger datasets to ensure JVM optimization
                 int warmupRuns = Math.max(3, currentBatchSize / 2000);
                 for (int w = 0; w < warmupRuns; w++) {
-                    final int warmupIndex = w; // Make effectively final for lambda
-                    ContactsManager warmupDs;
-                    if (contactStructures.get(i) instanceof com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB) {
-                        warmupDs = new com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB();
-                    } else if (contactStructures.get(i) instanceof com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB) {
-                        warmupDs = new com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB(matrixSize);
-                    } else {
-                        warmupDs = new com.contactsmanager.contactsmanagerfx.dataStructures.HashMapCB();
-                    }
+                    ContactsManager warmupDs = newEmptyLike(contactStructures.get(i), matrixSize);
 
-                    PerformanceMeasurement.suppressConsoleOutput(() -> {
-                        int warmupSize = Math.min(200, currentBatchSize / 10);
-                        for (int j = 0; j < warmupSize; j++) {
-                            Contact temp = new Contact("Warmup" + warmupIndex + "_" + j, 999000 + warmupIndex * 1000 + j);
-                            warmupDs.addContact(temp);
-                        }
-                    });
+                    int warmupSize = Math.min(200, currentBatchSize / 10);
+                    for (int j = 0; j < warmupSize; j++) {
+                        Contact temp = new Contact("Warmup" + w + "_" + j, 999000 + w * 1000 + j);
+                        warmupDs.addContact(temp);
+                    }
                 }
 
                 // Stabilize memory and get baseline
@@ -141,24 +158,18 @@ public class DataStructureComparator {
                 // Create data structure and measure its memory footprint
                 long beforeMemory = getUsedMemory();
 
-                ContactsManager ds;
-                if (contactStructures.get(i) instanceof com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB) {
-                    ds = new com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB();
-                } else if (contactStructures.get(i) instanceof com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB) {
-                    ds = new com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB(matrixSize);
-                } else {
-                    ds = new com.contactsmanager.contactsmanagerfx.dataStructures.HashMapCB();
-                }
+                ContactsManager ds = newEmptyLike(contactStructures.get(i), matrixSize);
 
                 // Time the contact addition
                 long startTime = System.nanoTime();
-                PerformanceMeasurement.suppressConsoleOutput(() -> {
-                    // Add all contacts without any interruptions or console output
-                    for (int j = 0; j < currentBatchSize; j++) {
-                        Contact temp = new Contact(contact.getName() + currentRun + "_" + j, contact.getStudentId() + currentRun + j);
-                        ds.addContact(temp);
+                // Add all contacts without any interruptions (books report nothing unless given an event sink)
+                int addedCount = 0;
+                for (int j = 0; j < currentBatchSize; j++) {
+                    Contact temp = new Contact(contact.getName() + run + "_" + j, contact.getStudentId() + run + j);
+                    if (ds.addContact(temp).isDone()) {
+                        addedCount++;
                     }
-                });
+                }
                 long endTime = System.nanoTime();
 
                 // Measure total memory after everything is added
@@ -174,9 +185,8 @@ public class DataStructureComparator {
                 PerformanceMetric metric = new PerformanceMetric(timeTaken, memoryUsed, name, "addContact");
 
                 // Verify the number of contacts actually added
-                int actualCount = ds.listAllContacts().size();
-                if (actualCount != currentBatchSize) {
-                    System.out.println("Warning: Expected " + currentBatchSize + " contacts but found " + actualCount);
+                if (addedCount != currentBatchSize) {
+                    System.out.println("Warning: Expected " + currentBatchSize + " contacts but added " + addedCount);
                 }
 
                 runMetrics.add(metric);
@@ -198,6 +208,23 @@ public class DataStructureComparator {
         return this;
     }
 
+    /**
+     * Skips a read-only snapshot in a mutating comparison, since it would only time the rejection.
+     *
+     * @param index The structure's position in the comparator
+     * @param operationName The name of the operation
+     * @return true if the structure is read-only and was skipped
+     */
+    private boolean skipReadOnly(int index, String operationName) {
+        ContactsManager structure = contactStructures.get(index);
+        if (structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.CsrGraphCB
+                || structure instanceof com.contactsmanager.contactsmanagerfx.dataStructures.MappedGraphCB) {
+            System.out.printf("[SKIPPED] %s - %s: Read-only snapshot.\n", structureNames.get(index), operationName);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Generates realistic connections between contacts to make suggest feature meaningful.
      * Creates a network where each contact has 2-5 connections on average.
@@ -273,6 +300,7 @@ public class DataStructureComparator {
             // Create connections using a random but balanced approach
             java.util.Random random = new java.util.Random(42); // Fixed seed for reproducible results
             java.util.Set<String> createdConnections = new java.util.HashSet<>();
+            List<String[]> pairs = new ArrayList<>(targetConnections); // Added in one batch at the end
             int connectionsCreated = 0;
 
             // Progress tracking
@@ -292,8 +320,7 @@ public class DataStructureComparator {
                     String connectionKey = createConnectionKey(contact1.getName(), contact2.getName());
 
                     if (!createdConnections.contains(connectionKey)) {
-                        PerformanceMeasurement.suppressConsoleOutput(() ->
-                            cm.addConnection(contact1.getName(), contact2.getName()));
+                        pairs.add(new String[]{contact1.getName(), contact2.getName()});
                         createdConnections.add(connectionKey);
                         connectionsCreated++;
 
@@ -321,8 +348,7 @@ public class DataStructureComparator {
                 String connectionKey = createConnectionKey(contact1.getName(), contact2.getName());
 
                 if (!createdConnections.contains(connectionKey)) {
-                    PerformanceMeasurement.suppressConsoleOutput(() ->
-                        cm.addConnection(contact1.getName(), contact2.getName()));
+                    pairs.add(new String[]{contact1.getName(), contact2.getName()});
                     createdConnections.add(connectionKey);
                     connectionsCreated++;
 
@@ -341,7 +367,11 @@ public class DataStructureComparator {
                 }
             }
 
-            System.out.printf("Created %d connections for %s\n", connectionsCreated, name);
+            int addedConnections = cm.addConnections(pairs);
+            if (addedConnections != connectionsCreated) {
+                System.out.println("Warning: Expected " + connectionsCreated + " connections but added " + addedConnections);
+            }
+            System.out.printf("Created %d connections for %s\n", addedConnections, name);
         }
 
         System.out.println("=== Connection Generation Complete ===\n");
@@ -383,6 +413,9 @@ public class DataStructureComparator {
         for (int i = 0; i < contactStructures.size(); i++) {
             ContactsManager ds = contactStructures.get(i);
             String structureName = structureNames.get(i);
+            if (skipReadOnly(i, "deleteContact")) {
+                continue;
+            }
 
             List<PerformanceMetric> runMetrics = new ArrayList<>();
             for (int run = 0; run < runs; run++) {
@@ -400,8 +433,7 @@ public class DataStructureComparator {
                 int amplificationFactor = Math.max(1000, currentBatchSize); // Much higher amplification to match addContact behavior
                 long startTime = System.nanoTime();
                 for (int amp = 0; amp < amplificationFactor; amp++) {
-                    final int ampFinal = amp; // Make effectively final for lambda
-                    PerformanceMeasurement.suppressConsoleOutput(() -> ds.deleteContact(nameToDelete + "_amp" + ampFinal));
+                    ds.deleteContact(nameToDelete + "_amp" + amp);
                 }
                 long endTime = System.nanoTime();
 
@@ -453,6 +485,9 @@ public class DataStructureComparator {
         for (int i = 0; i < contactStructures.size(); i++) {
             ContactsManager ds = contactStructures.get(i);
             String structureName = structureNames.get(i);
+            if (skipReadOnly(i, "updateContact")) {
+                continue;
+            }
 
             List<PerformanceMetric> runMetrics = new ArrayList<>();
             for (int run = 0; run < runs; run++) {
@@ -471,9 +506,8 @@ public class DataStructureComparator {
                 int amplificationFactor = Math.max(100, Math.min(2000, currentBatchSize / 2));
                 long startTime = System.nanoTime();
                 for (int amp = 0; amp < amplificationFactor; amp++) {
-                    final int ampFinal = amp; // Make effectively final for lambda
-                    Contact originalContact = new Contact(originalName + "_amp" + ampFinal, originalId + ampFinal);
-                    PerformanceMeasurement.suppressConsoleOutput(() -> ds.updateContact(originalContact, newName + "_amp" + ampFinal, newId + ampFinal));
+                    Contact originalContact = new Contact(originalName + "_amp" + amp, originalId + amp);
+                    ds.updateContact(originalContact, newName + "_amp" + amp, newId + amp);
                 }
                 long endTime = System.nanoTime();
 
@@ -615,6 +649,9 @@ public class DataStructureComparator {
                 System.out.printf("Time: 0.000000 ms, Memory: %s\n", formatMemory(0));
                 continue;
             }
+            if (skipReadOnly(i, operationName)) {
+                continue;
+            }
 
             List<PerformanceMetric> runMetrics = new ArrayList<>();
             for (int run = 0; run < runs; run++) {
@@ -625,7 +662,7 @@ public class DataStructureComparator {
                 stabilizeMemoryEnvironment();
 
                 long startTime = System.nanoTime();
-                PerformanceMeasurement.suppressConsoleOutput(() -> operation.accept(cm));
+                operation.accept(cm);
                 long endTime = System.nanoTime();
 
                 long timeTaken = endTime - startTime;
@@ -676,7 +713,7 @@ public class DataStructureComparator {
             if (i == 0) {
                 System.out.printf("  [%s] Performing JVM warmup for consistent measurements...%n", name);
                 for (int warmup = 0; warmup < 5; warmup++) {
-                    PerformanceMeasurement.suppressConsoleOutput(() -> operation.apply(cm));
+                    operation.apply(cm);
                     System.gc();
                     try { Thread.sleep(50); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
                 }
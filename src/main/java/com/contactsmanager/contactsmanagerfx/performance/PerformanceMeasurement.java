@@ -1,8 +1,5 @@
 package com.contactsmanager.contactsmanagerfx.performance;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
-
 /**
  * Utility class for measuring performance metrics.
  */
@@ -27,7 +24,7 @@ public class PerformanceMeasurement {
 
         // Multiple warmup runs for JIT optimization
         for (int i = 0; i < 3; i++) {
-            suppressConsoleOutput(() -> operation.run());
+            operation.run();
         }
 
         // Force garbage collection and wait for stabilization
@@ -41,7 +38,7 @@ public class PerformanceMeasurement {
             // For addContact, measure total memory footprint after all contacts are added
             long beforeMemory = getUsedMemory();
             long startTime = System.nanoTime();
-            suppressConsoleOutput(() -> operation.run());
+            operation.run();
             long endTime = System.nanoTime();
 
             // Force GC to get accurate memory reading
@@ -66,7 +63,7 @@ public class PerformanceMeasurement {
             int iterations = 10;
             long startTime = System.nanoTime();
             for (int i = 0; i < iterations; i++) {
-                suppressConsoleOutput(() -> operation.run());
+                operation.run();
             }
             long endTime = System.nanoTime();
 
@@ -107,7 +104,7 @@ public class PerformanceMeasurement {
 
         // Multiple warmup runs for JIT optimization
         for (int i = 0; i < 3; i++) {
-            suppressConsoleOutputWithResult(operation);
+            operation.execute();
         }
 
         // Stabilize memory before measurement
@@ -120,7 +117,7 @@ public class PerformanceMeasurement {
         T result = null;
         long startTime = System.nanoTime();
         for (int i = 0; i < iterations; i++) {
-            result = suppressConsoleOutputWithResult(operation);
+            result = operation.execute();
         }
         long endTime = System.nanoTime();
 
@@ -147,52 +144,6 @@ public class PerformanceMeasurement {
         return runtime.totalMemory() - runtime.freeMemory();
     }
 
-    /**
-     * Suppresses console output during operation execution to prevent I/O overhead.
-     */
-    public static void suppressConsoleOutput(Runnable operation) {
-        PrintStream originalOut = System.out;
-        try {
-            // Redirect System.out to a dummy stream
-            System.setOut(new PrintStream(new ByteArrayOutputStream()));
-            operation.run();
-        } finally {
-            // Restore original System.out
-            System.setOut(originalOut);
-        }
-    }
-
-    /**
-     * Suppresses console output during operation execution and returns the result.
-     */
-    public static <T> T suppressConsoleOutputWithResult(Operation<T> operation) {
-        PrintStream originalOut = System.out;
-        try {
-            // Redirect System.out to a dummy stream
-            System.setOut(new PrintStream(new ByteArrayOutputStream()));
-            return operation.execute();
-        } finally {
-            // Restore original System.out
-            System.setOut(originalOut);
-        }
-    }
-
-    /**
-     * Suppresses console output during operation execution and returns the result.
-     * Overloaded version that accepts a Supplier.
-     */
-    public static <T> T suppressConsoleOutputWithResult(java.util.function.Supplier<T> operation) {
-        PrintStream originalOut = System.out;
-        try {
-            // Redirect System.out to a dummy stream
-            System.setOut(new PrintStream(new ByteArrayOutputStream()));
-            return operation.get();
-        } finally {
-            // Restore original System.out
-            System.setOut(originalOut);
-        }
-    }
-
     /**
      * Interface for operations that return a result.
      */
@@ -2,9 +2,16 @@ package com.contactsmanager.contactsmanagerfx.performance;
 
 import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB;
 import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentAdjacencyListGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentAdjacencyMatrixGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.ConcurrentHashMapCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.CsrGraphCB;
 import com.contactsmanager.contactsmanagerfx.dataStructures.HashMapCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.IntAdjacencyListGraphCB;
 import com.contactsmanager.contactsmanagerfx.model.Contact;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -26,14 +33,22 @@ public class PerformanceTest {
 
         // Create data structures with proper sizing
         AdjacencyListGraphCB graph = new AdjacencyListGraphCB();
-        AdjacencyMatrixGraphCB matrixGraph = new AdjacencyMatrixGraphCB(Math.min(contactCount, 10000));
+        IntAdjacencyListGraphCB intGraph = new IntAdjacencyListGraphCB();
+        AdjacencyMatrixGraphCB matrixGraph = new AdjacencyMatrixGraphCB(Math.min(contactCount, 10000)); // Initial capacity, grows if needed
         HashMapCB hash = new HashMapCB();
+        ConcurrentAdjacencyListGraphCB concurrentGraph = new ConcurrentAdjacencyListGraphCB();
+        ConcurrentAdjacencyMatrixGraphCB concurrentMatrixGraph = new ConcurrentAdjacencyMatrixGraphCB(contactCount + 1); // Fixed capacity, room for the added test contact
+        ConcurrentHashMapCB concurrentHash = new ConcurrentHashMapCB();
 
         // Setup the enhanced comparator with runtime environment monitoring
         DataStructureComparator comparator = new DataStructureComparator(DEFAULT_RUNS)
                 .addDataStructure(graph, graph, "Adjacency List")
+                .addDataStructure(intGraph, intGraph, "Int Adjacency List")
                 .addDataStructure(matrixGraph, matrixGraph, "Adjacency Matrix")
-                .addDataStructure(hash, "HashMap");
+                .addDataStructure(hash, "HashMap")
+                .addDataStructure(concurrentGraph, concurrentGraph, "Concurrent Adjacency List")
+                .addDataStructure(concurrentMatrixGraph, concurrentMatrixGraph, "Concurrent Adjacency Matrix")
+                .addDataStructure(concurrentHash, "ConcurrentHashMap");
 
         // Always generate contacts
         Contact[] contacts = new Contact[contactCount];
@@ -46,14 +61,14 @@ public class PerformanceTest {
             System.out.println("Initializing data structures...");
             long setupStart = System.currentTimeMillis();
 
-            // Suppress console output during setup to avoid measurement interference
-            PerformanceMeasurement.suppressConsoleOutput(() -> {
-                for (Contact contact : contacts) {
-                    graph.addContact(contact);
-                    matrixGraph.addContact(contact);
-                    hash.addContact(contact);
-                }
-            });
+            List<Contact> batch = Arrays.asList(contacts);
+            graph.addContacts(batch);
+            intGraph.addContacts(batch);
+            matrixGraph.addContacts(batch);
+            hash.addContacts(batch);
+            concurrentGraph.addContacts(batch);
+            concurrentMatrixGraph.addContacts(batch);
+            concurrentHash.addContacts(batch);
 
             long setupTime = System.currentTimeMillis() - setupStart;
             System.out.printf("Setup completed in %d ms\n", setupTime);
@@ -68,6 +83,10 @@ public class PerformanceTest {
             }
         }
 
+        // Freeze the populated adjacency list into a read-only CSR snapshot to compare the read paths side by side
+        CsrGraphCB csrGraph = CsrGraphCB.freeze(graph);
+        comparator.addDataStructure(csrGraph, csrGraph, "CSR Snapshot");
+
         // Run the requested operations
         for (String operation : operations) {
             System.out.println("Testing: " + operation.toUpperCase());
@@ -0,0 +1,56 @@
+package com.contactsmanager.contactsmanagerfx.persistence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces files all at once: the new content is written next to the target, synced, and moved over it,
+ * so a crash in the middle never leaves a half-written file behind.
+ * Used by the snapshot and mapped graph writers.
+ */
+public final class AtomicFiles {
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Writes the content of a file to a channel.
+     */
+    @FunctionalInterface
+    public interface IOConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+
+    // REPLACE A FILE
+    /**
+     * Writes a temporary file next to the target with the given writer, syncs it, and moves it over the target.
+     * @param path The file, replaced if it exists
+     * @param writer Writes the whole content to the temporary file's channel
+     * @throws IOException if the file cannot be written; the target is left as it was
+     */
+    public static void replace(Path path, IOConsumer<FileChannel> writer) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writer.accept(channel);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(path.toAbsolutePath().getParent()); // The rename itself must survive a power loss too
+    }
+
+    // HELPER FUNCTION: FLUSH A DIRECTORY'S ENTRIES TO DISK
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            if (!System.getProperty("os.name").startsWith("Windows")) { // Windows cannot open directories, and syncs renames itself
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.contactsmanager.contactsmanagerfx.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Buffers written values in a direct buffer and writes them to a channel a buffer at a time.
+ * Subclasses can look at each full buffer before it goes out, e.g. to checksum it.
+ */
+public class ChannelOutput {
+    protected final FileChannel channel;
+    protected final ByteBuffer buffer;
+
+    /**
+     * @param channel The channel written to
+     * @param bufferSize The size of the direct buffer, in bytes
+     */
+    public ChannelOutput(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Makes room for a number of bytes, at most the buffer size, writing the buffer out if needed.
+     * @param needed The bytes about to be put
+     * @throws IOException if the channel cannot be written
+     */
+    public void ensure(int needed) throws IOException {
+        if (buffer.remaining() < needed) {
+            flush();
+        }
+    }
+
+    public void putByte(byte value) throws IOException {
+        ensure(1);
+        buffer.put(value);
+    }
+
+    public void putInt(int value) throws IOException {
+        ensure(4);
+        buffer.putInt(value);
+    }
+
+    public void putLong(long value) throws IOException {
+        ensure(8);
+        buffer.putLong(value);
+    }
+
+    public void putBytes(byte[] bytes) throws IOException {
+        int done = 0;
+        while (done < bytes.length) { // Names longer than the buffer go out in pieces
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int chunk = Math.min(buffer.remaining(), bytes.length - done);
+            buffer.put(bytes, done, chunk);
+            done += chunk;
+        }
+    }
+
+    /**
+     * Writes out everything buffered so far.
+     * @throws IOException if the channel cannot be written
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        beforeWrite(buffer);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Called with the filled part of the buffer just before it is written, positioned at its start.
+     * The position must be back at the start when this returns.
+     * @param filled The bytes about to be written
+     */
+    protected void beforeWrite(ByteBuffer filled) {
+    }
+}
@@ -0,0 +1,407 @@
+package com.contactsmanager.contactsmanagerfx.persistence;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-ahead log of the changes made to a contacts book, so the book can be rebuilt after a restart or a crash.
+ * Every change (add, delete, update, connect, disconnect) is appended as one binary record:
+ * [int length][byte type][fields][int CRC32C of type and fields], with names stored as unsigned-short-prefixed UTF-8.
+ * <p>
+ * Records are buffered and written with one FileChannel write per commit (group commit), and the file is
+ * fsynced every syncEvery commits: 1 makes every commit durable, larger values trade the last few commits
+ * on power loss for fewer fsyncs, 0 leaves flushing to the OS.
+ * A record cut short by a crash fails its length or checksum check, so replay stops right before it,
+ * and open() truncates it before appending.
+ * <p>
+ * Changes are logged as requested, before they are applied, whether they succeed or not;
+ * replaying them in order against an empty book makes the same decisions again.
+ * The methods are synchronized, so one log can be shared by threads changing a concurrent book.
+ */
+public final class ContactsLog implements Closeable {
+
+    private static final int MAGIC = 0x43424C31; // "CBL1": contacts book log, format version 1
+    private static final int HEADER_SIZE = 4;
+
+    private static final byte ADD_CONTACT = 1;
+    private static final byte DELETE_CONTACT = 2;
+    private static final byte UPDATE_CONTACT = 3;
+    private static final byte ADD_CONNECTION = 4;
+    private static final byte REMOVE_CONNECTION = 5;
+
+    private static final int MAX_NAME_BYTES = 0xFFFF; // Name lengths are stored as unsigned shorts
+    private static final int MAX_BODY = 1 + 2 * (2 + MAX_NAME_BYTES) + 4; // Longest type and fields: an update
+    private static final int BUFFER_SIZE = 1 << 20; // Holds many records, and always at least one
+    private static final int REPLAY_BATCH = 1 << 16; // Contacts or connections handed to the bulk methods at once
+
+    private final FileChannel channel;
+    private final int syncEvery;
+    private final ByteBuffer pending = ByteBuffer.allocateDirect(BUFFER_SIZE); // Records not written to the file yet
+    private final CRC32C crc = new CRC32C();
+    private int commitsSinceSync = 0;
+
+    private ContactsLog(FileChannel channel, int syncEvery) {
+        this.channel = channel;
+        this.syncEvery = syncEvery;
+    }
+
+    /**
+     * Opens a log for appending, creating it if needed. A torn record left at the end by a crash is cut off.
+     * @param path The log file
+     * @param syncEvery Fsync after this many commits (1 = every commit, 0 = never)
+     * @return The open log, positioned at its end
+     * @throws IOException if the file cannot be opened, or is not a contacts log
+     */
+    public static ContactsLog open(Path path, int syncEvery) throws IOException {
+        if (syncEvery < 0) {
+            throw new IllegalArgumentException("syncEvery must not be negative: " + syncEvery);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC);
+                header.flip();
+                channel.write(header);
+                channel.force(true);
+            } else {
+                channel.truncate(scan(channel, null)); // Drop a torn tail, so new records follow the last valid one
+            }
+            channel.position(channel.size());
+            return new ContactsLog(channel, syncEvery);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Appending ========================================================*/
+
+    /**
+     * Logs ContactsManager.addContact.
+     * @param contact The contact to be added
+     * @throws IOException if a full buffer cannot be written out
+     */
+    public synchronized void addContact(Contact contact) throws IOException {
+        byte[] name = utf8(contact.getName());
+        int start = beginRecord(ADD_CONTACT, 2 + name.length + 4);
+        putName(name);
+        pending.putInt(contact.getStudentId());
+        endRecord(start);
+    }
+
+    /**
+     * Logs ContactsManager.deleteContact.
+     * @param name The name of the contact to be deleted
+     * @throws IOException if a full buffer cannot be written out
+     */
+    public synchronized void deleteContact(String name) throws IOException {
+        byte[] bytes = utf8(name);
+        int start = beginRecord(DELETE_CONTACT, 2 + bytes.length);
+        putName(bytes);
+        endRecord(start);
+    }
+
+    /**
+     * Logs ContactsManager.updateContact. Only the contact's name is kept, as the book finds it by name.
+     * @param contact The contact that needs to be changed
+     * @param newName The new name
+     * @param newStudentId The new student ID
+     * @throws IOException if a full buffer cannot be written out
+     */
+    public synchronized void updateContact(Contact contact, String newName, int newStudentId) throws IOException {
+        byte[] oldBytes = utf8(contact.getName());
+        byte[] newBytes = utf8(newName);
+        int start = beginRecord(UPDATE_CONTACT, 2 + oldBytes.length + 2 + newBytes.length + 4);
+        putName(oldBytes);
+        putName(newBytes);
+        pending.putInt(newStudentId);
+        endRecord(start);
+    }
+
+    /**
+     * Logs ConnectionsManager.addConnection.
+     * @param contact1 The name of the first contact
+     * @param contact2 The name of the second contact
+     * @throws IOException if a full buffer cannot be written out
+     */
+    public synchronized void addConnection(String contact1, String contact2) throws IOException {
+        appendPair(ADD_CONNECTION, contact1, contact2);
+    }
+
+    /**
+     * Logs ConnectionsManager.removeConnection.
+     * @param contact1 The name of the first contact
+     * @param contact2 The name of the second contact
+     * @throws IOException if a full buffer cannot be written out
+     */
+    public synchronized void removeConnection(String contact1, String contact2) throws IOException {
+        appendPair(REMOVE_CONNECTION, contact1, contact2);
+    }
+
+    private void appendPair(byte type, String contact1, String contact2) throws IOException {
+        byte[] first = utf8(contact1);
+        byte[] second = utf8(contact2);
+        int start = beginRecord(type, 2 + first.length + 2 + second.length);
+        putName(first);
+        putName(second);
+        endRecord(start);
+    }
+
+    // HELPER FUNCTION: MAKE ROOM FOR A RECORD AND WRITE ITS LENGTH AND TYPE, RETURNS WHERE IT STARTS
+    private int beginRecord(byte type, int fieldsLength) throws IOException {
+        if (pending.remaining() < 4 + 1 + fieldsLength + 4) {
+            writePending(); // Records larger than one buffer never happen, names are capped
+        }
+        int start = pending.position();
+        pending.putInt(1 + fieldsLength);
+        pending.put(type);
+        return start;
+    }
+
+    // HELPER FUNCTION: CLOSE A RECORD WITH THE CHECKSUM OF ITS TYPE AND FIELDS
+    private void endRecord(int start) {
+        ByteBuffer body = pending.duplicate();
+        body.limit(pending.position());
+        body.position(start + 4);
+        crc.reset();
+        crc.update(body);
+        pending.putInt((int) crc.getValue());
+    }
+
+    private void putName(byte[] name) {
+        pending.putShort((short) name.length);
+        pending.put(name);
+    }
+
+    private static byte[] utf8(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Name is too long to be logged (" + bytes.length + " bytes)");
+        }
+        return bytes;
+    }
+
+    /*========================================================================*/
+    /*===== Committing =======================================================*/
+
+    /**
+     * Writes every record appended since the last commit with a single write, and fsyncs if syncEvery commits are reached.
+     * Call it once per change, or once per batch of changes to group them.
+     * @throws IOException if the records cannot be written
+     */
+    public synchronized void commit() throws IOException {
+        writePending();
+        if (syncEvery > 0 && ++commitsSinceSync >= syncEvery) {
+            channel.force(false);
+            commitsSinceSync = 0;
+        }
+    }
+
+    /**
+     * Writes every appended record and fsyncs, whatever syncEvery is.
+     * @throws IOException if the records cannot be written or synced
+     */
+    public synchronized void sync() throws IOException {
+        writePending();
+        channel.force(false);
+        commitsSinceSync = 0;
+    }
+
+    /**
+     * Syncs and closes the log.
+     * @throws IOException if the last records cannot be written or synced
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writePending() throws IOException {
+        pending.flip();
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        pending.clear();
+    }
+
+    /*========================================================================*/
+    /*===== Recovery =========================================================*/
+
+    /**
+     * Rebuilds a contacts book by replaying a log into it, normally an empty one.
+     * Runs of added contacts and added connections are handed to addContacts and addConnections in batches,
+     * so replay pays for the bulk paths instead of one call per record. Replay stops at a torn or corrupt record.
+     *
+     * @param path The log file
+     * @param contacts The book to replay contact changes into
+     * @param connections The book to replay connection changes into, usually the same object, or null to skip them (e.g. HashMapCB)
+     * @return The number of records replayed
+     * @throws IOException if the file cannot be read, or is not a contacts log
+     */
+    public static long replay(Path path, ContactsManager contacts, ConnectionsManager connections) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Replay replay = new Replay(contacts, connections);
+            scan(channel, replay);
+            return replay.records;
+        }
+    }
+
+    /**
+     * Reads a log from the start, checking every record, and hands each valid one to the replay.
+     * @param channel The log file
+     * @param replay Where the records go, or null to only check them
+     * @return The file offset right after the last valid record
+     */
+    private static long scan(FileChannel channel, Replay replay) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.limit(0);
+        channel.position(0);
+        if (!fill(channel, buffer, HEADER_SIZE) || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a contacts log");
+        }
+
+        CRC32C crc = new CRC32C();
+        long validEnd = HEADER_SIZE;
+        while (fill(channel, buffer, 4)) {
+            int length = buffer.getInt(buffer.position());
+            if (length < 1 || length > MAX_BODY || !fill(channel, buffer, 4 + length + 4)) {
+                break; // Garbage length, or the record was cut short
+            }
+            int body = buffer.position() + 4;
+            crc.reset();
+            crc.update(buffer.array(), buffer.arrayOffset() + body, length);
+            if ((int) crc.getValue() != buffer.getInt(body + length)) {
+                break; // Torn or corrupt record
+            }
+            if (replay != null) {
+                buffer.position(body);
+                replay.apply(buffer);
+            }
+            buffer.position(body + length + 4);
+            validEnd += 4 + length + 4;
+        }
+        if (replay != null) {
+            replay.flush();
+        }
+        return validEnd;
+    }
+
+    // HELPER FUNCTION: MAKE AT LEAST needed BYTES READABLE IN THE BUFFER, FALSE IF THE FILE ENDS FIRST
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        buffer.compact(); // Keep the unread bytes, read more after them
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    /**
+     * Applies records to a book, collecting runs of adds for the bulk methods.
+     * A pending run is flushed before any other kind of record, so changes keep their order.
+     */
+    private static final class Replay {
+        private final ContactsManager contacts;
+        private final ConnectionsManager connections;
+        private final List<Contact> addedContacts = new ArrayList<>();
+        private final List<String[]> addedConnections = new ArrayList<>();
+        private long records = 0;
+
+        Replay(ContactsManager contacts, ConnectionsManager connections) {
+            this.contacts = contacts;
+            this.connections = connections;
+        }
+
+        // Reads one record's type and fields, the buffer is positioned right after the length
+        void apply(ByteBuffer record) throws IOException {
+            byte type = record.get();
+            switch (type) {
+                case ADD_CONTACT:
+                    flushConnections();
+                    addedContacts.add(new Contact(readName(record), record.getInt()));
+                    if (addedContacts.size() == REPLAY_BATCH) {
+                        flushContacts();
+                    }
+                    break;
+                case DELETE_CONTACT:
+                    flush();
+                    contacts.deleteContact(readName(record));
+                    break;
+                case UPDATE_CONTACT:
+                    flush();
+                    String oldName = readName(record);
+                    String newName = readName(record);
+                    contacts.updateContact(new Contact(oldName, 0), newName, record.getInt());
+                    break;
+                case ADD_CONNECTION:
+                    flushContacts();
+                    if (connections != null) {
+                        addedConnections.add(new String[]{readName(record), readName(record)});
+                        if (addedConnections.size() == REPLAY_BATCH) {
+                            flushConnections();
+                        }
+                    }
+                    break;
+                case REMOVE_CONNECTION:
+                    flush();
+                    if (connections != null) {
+                        connections.removeConnection(readName(record), readName(record));
+                    }
+                    break;
+                default:
+                    throw new IOException("Unknown record type " + type + ", written by a newer version?");
+            }
+            records++;
+        }
+
+        void flush() {
+            flushContacts();
+            flushConnections();
+        }
+
+        private void flushContacts() {
+            if (!addedContacts.isEmpty()) {
+                contacts.addContacts(addedContacts);
+                addedContacts.clear();
+            }
+        }
+
+        private void flushConnections() {
+            if (!addedConnections.isEmpty()) {
+                connections.addConnections(addedConnections);
+                addedConnections.clear();
+            }
+        }
+
+        private static String readName(ByteBuffer record) {
+            int length = Short.toUnsignedInt(record.getShort());
+            String name = new String(record.array(), record.arrayOffset() + record.position(), length, StandardCharsets.UTF_8);
+            record.position(record.position() + length);
+            return name;
+        }
+    }
+}
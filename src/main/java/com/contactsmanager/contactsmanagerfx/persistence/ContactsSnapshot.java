@@ -0,0 +1,415 @@
+package com.contactsmanager.contactsmanagerfx.persistence;
+
+import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.CsrGraphCB;
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Point-in-time snapshot of a graph contacts book in a compact binary file, for fast cold starts and backups.
+ * <pre>
+ * [int magic][byte flags][int nodes][long edges]
+ * nodes x [varint name length][UTF-8 name][varint student ID]
+ * nodes x [varint degree][varint first target][varint gap to the next target]...
+ * [int CRC32C of everything after the magic]
+ * </pre>
+ * Targets are node ids sorted ascending, so the gaps are small and most fit in one byte.
+ * Undirected connections are stored in both rows, like the books store them.
+ * <p>
+ * The file is written through a direct buffer into a temporary file that replaces the target only once it
+ * is complete and synced, so a crash during a backup never leaves a half-written snapshot behind.
+ * A snapshot can be loaded into a new AdjacencyListGraphCB or AdjacencyMatrixGraphCB (through their bulk methods),
+ * or straight into a read-only CsrGraphCB without building a mutable book first.
+ */
+public final class ContactsSnapshot {
+
+    private static final int MAGIC = 0x43425331; // "CBS1": contacts book snapshot, format version 1
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 8;
+    private static final byte DIRECTED = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_VARINT = 5; // An int takes at most 5 bytes of 7 bits
+    private static final int MIN_NODE_BYTES = 3; // Name length, student ID and degree, one byte each at least
+    private static final int LOAD_BATCH = 1 << 16; // Contacts or connections handed to the bulk methods at once
+
+    private ContactsSnapshot() {
+    }
+
+    /**
+     * A graph decoded from (or about to be encoded to) a snapshot, in CSR form with sorted rows.
+     */
+    private record Frozen(Contact[] contacts, int[] offsets, int[] targets, boolean directed) {
+    }
+
+    /*========================================================================*/
+    /*===== Writing ==========================================================*/
+
+    // WRITE FROM ADJACENCY LIST
+    /**
+     * Writes a snapshot of an adjacency list graph.
+     * @param path The snapshot file, replaced if it exists
+     * @param graph The graph to save
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, AdjacencyListGraphCB graph) throws IOException {
+        Map<Contact, Collection<Contact>> adj = graph.getAdjacencyList();
+        Contact[] contacts = adj.keySet().toArray(new Contact[0]);
+        Map<Contact, Integer> idOf = new HashMap<>(contacts.length * 4 / 3 + 1);
+        for (int i = 0; i < contacts.length; i++) {
+            idOf.put(contacts[i], i);
+        }
+
+        int[] offsets = new int[contacts.length + 1];
+        for (int i = 0; i < contacts.length; i++) {
+            offsets[i + 1] = offsets[i] + adj.get(contacts[i]).size();
+        }
+        int[] targets = new int[offsets[contacts.length]];
+        for (int i = 0; i < contacts.length; i++) {
+            int next = offsets[i];
+            for (Contact neighbor : adj.get(contacts[i])) {
+                targets[next++] = idOf.get(neighbor);
+            }
+            Arrays.sort(targets, offsets[i], next);
+        }
+        encode(path, new Frozen(contacts, offsets, targets, graph.isDirected()));
+    }
+
+    // WRITE FROM ADJACENCY MATRIX
+    /**
+     * Writes a snapshot of an adjacency matrix graph. Empty slots are dropped, so node ids are dense.
+     * @param path The snapshot file, replaced if it exists
+     * @param graph The graph to save
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, AdjacencyMatrixGraphCB graph) throws IOException {
+        Contact[] book = graph.getContactsBook();
+        int[] idOfSlot = new int[book.length];
+        List<Contact> contacts = new ArrayList<>();
+        for (int slot = 0; slot < book.length; slot++) {
+            if (book[slot] != null) {
+                idOfSlot[slot] = contacts.size();
+                contacts.add(book[slot]);
+            }
+        }
+
+        int[] offsets = new int[contacts.size() + 1];
+        int[] targets = new int[16];
+        int next = 0;
+        for (int slot = 0, id = 0; slot < book.length; slot++) {
+            if (book[slot] == null) {
+                continue;
+            }
+            // Rows come out in column order, and slot order is id order, so they are already sorted
+            for (int j = graph.nextConnection(slot, 0); j >= 0; j = graph.nextConnection(slot, j + 1)) {
+                if (next == targets.length) {
+                    targets = Arrays.copyOf(targets, next * 2);
+                }
+                targets[next++] = idOfSlot[j];
+            }
+            offsets[++id] = next;
+        }
+        encode(path, new Frozen(contacts.toArray(new Contact[0]), offsets, Arrays.copyOf(targets, next), graph.isDirected()));
+    }
+
+    // HELPER FUNCTION: WRITE THE FILE NEXT TO ITS TARGET, THEN MOVE IT OVER
+    private static void encode(Path path, Frozen graph) throws IOException {
+        AtomicFiles.replace(path, channel -> {
+            Encoder out = new Encoder(channel);
+            out.putInt(MAGIC);
+            out.putByte(graph.directed() ? DIRECTED : 0);
+            out.putInt(graph.contacts().length);
+            out.putLong(graph.targets().length);
+
+            for (Contact contact : graph.contacts()) {
+                byte[] name = contact.getName().getBytes(StandardCharsets.UTF_8);
+                out.ensure(MAX_VARINT);
+                out.putVarint(name.length);
+                out.putBytes(name);
+                out.ensure(MAX_VARINT);
+                out.putVarint(contact.getStudentId());
+            }
+
+            int[] offsets = graph.offsets();
+            int[] targets = graph.targets();
+            for (int i = 0; i < graph.contacts().length; i++) {
+                out.ensure(MAX_VARINT);
+                out.putVarint(offsets[i + 1] - offsets[i]);
+                int previous = 0;
+                for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                    out.ensure(MAX_VARINT);
+                    out.putVarint(targets[e] - previous); // The first target is stored as a gap from 0
+                    previous = targets[e];
+                }
+            }
+            out.finish();
+        });
+    }
+
+    /**
+     * Writes the encoded bytes through a direct buffer, keeping the checksum of everything after the magic.
+     */
+    private static final class Encoder extends ChannelOutput {
+        private final CRC32C crc = new CRC32C();
+        private boolean headerWritten = false;
+        private boolean finished = false;
+
+        private Encoder(FileChannel channel) {
+            super(channel, BUFFER_SIZE);
+        }
+
+        // HELPER FUNCTION: PUT A VARINT, AFTER ensure(MAX_VARINT)
+        private void putVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        @Override
+        protected void beforeWrite(ByteBuffer filled) {
+            if (finished) {
+                return; // The checksum does not cover itself
+            }
+            if (!headerWritten) {
+                filled.position(4); // The magic is not covered by the checksum
+                headerWritten = true;
+            }
+            crc.update(filled);
+            filled.position(0);
+        }
+
+        private void finish() throws IOException {
+            flush();
+            finished = true;
+            putInt((int) crc.getValue());
+            flush();
+        }
+    }
+
+    /*========================================================================*/
+    /*===== Loading ==========================================================*/
+
+    // LOAD INTO A READ-ONLY GRAPH
+    /**
+     * Loads a snapshot straight into a read-only graph, with no mutable book in between.
+     * @param path The snapshot file
+     * @return The read-only graph
+     * @throws IOException if the file cannot be read, is not a snapshot, or is corrupt
+     */
+    public static CsrGraphCB loadReadOnly(Path path) throws IOException {
+        Frozen graph = decode(path);
+        return CsrGraphCB.of(graph.contacts(), graph.offsets(), graph.targets(), graph.directed());
+    }
+
+    // LOAD INTO AN ADJACENCY LIST
+    /**
+     * Loads a snapshot into a new adjacency list graph, through its bulk add methods.
+     * @param path The snapshot file
+     * @return The graph, directed if the saved one was
+     * @throws IOException if the file cannot be read, is not a snapshot, or is corrupt
+     */
+    public static AdjacencyListGraphCB loadAdjacencyList(Path path) throws IOException {
+        Frozen graph = decode(path);
+        AdjacencyListGraphCB book = new AdjacencyListGraphCB(graph.directed());
+        fill(graph, book, book);
+        return book;
+    }
+
+    // LOAD INTO AN ADJACENCY MATRIX
+    /**
+     * Loads a snapshot into a new adjacency matrix graph sized for its contacts, through its bulk add methods.
+     * @param path The snapshot file
+     * @return The graph, directed if the saved one was
+     * @throws IOException if the file cannot be read, is not a snapshot, or is corrupt
+     */
+    public static AdjacencyMatrixGraphCB loadAdjacencyMatrix(Path path) throws IOException {
+        Frozen graph = decode(path);
+        AdjacencyMatrixGraphCB book = new AdjacencyMatrixGraphCB(Math.max(1, graph.contacts().length), graph.directed());
+        fill(graph, book, book);
+        return book;
+    }
+
+    // HELPER FUNCTION: ADD THE CONTACTS, THEN THE CONNECTIONS, IN BATCHES
+    private static void fill(Frozen graph, ContactsManager contacts, ConnectionsManager connections) {
+        Contact[] nodes = graph.contacts();
+        contacts.addContacts(Arrays.asList(nodes));
+
+        int[] offsets = graph.offsets();
+        int[] targets = graph.targets();
+        List<String[]> pairs = new ArrayList<>(Math.min(LOAD_BATCH, targets.length));
+        for (int i = 0; i < nodes.length; i++) {
+            for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                if (!graph.directed() && targets[e] < i) {
+                    continue; // Already added from the other side
+                }
+                pairs.add(new String[]{nodes[i].getName(), nodes[targets[e]].getName()});
+                if (pairs.size() == LOAD_BATCH) {
+                    connections.addConnections(pairs);
+                    pairs.clear();
+                }
+            }
+        }
+        connections.addConnections(pairs);
+    }
+
+    // HELPER FUNCTION: READ AND CHECK A WHOLE SNAPSHOT
+    private static Frozen decode(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE + 4) {
+                throw new IOException("Not a contacts snapshot");
+            }
+            Decoder in = new Decoder(channel, channel.size() - 4);
+            in.ensure(HEADER_SIZE);
+            if (in.buffer.getInt() != MAGIC) {
+                throw new IOException("Not a contacts snapshot");
+            }
+            boolean directed = (in.buffer.get() & DIRECTED) != 0;
+            int nodes = in.buffer.getInt();
+            long edges = in.buffer.getLong();
+            if (nodes < 0 || edges < 0 || edges > Integer.MAX_VALUE - 8) {
+                throw new IOException("Corrupt contacts snapshot header");
+            }
+            // Checked before allocating anything: a bad header must not size arrays the checksum has not vouched for
+            long bodyBytes = channel.size() - 4 - HEADER_SIZE;
+            if ((long) nodes * MIN_NODE_BYTES + edges > bodyBytes) { // Every connection takes one byte at least
+                throw new IOException("Corrupt contacts snapshot header: more contacts or connections than the file can hold");
+            }
+
+            Contact[] contacts = new Contact[nodes];
+            for (int i = 0; i < nodes; i++) {
+                String name = new String(in.getBytes(in.getVarint()), StandardCharsets.UTF_8);
+                contacts[i] = new Contact(name, in.getVarint());
+            }
+
+            int[] offsets = new int[nodes + 1];
+            int[] targets = new int[(int) edges];
+            for (int i = 0; i < nodes; i++) {
+                int degree = in.getVarint();
+                if (degree < 0 || degree > targets.length - offsets[i]) {
+                    throw new IOException("Corrupt contacts snapshot: node " + i + " has more connections than the header");
+                }
+                int target = 0;
+                for (int e = offsets[i]; e < offsets[i] + degree; e++) {
+                    target += in.getVarint();
+                    if (target < 0 || target >= nodes) {
+                        throw new IOException("Corrupt contacts snapshot: connection of node " + i + " out of range");
+                    }
+                    targets[e] = target;
+                }
+                offsets[i + 1] = offsets[i] + degree;
+            }
+            if (offsets[nodes] != targets.length) {
+                throw new IOException("Corrupt contacts snapshot: fewer connections than the header");
+            }
+            in.checkTrailer();
+            return new Frozen(contacts, offsets, targets, directed);
+        }
+    }
+
+    /**
+     * Reads the file a buffer at a time, keeping the checksum of every byte read after the magic.
+     */
+    private static final class Decoder {
+        private final FileChannel channel;
+        private final long dataEnd; // Where the checksum trailer starts
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CRC32C crc = new CRC32C();
+        private long read = 0; // Bytes read from the channel so far
+
+        private Decoder(FileChannel channel, long dataEnd) {
+            this.channel = channel;
+            this.dataEnd = dataEnd;
+            buffer.limit(0);
+        }
+
+        // HELPER FUNCTION: MAKE AT LEAST needed BYTES READABLE (AT MOST THE BUFFER SIZE)
+        private void ensure(int needed) throws IOException {
+            if (buffer.remaining() >= needed) {
+                return;
+            }
+            buffer.compact();
+            buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + (dataEnd - read))); // Never read the trailer
+            while (buffer.position() < needed && buffer.hasRemaining()) {
+                int start = buffer.position();
+                int count = channel.read(buffer);
+                if (count < 0) {
+                    break;
+                }
+                if (read + count > 4) { // The magic is not covered by the checksum
+                    ByteBuffer slice = buffer.duplicate();
+                    slice.position(start + (int) Math.max(0, 4 - read)).limit(start + count);
+                    crc.update(slice);
+                }
+                read += count;
+            }
+            buffer.flip();
+            if (buffer.remaining() < needed) {
+                throw new IOException("Contacts snapshot is cut short");
+            }
+        }
+
+        private int getVarint() throws IOException {
+            ensure(Math.min(MAX_VARINT, available()));
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Corrupt contacts snapshot: bad varint");
+        }
+
+        // HELPER FUNCTION: BYTES LEFT BEFORE THE TRAILER, BUFFERED OR NOT
+        private int available() {
+            return (int) Math.min(Integer.MAX_VALUE, buffer.remaining() + (dataEnd - read));
+        }
+
+        private byte[] getBytes(int length) throws IOException {
+            if (length < 0 || length > available()) {
+                throw new IOException("Corrupt contacts snapshot: bad name length");
+            }
+            byte[] bytes = new byte[length];
+            int done = 0;
+            while (done < length) { // Names longer than the buffer come in pieces
+                ensure(Math.min(BUFFER_SIZE, length - done));
+                int chunk = Math.min(buffer.remaining(), length - done);
+                buffer.get(bytes, done, chunk);
+                done += chunk;
+            }
+            return bytes;
+        }
+
+        private void checkTrailer() throws IOException {
+            ByteBuffer trailer = ByteBuffer.allocate(4);
+            while (trailer.hasRemaining()) {
+                if (channel.read(trailer, dataEnd + trailer.position()) < 0) {
+                    throw new IOException("Contacts snapshot is cut short");
+                }
+            }
+            if (available() != 0 || trailer.getInt(0) != (int) crc.getValue()) {
+                throw new IOException("Corrupt contacts snapshot: checksum mismatch");
+            }
+        }
+    }
+}
@@ -8,14 +8,14 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.TextFieldTableCell;
 
-import java.util.LinkedList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public class AdjacencyListGraphTableUtils {
 
     /**
-     * Sets up columns for a TableView displaying Contact (as Contact), LinkedList<Contact> (as Known People).
+     * Sets up columns for a TableView displaying Contact (as Contact), Collection<Contact> (as Known People).
      *
      * @param table The TableView instance to set up
      */
@@ -23,14 +23,14 @@ public class AdjacencyListGraphTableUtils {
     public static void setup(TableView<?> table) { //The method uses a raw TableView<?> so that it can be filled with whatever type.
 
         // Cast TableView to the right generic type
-        TableView<Map.Entry<Contact, LinkedList<Contact>>> typedTable =
-                (TableView<Map.Entry<Contact, LinkedList<Contact>>>) table;
+        TableView<Map.Entry<Contact, Collection<Contact>>> typedTable =
+                (TableView<Map.Entry<Contact, Collection<Contact>>>) table;
 
         // Reset to avoid stacking columns from earlier views.
         typedTable.getColumns().clear();
 
         // Column 1: Contact (Name + ID)
-        TableColumn<Map.Entry<Contact, LinkedList<Contact>>, String> contactCol = new TableColumn<>("Contact"); // Create a new column titled "Contact"
+        TableColumn<Map.Entry<Contact, Collection<Contact>>, String> contactCol = new TableColumn<>("Contact"); // Create a new column titled "Contact"
         contactCol.setCellValueFactory(entry -> { // For every row, get the key
             Contact c = entry.getValue().getKey();
 
@@ -39,9 +39,9 @@ public class AdjacencyListGraphTableUtils {
         contactCol.setCellFactory(TextFieldTableCell.forTableColumn());
 
         // Column 2: Connections (as comma-separated names)
-        TableColumn<Map.Entry<Contact, LinkedList<Contact>>, String> connectionsCol = new TableColumn<>("Known People"); // Create a new column titled "Known People"
+        TableColumn<Map.Entry<Contact, Collection<Contact>>, String> connectionsCol = new TableColumn<>("Known People"); // Create a new column titled "Known People"
         connectionsCol.setCellValueFactory(entry -> { // For every row, get the key
-            LinkedList<Contact> connections = entry.getValue().getValue();
+            Collection<Contact> connections = entry.getValue().getValue();
 
             String joinedNames = connections.stream()
                     .map(c -> c.getName().trim())
@@ -59,9 +59,9 @@ public class AdjacencyListGraphTableUtils {
      * Fills the table with rows.
      *
      * @param adj The adjacency list.
-     * @return ObservableList of Map.Entry<Contact, LinkedList<Contact>>.
+     * @return ObservableList of Map.Entry<Contact, Collection<Contact>>.
      */
-    public static ObservableList<Map.Entry<Contact, LinkedList<Contact>>> convertToTableData(Map<Contact, LinkedList<Contact>> adj) {
+    public static ObservableList<Map.Entry<Contact, Collection<Contact>>> convertToTableData(Map<Contact, Collection<Contact>> adj) {
         return FXCollections.observableArrayList(adj.entrySet());
     }
 }
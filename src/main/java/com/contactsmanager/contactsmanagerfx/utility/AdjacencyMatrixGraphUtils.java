@@ -27,7 +27,6 @@ public class AdjacencyMatrixGraphUtils {
         typedTable.getColumns().clear();
 
         Contact[] contacts = graph.getContactsBook();
-        byte[][] matrix = graph.getMatrix();
         int maxSize = graph.getMaxSize();
 
         // Column 0: Index
@@ -72,7 +71,7 @@ public class AdjacencyMatrixGraphUtils {
             row.add(String.valueOf(i)); // Index
             row.add(contacts[i] != null ? contacts[i].getName() : "null"); // From contact name
             for (int j = 0; j < maxSize; j++) {
-                row.add(Byte.toString(matrix[i][j]));
+                row.add(Byte.toString(graph.getConnection(i, j)));
             }
             rows.add(row);
         }
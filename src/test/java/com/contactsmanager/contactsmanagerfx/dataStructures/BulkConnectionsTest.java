@@ -0,0 +1,98 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The bulk addConnections of the int-id book must count and store exactly what addConnection does pair by pair,
+ * with self-loops, repeated and reversed pairs, unknown and blank names in the batch.
+ */
+class BulkConnectionsTest {
+
+    private static final int PEOPLE = 20;
+
+    @Test
+    void bulkConnectionsMatchOneByOne() {
+        for (boolean directed : new boolean[]{false, true}) {
+            Random random = new Random(directed ? 59 : 61);
+            IntAdjacencyListGraphCB bulk = new IntAdjacencyListGraphCB(directed);
+            IntAdjacencyListGraphCB single = new IntAdjacencyListGraphCB(directed);
+            for (int i = 0; i < PEOPLE; i++) {
+                bulk.addContact(new Contact("p" + i, i));
+                single.addContact(new Contact("p" + i, i));
+            }
+            for (int i = 0; i < PEOPLE; i += 3) { // Connections made before the batch are not counted again
+                bulk.addConnection("p" + i, "p" + (i + 1));
+                single.addConnection("p" + i, "p" + (i + 1));
+            }
+
+            List<String[]> pairs = new ArrayList<>();
+            for (int e = 0; e < 150; e++) {
+                String from = "p" + random.nextInt(PEOPLE);
+                String to = "p" + random.nextInt(PEOPLE);
+                pairs.add(new String[]{from, to});
+                switch (e % 10) {
+                    case 0 -> pairs.add(new String[]{from, from}); // Self-loop
+                    case 1 -> pairs.add(new String[]{from, to}); // Same pair again
+                    case 2 -> pairs.add(new String[]{to, from}); // Reversed, the same connection when undirected
+                    case 3 -> pairs.add(new String[]{" " + from.toUpperCase(), to}); // Same name, other spelling
+                    case 4 -> pairs.add(new String[]{"ghost", to});
+                    case 5 -> pairs.add(new String[]{from, " "});
+                    case 6 -> pairs.add(new String[]{null, to});
+                    default -> { }
+                }
+            }
+
+            int made = 0;
+            for (String[] pair : pairs) {
+                if (single.addConnection(pair[0], pair[1]).outcome() == Outcome.DONE) {
+                    made++;
+                }
+            }
+            assertEquals(made, bulk.addConnections(pairs), "Connections made, directed " + directed);
+            assertEquals(connections(single), connections(bulk), "Connections, directed " + directed);
+            for (int i = 0; i < PEOPLE; i++) {
+                String name = "p" + i;
+                assertEquals(single.getDegree(name), bulk.getDegree(name), name);
+                assertEquals(names(single.getIncomingConnections(name)), names(bulk.getIncomingConnections(name)), name);
+                for (SuggestionScore score : SuggestionScore.values()) {
+                    assertEquals(names(single.suggestContacts(name, 5, score)),
+                            names(bulk.suggestContacts(name, 5, score)), name + " " + score);
+                }
+            }
+        }
+    }
+
+    // HELPER FUNCTION: OUTGOING CONNECTIONS OF EVERY CONTACT, READ BACK FROM THE INCOMING ONES
+    private static Map<String, TreeSet<String>> connections(IntAdjacencyListGraphCB book) {
+        Map<String, TreeSet<String>> connections = new TreeMap<>();
+        for (int i = 0; i < PEOPLE; i++) {
+            connections.put("p" + i, new TreeSet<>());
+        }
+        for (int i = 0; i < PEOPLE; i++) {
+            for (Contact from : book.getIncomingConnections("p" + i)) {
+                connections.get(from.getName()).add("p" + i);
+            }
+        }
+        return connections;
+    }
+
+    private static List<String> names(List<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,509 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * The concurrent books under threads changing them at once: the final state must match a single-threaded
+ * replay of the same changes, opposite connections must not deadlock, a full matrix must say so,
+ * and renames must not lose connections made while they run.
+ */
+class ConcurrentBooksTest {
+
+    private static final int THREADS = 4;
+    private static final int STABLE = 16; // Contacts no thread deletes or renames, connected from every thread
+    private static final int OWN = 12; // Contacts per thread that only that thread adds, deletes and renames
+    private static final int STEPS = 4_000;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private enum Kind { HASH_MAP, LIST, DIRECTED_LIST, MATRIX, DIRECTED_MATRIX }
+
+    private static final Kind[] GRAPHS = {Kind.LIST, Kind.DIRECTED_LIST, Kind.MATRIX, Kind.DIRECTED_MATRIX};
+
+    private enum Change { ADD, DELETE, RENAME, CONNECT, DISCONNECT }
+
+    /**
+     * One change made by a worker thread, with the outcome the concurrent book reported.
+     */
+    private record Step(Change change, String name, String other, int studentId, Outcome outcome) {
+    }
+
+    /**
+     * A concurrent book and a single-threaded book of the same kind; connections and incoming are null for the hash map.
+     */
+    private record Books(ContactsManager contacts, ConnectionsManager connections, Function<String, List<Contact>> incoming,
+                         ContactsManager reference, ConnectionsManager referenceConnections,
+                         Function<String, List<Contact>> referenceIncoming, boolean directed) {
+
+        static Books of(Kind kind, int capacity) {
+            boolean directed = kind == Kind.DIRECTED_LIST || kind == Kind.DIRECTED_MATRIX;
+            switch (kind) {
+                case HASH_MAP:
+                    return new Books(new ConcurrentHashMapCB(), null, null, new HashMapCB(), null, null, false);
+                case LIST:
+                case DIRECTED_LIST: {
+                    ConcurrentAdjacencyListGraphCB graph = new ConcurrentAdjacencyListGraphCB(directed);
+                    AdjacencyListGraphCB reference = new AdjacencyListGraphCB(directed);
+                    return new Books(graph, graph, graph::getIncomingConnections,
+                            reference, reference, reference::getIncomingConnections, directed);
+                }
+                default: {
+                    ConcurrentAdjacencyMatrixGraphCB graph = new ConcurrentAdjacencyMatrixGraphCB(capacity, directed);
+                    AdjacencyMatrixGraphCB reference = new AdjacencyMatrixGraphCB(capacity, directed);
+                    return new Books(graph, graph, graph::getIncomingConnections,
+                            reference, reference, reference::getIncomingConnections, directed);
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomChangesMatchSingleThreadedReplay() throws Exception {
+        for (Kind kind : Kind.values()) {
+            Books books = Books.of(kind, STABLE + THREADS * OWN);
+            for (int i = 0; i < STABLE; i++) {
+                books.contacts().addContact(new Contact("s" + i, 900_000 + i));
+                books.reference().addContact(new Contact("s" + i, 900_000 + i));
+            }
+
+            List<Callable<List<Step>>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                workers.add(() -> work(thread, books, new Random(kind.ordinal() * 100L + thread)));
+            }
+            List<List<Step>> steps = runConcurrently(workers);
+
+            Set<String> names = new TreeSet<>();
+            Set<Integer> studentIds = new TreeSet<>();
+            for (int i = 0; i < STABLE; i++) {
+                names.add("s" + i);
+                studentIds.add(900_000 + i);
+            }
+            for (int t = 0; t < THREADS; t++) { // Threads share no contact they change, so any order gives the same outcomes
+                for (int s = 0; s < steps.get(t).size(); s++) {
+                    Step step = steps.get(t).get(s);
+                    assertEquals(step.outcome(), replay(books, step), kind + " thread " + t + " step " + s + " " + step);
+                    names.add(step.name());
+                    if (step.change() == Change.RENAME) {
+                        names.add(step.other());
+                    }
+                    studentIds.add(step.studentId());
+                }
+            }
+            assertSameBooks(books, names, studentIds, kind.toString());
+        }
+    }
+
+    @Test
+    void oppositeConnectionsDoNotDeadlock() throws Exception {
+        for (Kind kind : GRAPHS) {
+            Books books = Books.of(kind, 64);
+            int pairs = 16; // Enough for the two contacts of some pairs to land on different stripes
+            for (int i = 0; i < pairs; i++) {
+                books.contacts().addContact(new Contact("a" + i, i));
+                books.contacts().addContact(new Contact("b" + i, 100 + i));
+            }
+            List<Callable<Integer>> workers = new ArrayList<>();
+            workers.add(() -> toggleConnections(books.connections(), "a", "b", pairs));
+            workers.add(() -> toggleConnections(books.connections(), "b", "a", pairs));
+            for (int made : runConcurrently(workers)) {
+                if (books.directed()) { // a -> b and b -> a are different connections, so none is ever taken
+                    assertEquals(2_000 * pairs, made, kind.toString());
+                }
+            }
+            for (int i = 0; i < pairs; i++) {
+                assertEquals(List.of(), books.incoming().apply("a" + i), kind + " a" + i);
+            }
+        }
+    }
+
+    @Test
+    void fullMatrixReportsFull() throws Exception {
+        int capacity = 100;
+        int perThread = 50;
+        ConcurrentAdjacencyMatrixGraphCB matrix = new ConcurrentAdjacencyMatrixGraphCB(capacity);
+        List<Callable<List<Outcome>>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            workers.add(() -> {
+                List<Outcome> outcomes = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) {
+                    outcomes.add(matrix.addContact(new Contact("t" + thread + "n" + i, thread * perThread + i)).outcome());
+                }
+                return outcomes;
+            });
+        }
+        List<List<Outcome>> outcomes = runConcurrently(workers);
+
+        int added = 0;
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < perThread; i++) {
+                Outcome outcome = outcomes.get(t).get(i);
+                assertTrue(outcome == Outcome.DONE || outcome == Outcome.FULL, outcome.toString());
+                Contact found = matrix.searchContact("t" + t + "n" + i);
+                if (outcome == Outcome.DONE) {
+                    assertNotNull(found, "t" + t + "n" + i);
+                    added++;
+                } else {
+                    assertNull(found, "t" + t + "n" + i);
+                }
+            }
+        }
+        assertEquals(capacity, added);
+        assertEquals(capacity, matrix.getSize());
+        assertEquals(capacity, matrix.listAllContacts().size());
+        assertEquals(Outcome.FULL, matrix.addContact(new Contact("late", 999)).outcome());
+
+        String someone = matrix.listAllContacts().get(0).getName();
+        assertTrue(matrix.deleteContact(someone).isDone());
+        assertTrue(matrix.addContact(new Contact("late", 999)).isDone()); // The freed slot is reused
+        assertEquals(Outcome.FULL, matrix.addContact(new Contact("later", 1000)).outcome());
+    }
+
+    @Test
+    void sameNameIsAddedOnce() throws Exception {
+        for (Kind kind : Kind.values()) {
+            Books books = Books.of(kind, 64);
+            int names = 40;
+            List<Callable<Integer>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                workers.add(() -> {
+                    int added = 0;
+                    for (int i = 0; i < names; i++) {
+                        if (books.contacts().addContact(new Contact("Same" + i, thread)).isDone()) {
+                            added++;
+                        }
+                    }
+                    return added;
+                });
+            }
+            int added = 0;
+            for (int count : runConcurrently(workers)) {
+                added += count;
+            }
+            assertEquals(names, added, kind.toString());
+            assertEquals(names, books.contacts().listAllContacts().size(), kind.toString());
+            assertEquals(names, books.contacts().searchByPrefix("same", Integer.MAX_VALUE).size(), kind.toString());
+        }
+    }
+
+    @Test
+    void renamesRacingConnectionsKeepEveryConnection() throws Exception {
+        int friends = 8; // Per connecting thread
+        int connectors = THREADS - 1;
+        for (Kind kind : GRAPHS) {
+            Books books = Books.of(kind, 64);
+            books.contacts().addContact(new Contact("x", 0));
+            for (int t = 0; t < connectors; t++) {
+                for (int i = 0; i < friends; i++) {
+                    books.contacts().addContact(new Contact("f" + t + "_" + i, 100 * t + i));
+                }
+            }
+
+            List<Callable<int[]>> workers = new ArrayList<>();
+            workers.add(() -> { // Renames x to y and back; returns the final name as 0 (x) or 1 (y)
+                String current = "x";
+                for (int k = 1; k <= 3_000; k++) {
+                    String next = current.equals("x") ? "y" : "x";
+                    OperationResult result = books.contacts().updateContact(new Contact(current, 0), next, k);
+                    if (!result.isDone()) {
+                        throw new AssertionError("Rename " + current + " -> " + next + ": " + result.outcome());
+                    }
+                    current = next;
+                }
+                return new int[]{current.equals("x") ? 0 : 1};
+            });
+            for (int t = 0; t < connectors; t++) {
+                int thread = t;
+                workers.add(() -> { // Connects and disconnects its own friends under either name; returns the net per friend
+                    Random random = new Random(kind.ordinal() * 10L + thread);
+                    int[] net = new int[friends];
+                    for (int step = 0; step < 6_000; step++) {
+                        int i = random.nextInt(friends);
+                        String renamed = random.nextBoolean() ? "x" : "y";
+                        String friend = "f" + thread + "_" + i;
+                        boolean fromRenamed = books.directed() || random.nextBoolean(); // Directed: always renamed -> friend
+                        String from = fromRenamed ? renamed : friend;
+                        String to = fromRenamed ? friend : renamed;
+                        if (random.nextBoolean()) {
+                            net[i] += books.connections().addConnection(from, to).isDone() ? 1 : 0;
+                        } else {
+                            net[i] -= books.connections().removeConnection(from, to).isDone() ? 1 : 0;
+                        }
+                    }
+                    return net;
+                });
+            }
+            List<int[]> results = runConcurrently(workers);
+
+            String renamed = results.get(0)[0] == 0 ? "x" : "y";
+            String gone = renamed.equals("x") ? "y" : "x";
+            Contact live = books.contacts().searchContact(renamed);
+            assertNotNull(live, kind.toString());
+            assertNull(books.contacts().searchContact(gone), kind.toString());
+            AbstractGraphCB graph = (AbstractGraphCB) books.connections();
+            for (int t = 0; t < connectors; t++) {
+                for (int i = 0; i < friends; i++) {
+                    String friend = "f" + t + "_" + i;
+                    int net = results.get(t + 1)[i];
+                    assertTrue(net == 0 || net == 1, kind + " " + friend + " net " + net);
+                    assertEquals(net == 1, graph.connectionExists(renamed, friend), kind + " " + renamed + " -> " + friend);
+                    if (!books.directed()) {
+                        assertEquals(net == 1, graph.connectionExists(friend, renamed), kind + " " + friend + " -> " + renamed);
+                    }
+                    List<Contact> incoming = books.incoming().apply(friend);
+                    assertEquals(net, incoming.size(), kind + " into " + friend);
+                    for (Contact contact : incoming) {
+                        assertSame(live, contact, kind + " into " + friend); // Never a stale object left by a rename
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void deletesRacingConnectionsNeverConnectTheNextOccupant() throws Exception {
+        int rounds = 2_000;
+        int friends = 8;
+        for (Kind kind : GRAPHS) {
+            Books books = Books.of(kind, 2 * rounds + friends + 1); // Room for every w, and for z to move each round
+            books.contacts().addContact(new Contact("z", 0));
+            for (int i = 0; i < friends; i++) {
+                books.contacts().addContact(new Contact("f" + i, 1 + i));
+            }
+
+            AtomicBoolean done = new AtomicBoolean();
+            List<Callable<Integer>> workers = new ArrayList<>();
+            workers.add(() -> { // Deletes z and gives its slot (or name) to a new contact w, then adds z back
+                for (int k = 0; k < rounds; k++) {
+                    books.contacts().deleteContact("z");
+                    books.contacts().addContact(new Contact("w" + k, 10_000 + k));
+                    books.contacts().addContact(new Contact("z", k));
+                }
+                done.set(true);
+                return 0;
+            });
+            for (int t = 0; t < THREADS - 1; t++) {
+                int thread = t;
+                workers.add(() -> { // Keeps connecting z to the friends, under whichever contact holds the name
+                    Random random = new Random(thread);
+                    int made = 0;
+                    while (!done.get()) {
+                        made += books.connections().addConnection("z", "f" + random.nextInt(friends)).isDone() ? 1 : 0;
+                    }
+                    return made;
+                });
+            }
+            runConcurrently(workers);
+
+            Contact z = books.contacts().searchContact("z");
+            for (int i = 0; i < friends; i++) {
+                for (Contact contact : books.incoming().apply("f" + i)) {
+                    assertSame(z, contact, kind + " into f" + i); // Never one of the w, never an old z
+                }
+            }
+        }
+    }
+
+    // HELPER FUNCTION: ONE THREAD'S RANDOM CHANGES, ONLY TO CONTACTS AND CONNECTIONS NO OTHER THREAD CHANGES
+    // Own contacts connect to stable contacts and to each other; stable pairs belong to thread (i + j) % THREADS.
+    private static List<Step> work(int thread, Books books, Random random) {
+        ContactsManager contacts = books.contacts();
+        ConnectionsManager connections = books.connections();
+        String[] current = new String[OWN]; // Name of each own contact, null while deleted
+        int[] renames = new int[OWN];
+        List<Step> steps = new ArrayList<>(STEPS);
+        for (int s = 0; s < STEPS; s++) {
+            int own = random.nextInt(OWN);
+            int studentId = thread * 100_000 + s;
+            int choice = random.nextInt(connections == null ? 30 : 100);
+            if (current[own] == null) {
+                String name = "t" + thread + "c" + own + "r" + renames[own];
+                OperationResult result = contacts.addContact(new Contact(name, studentId));
+                steps.add(new Step(Change.ADD, name, null, studentId, result.outcome()));
+                current[own] = result.isDone() ? name : null;
+            } else if (choice < 10) {
+                OperationResult result = contacts.deleteContact(current[own]);
+                steps.add(new Step(Change.DELETE, current[own], null, studentId, result.outcome()));
+                current[own] = result.isDone() ? null : current[own];
+            } else if (choice < 30) {
+                String newName = choice < 12 ? "s" + random.nextInt(STABLE) // Taken
+                        : "t" + thread + "c" + own + "r" + ++renames[own];
+                OperationResult result = contacts.updateContact(new Contact(current[own], 0), newName, studentId);
+                steps.add(new Step(Change.RENAME, current[own], newName, studentId, result.outcome()));
+                current[own] = result.isDone() ? newName : current[own];
+            } else {
+                String[] pair = pickConnection(thread, own, current, renames, random);
+                boolean connect = choice < 75;
+                OperationResult result = connect ? connections.addConnection(pair[0], pair[1])
+                        : connections.removeConnection(pair[0], pair[1]);
+                steps.add(new Step(connect ? Change.CONNECT : Change.DISCONNECT, pair[0], pair[1], studentId, result.outcome()));
+            }
+        }
+        return steps;
+    }
+
+    // HELPER FUNCTION: TWO DIFFERENT CONTACTS WHOSE CONNECTION ONLY THIS THREAD CHANGES, IN RANDOM ORDER
+    private static String[] pickConnection(int thread, int own, String[] current, int[] renames, Random random) {
+        String first;
+        String second;
+        int kind = random.nextInt(3);
+        if (kind == 0) {
+            first = current[own];
+            second = "s" + random.nextInt(STABLE);
+        } else if (kind == 1) {
+            int other = (own + 1 + random.nextInt(OWN - 1)) % OWN;
+            first = current[own];
+            second = current[other] != null ? current[other] : "t" + thread + "c" + other + "r" + renames[other]; // Maybe deleted
+        } else {
+            int i;
+            int j;
+            do {
+                i = random.nextInt(STABLE);
+                j = random.nextInt(STABLE);
+            } while (i == j || (i + j) % THREADS != thread);
+            first = "s" + i;
+            second = "s" + j;
+        }
+        return random.nextBoolean() ? new String[]{first, second} : new String[]{second, first};
+    }
+
+    // HELPER FUNCTION: THE SAME CHANGE ON THE SINGLE-THREADED BOOK
+    private static Outcome replay(Books books, Step step) {
+        switch (step.change()) {
+            case ADD:
+                return books.reference().addContact(new Contact(step.name(), step.studentId())).outcome();
+            case DELETE:
+                return books.reference().deleteContact(step.name()).outcome();
+            case RENAME:
+                return books.reference().updateContact(new Contact(step.name(), 0), step.other(), step.studentId()).outcome();
+            case CONNECT:
+                return books.referenceConnections().addConnection(step.name(), step.other()).outcome();
+            default:
+                return books.referenceConnections().removeConnection(step.name(), step.other()).outcome();
+        }
+    }
+
+    // HELPER FUNCTION: CONTACTS, CONNECTIONS AND THE NAME, STUDENT ID AND PREFIX INDEXES OF BOTH BOOKS
+    private static void assertSameBooks(Books books, Set<String> names, Set<Integer> studentIds, String kind) {
+        TreeSet<String> live = names(books.reference().listAllContacts());
+        assertEquals(live, names(books.contacts().listAllContacts()), kind);
+
+        for (String name : names) {
+            Contact expected = books.reference().searchContact(name);
+            Contact actual = books.contacts().searchContact(name);
+            assertEquals(expected == null ? null : expected.getStudentId(), actual == null ? null : actual.getStudentId(),
+                    kind + " " + name);
+        }
+        for (int studentId : studentIds) {
+            assertEquals(names(books.reference().searchByStudentId(studentId)),
+                    names(books.contacts().searchByStudentId(studentId)), kind + " student ID " + studentId);
+        }
+        List<String> prefixes = new ArrayList<>(List.of("s", "s1", "t"));
+        for (int t = 0; t < THREADS; t++) {
+            for (int own = 0; own < OWN; own += 5) {
+                prefixes.add("t" + t + "c" + own);
+            }
+        }
+        for (String prefix : prefixes) {
+            assertEquals(names(books.reference().searchByPrefix(prefix, Integer.MAX_VALUE)),
+                    names(books.contacts().searchByPrefix(prefix, Integer.MAX_VALUE)), kind + " prefix " + prefix);
+        }
+
+        if (books.connections() == null) {
+            return;
+        }
+        AbstractGraphCB graph = (AbstractGraphCB) books.connections();
+        AbstractGraphCB reference = (AbstractGraphCB) books.referenceConnections();
+        for (String from : live) {
+            for (String to : live) {
+                assertEquals(reference.connectionExists(from, to), graph.connectionExists(from, to), kind + " " + from + " -> " + to);
+            }
+            List<Contact> incoming = books.incoming().apply(from);
+            assertEquals(names(books.referenceIncoming().apply(from)), names(incoming), kind + " into " + from);
+            for (Contact contact : incoming) {
+                assertSame(books.contacts().searchContact(contact.getName()), contact, kind + " into " + from);
+            }
+        }
+    }
+
+    // HELPER FUNCTION: CONNECT AND DISCONNECT EVERY PAIR OVER AND OVER; RETURNS THE CONNECTIONS MADE
+    private static int toggleConnections(ConnectionsManager connections, String from, String to, int pairs) {
+        int made = 0;
+        for (int round = 0; round < 2_000; round++) {
+            for (int i = 0; i < pairs; i++) {
+                made += connections.addConnection(from + i, to + i).isDone() ? 1 : 0;
+                connections.removeConnection(from + i, to + i);
+            }
+        }
+        return made;
+    }
+
+    // HELPER FUNCTION: START THE TASKS TOGETHER AND WAIT FOR ALL OF THEM, FAILING ON A HANG (E.G. A DEADLOCK)
+    private static <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true); // A deadlocked thread must not keep the test JVM alive
+            return thread;
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    fail("Threads still running after " + TIMEOUT_SECONDS + " s, probably deadlocked");
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static TreeSet<String> names(Collection<Contact> contacts) {
+        TreeSet<String> names = new TreeSet<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,134 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A hub growing past the neighbor-set threshold, changed around the switch from a LinkedList to a LinkedHashSet,
+ * checked against a book that keeps every contact in a LinkedList.
+ */
+class HubNeighborsTest {
+
+    private static final int NEIGHBORS = 45;
+    private static final int THRESHOLD = AdjacencyListGraphCB.DEFAULT_NEIGHBOR_SET_THRESHOLD;
+
+    @Test
+    void hubKeepsItsConnectionsAcrossTheSwitch() {
+        for (boolean directed : new boolean[]{false, true}) {
+            AdjacencyListGraphCB hub = new AdjacencyListGraphCB(directed);
+            AdjacencyListGraphCB lists = new AdjacencyListGraphCB(directed);
+            lists.setNeighborSetThreshold(Integer.MAX_VALUE); // Never switches
+            for (AdjacencyListGraphCB book : List.of(hub, lists)) {
+                book.addContact(new Contact("hub", 0));
+                for (int i = 0; i < NEIGHBORS; i++) {
+                    book.addContact(new Contact("n" + i, 1 + i));
+                    book.addContact(new Contact("f" + i, 100 + i)); // Friends of the neighbors, suggested to the hub
+                }
+                for (int i = 0; i < NEIGHBORS; i++) {
+                    book.addConnection("n" + i, "f" + i);
+                    book.addConnection("n" + i, "f" + ((i + 1) % NEIGHBORS));
+                }
+            }
+
+            for (int i = NEIGHBORS - 1; i > NEIGHBORS - THRESHOLD; i--) { // Descending, so order is not name order
+                connect(hub, lists, "hub", "n" + i);
+            }
+            assertTrue(neighbors(hub, "hub") instanceof LinkedList, "Still a list one below the threshold");
+            assertSame(hub, lists, "one below the threshold");
+
+            connect(hub, lists, "hub", "n" + (NEIGHBORS - THRESHOLD));
+            assertTrue(neighbors(hub, "hub") instanceof LinkedHashSet, "A set at the threshold");
+            assertSame(hub, lists, "at the threshold");
+            for (int i = NEIGHBORS - THRESHOLD - 1; i >= 0; i--) {
+                connect(hub, lists, "hub", "n" + i);
+            }
+            assertEquals(hub.addConnection("hub", "n3").outcome(), lists.addConnection("hub", "n3").outcome());
+            assertEquals(NEIGHBORS, neighbors(hub, "hub").size(), "No duplicate in the set");
+            assertSame(hub, lists, "past the threshold");
+
+            for (int i = 0; i < 20; i++) { // Drops back under the threshold, stays a set
+                assertEquals(lists.removeConnection("hub", "n" + (2 * i)).outcome(),
+                        hub.removeConnection("hub", "n" + (2 * i)).outcome());
+            }
+            assertEquals(hub.removeConnection("hub", "n0").outcome(), lists.removeConnection("hub", "n0").outcome());
+            assertTrue(neighbors(hub, "hub") instanceof LinkedHashSet, "Kept as a set");
+            assertSame(hub, lists, "after removing connections");
+
+            for (String name : List.of("n1", "n21", "n44")) {
+                assertEquals(lists.deleteContact(name).outcome(), hub.deleteContact(name).outcome());
+            }
+            assertSame(hub, lists, "after deleting neighbors");
+
+            for (String name : List.of("n3", "n25", "n43")) { // Renamed neighbors keep their place
+                assertEquals(lists.updateContact(lists.searchContact(name), "r" + name, 500).outcome(),
+                        hub.updateContact(hub.searchContact(name), "r" + name, 500).outcome());
+            }
+            assertSame(hub, lists, "after renaming neighbors");
+
+            hub.updateContact(hub.searchContact("hub"), "center", 0);
+            lists.updateContact(lists.searchContact("hub"), "center", 0);
+            assertTrue(neighbors(hub, "center") instanceof LinkedHashSet, "The set moves with the rename");
+            connect(hub, lists, "center", "n2");
+            connect(hub, lists, "center", "center");
+            assertSame(hub, lists, "after renaming the hub");
+
+            hub.deleteContact("center");
+            lists.deleteContact("center");
+            assertSame(hub, lists, "after deleting the hub");
+        }
+    }
+
+    // HELPER FUNCTION: THE SAME CONNECTION IN BOTH BOOKS, WITH THE SAME OUTCOME
+    private static void connect(AdjacencyListGraphCB hub, AdjacencyListGraphCB lists, String from, String to) {
+        assertEquals(lists.addConnection(from, to).outcome(), hub.addConnection(from, to).outcome(), from + " -> " + to);
+    }
+
+    private static Collection<Contact> neighbors(AdjacencyListGraphCB book, String name) {
+        return book.getAdjacencyList().get(book.searchContact(name));
+    }
+
+    // HELPER FUNCTION: NEIGHBORS IN INSERTION ORDER, INCOMING CONNECTIONS AND SUGGESTIONS OF EVERY CONTACT
+    private static void assertSame(AdjacencyListGraphCB hub, AdjacencyListGraphCB lists, String step) {
+        assertEquals(ordered(lists), ordered(hub), "Neighbors " + step);
+        for (Contact contact : lists.listAllContacts()) {
+            String name = contact.getName();
+            assertEquals(new TreeSet<>(names(lists.getIncomingConnections(name))),
+                    new TreeSet<>(names(hub.getIncomingConnections(name))), name + " " + step);
+            assertEquals(new TreeSet<>(names(lists.suggestContacts(name))),
+                    new TreeSet<>(names(hub.suggestContacts(name))), name + " " + step);
+            for (SuggestionScore score : SuggestionScore.values()) {
+                assertEquals(names(lists.suggestContacts(name, 10, score)),
+                        names(hub.suggestContacts(name, 10, score)), name + " " + score + " " + step);
+            }
+        }
+    }
+
+    private static Map<String, List<String>> ordered(AdjacencyListGraphCB book) {
+        Map<String, List<String>> ordered = new TreeMap<>();
+        for (Map.Entry<Contact, Collection<Contact>> entry : book.getAdjacencyList().entrySet()) {
+            ordered.put(entry.getKey().getName(), names(entry.getValue()));
+        }
+        return ordered;
+    }
+
+    private static List<String> names(Collection<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
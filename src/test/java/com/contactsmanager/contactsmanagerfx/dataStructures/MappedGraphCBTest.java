@@ -0,0 +1,125 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.OperationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A mapped graph written from a CsrGraphCB must answer every query like the CSR graph it came from.
+ */
+class MappedGraphCBTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void openedFileAnswersLikeTheCsrGraph() throws IOException {
+        for (boolean directed : new boolean[]{false, true}) {
+            CsrGraphCB frozen = withSortedRows(CsrGraphCB.freeze(randomGraph(directed))); // Rows are sorted in the file
+            Path path = directory.resolve("graph-" + directed + ".cbm");
+            MappedGraphCB.write(path, frozen);
+            MappedGraphCB mapped = MappedGraphCB.open(path);
+
+            assertEquals(directed, mapped.isDirected());
+            assertEquals(frozen.getNodeCount(), mapped.getNodeCount());
+            assertEquals(frozen.getEdgeCount(), mapped.getEdgeCount());
+            assertEquals(describe(frozen.listAllContacts()), describe(mapped.listAllContacts()));
+
+            for (Contact contact : frozen.listAllContacts()) {
+                String name = contact.getName();
+                assertEquals(describe(List.of(contact)), describe(List.of(mapped.searchContact(name.toUpperCase()))));
+                assertEquals(sorted(frozen.searchByStudentId(contact.getStudentId())),
+                        sorted(mapped.searchByStudentId(contact.getStudentId())));
+                assertEquals(describe(frozen.suggestContacts(name)), describe(mapped.suggestContacts(name)));
+                assertEquals(printed(() -> frozen.bfsTraversal(name)), printed(() -> mapped.bfsTraversal(name)));
+                assertEquals(printed(() -> frozen.dfsTraversal(name)), printed(() -> mapped.dfsTraversal(name)));
+            }
+            assertEquals(sorted(frozen.searchByStudentIdRange(1200, 2400)),
+                    sorted(mapped.searchByStudentIdRange(1200, 2400)));
+            assertEquals(sorted(frozen.searchByPrefix("zo", 100)), sorted(mapped.searchByPrefix("zo", 100)));
+            assertNull(mapped.searchContact("nobody"));
+        }
+    }
+
+    @Test
+    void rejectsChangesAndDamagedFiles() throws IOException {
+        Path path = directory.resolve("graph.cbm");
+        MappedGraphCB.write(path, CsrGraphCB.freeze(randomGraph(false)));
+        MappedGraphCB mapped = MappedGraphCB.open(path);
+        OperationResult added = mapped.addContact(new Contact("new", 1));
+        assertFalse(added.isDone());
+        assertFalse(mapped.addConnection("n1", "n2").isDone());
+
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MappedGraphCB.open(path));
+        Files.write(path, Arrays.copyOf(bytes, 10));
+        assertThrows(IOException.class, () -> MappedGraphCB.open(path));
+    }
+
+    // HELPER FUNCTION: RANDOM CONTACTS (SOME NON-ASCII, SOME SHARING A STUDENT ID) AND CONNECTIONS
+    private static AdjacencyListGraphCB randomGraph(boolean directed) {
+        AdjacencyListGraphCB graph = new AdjacencyListGraphCB(directed);
+        Random random = new Random(directed ? 11 : 5);
+        List<Contact> batch = new ArrayList<>();
+        for (int i = 0; i < 80; i++) {
+            batch.add(new Contact(i % 9 == 0 ? "Zoë n" + i : "n" + i, 1000 + (i % 70) * 29));
+        }
+        graph.addContacts(batch);
+        for (int e = 0; e < 250; e++) {
+            graph.addConnection("n" + random.nextInt(80), batch.get(random.nextInt(batch.size())).getName());
+        }
+        return graph;
+    }
+
+    // HELPER FUNCTION: THE SAME GRAPH WITH EVERY NEIGHBOR ROW SORTED, SO BOTH GRAPHS WALK NEIGHBORS IN THE SAME ORDER
+    private static CsrGraphCB withSortedRows(CsrGraphCB graph) {
+        int[] targets = graph.targets.clone();
+        for (int i = 0; i + 1 < graph.offsets.length; i++) {
+            Arrays.sort(targets, graph.offsets[i], graph.offsets[i + 1]);
+        }
+        return CsrGraphCB.of(graph.contacts, graph.offsets, targets, graph.isDirected());
+    }
+
+    private static String printed(Runnable traversal) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        try {
+            traversal.run();
+        } finally {
+            System.setOut(out);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TreeSet<String> sorted(List<Contact> contacts) {
+        return new TreeSet<>(describe(contacts));
+    }
+
+    private static List<String> describe(List<Contact> contacts) {
+        List<String> described = new ArrayList<>();
+        for (Contact contact : contacts) {
+            described.add(contact.getName() + "#" + contact.getStudentId());
+        }
+        return described;
+    }
+}
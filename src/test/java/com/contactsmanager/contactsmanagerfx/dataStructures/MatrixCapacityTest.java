@@ -0,0 +1,201 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.contactsmanager.contactsmanagerfx.dataStructures.TraversalTest.adjacency;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Growing, slot reuse and compaction of the matrix book, checked against an adjacency list given the same changes.
+ */
+class MatrixCapacityTest {
+
+    private static final int CAPACITY = 70; // Not a multiple of 64, so rows end inside a word
+
+    @Test
+    void freedSlotsAreReusedLowestFirst() {
+        AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(CAPACITY);
+        for (int i = 0; i < 10; i++) {
+            matrix.addContact(new Contact("p" + i, i));
+        }
+        matrix.deleteContact("p3"); // Freed before 7, so a last-freed-first policy would hand out 7 first
+        matrix.deleteContact("p7");
+        matrix.addContact(new Contact("a", 100));
+        matrix.addContact(new Contact("b", 101));
+        matrix.addContact(new Contact("c", 102));
+        Contact[] book = matrix.getContactsBook();
+        assertEquals("a", book[3].getName());
+        assertEquals("b", book[7].getName());
+        assertEquals("c", book[10].getName());
+
+        matrix.ensureCapacity(CAPACITY + 1); // Slots freed before growing still come before the new ones
+        matrix.deleteContact("p5");
+        matrix.ensureCapacity(2 * CAPACITY);
+        matrix.addContact(new Contact("d", 103));
+        assertEquals("d", matrix.getContactsBook()[5].getName());
+    }
+
+    @Test
+    void shrinkingClearsTheTailOfTheLastWord() {
+        BitMatrix bits = new BitMatrix(130);
+        for (int col = 0; col < 130; col++) {
+            bits.set(5, col);
+        }
+        BitMatrix shrunk = bits.resize(CAPACITY);
+        assertEquals(CAPACITY, shrunk.cardinality(5));
+        assertEquals(-1, shrunk.nextSetBit(5, CAPACITY));
+
+        BitMatrix regrown = shrunk.resize(130); // Dropped connections must not come back
+        assertEquals(CAPACITY, regrown.cardinality(5));
+        assertEquals(-1, regrown.nextSetBit(5, CAPACITY));
+        assertFalse(regrown.get(5, 100));
+    }
+
+    @Test
+    void compactingKeepsEveryConnection() {
+        for (boolean directed : new boolean[]{false, true}) {
+            Random random = new Random(directed ? 41 : 43);
+            AdjacencyListGraphCB list = new AdjacencyListGraphCB(directed);
+            AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(CAPACITY, directed);
+
+            int people = 200; // Grows twice, to 280 slots
+            for (int i = 0; i < people; i++) {
+                list.addContact(new Contact("p" + i, i));
+                matrix.addContact(new Contact("p" + i, i));
+            }
+            assertTrue(matrix.getMaxSize() >= people);
+            connectRandomly(list, matrix, people, 1_500, random);
+            assertSameGraph(list, matrix, "after growing");
+
+            for (int i = 0; i < people; i++) { // Deletes spread over every word of the rows
+                if (i % 4 != 1) {
+                    list.deleteContact("p" + i);
+                    matrix.deleteContact("p" + i);
+                }
+            }
+            assertTrue(matrix.listAllContacts().size() < matrix.getMaxSize() / 4);
+            matrix.compact();
+            assertEquals(CAPACITY, matrix.getMaxSize()); // Never below the initial capacity
+            Contact[] book = matrix.getContactsBook();
+            for (int slot = 0; slot < book.length; slot++) {
+                assertEquals(slot < 50, book[slot] != null, "Contacts moved to the lowest slots");
+            }
+            assertSameGraph(list, matrix, "after compacting");
+
+            for (int i = 0; i < 60; i++) { // Free slots are reused after compacting, and the matrix grows again
+                list.addContact(new Contact("q" + i, 1000 + i));
+                matrix.addContact(new Contact("q" + i, 1000 + i));
+                list.addConnection("q" + i, "p" + (4 * i + 1));
+                matrix.addConnection("q" + i, "p" + (4 * i + 1));
+            }
+            assertSameGraph(list, matrix, "after growing again");
+        }
+    }
+
+    @Test
+    void autoCompactRunsAfterMassDeletes() {
+        AdjacencyListGraphCB list = new AdjacencyListGraphCB(true);
+        AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(CAPACITY, true);
+        matrix.setAutoCompact(true);
+        int people = 300;
+        for (int i = 0; i < people; i++) {
+            list.addContact(new Contact("p" + i, i));
+            matrix.addContact(new Contact("p" + i, i));
+        }
+        connectRandomly(list, matrix, people, 2_000, new Random(47));
+
+        List<String> doomed = new ArrayList<>();
+        for (int i = 0; i < people; i++) {
+            if (i % 5 != 0) {
+                doomed.add("p" + i);
+            }
+        }
+        list.deleteContacts(doomed.subList(0, 100));
+        matrix.deleteContacts(doomed.subList(0, 100)); // Bulk delete, compacts once at the end if at all
+        for (String name : doomed.subList(100, doomed.size())) {
+            list.deleteContact(name);
+            matrix.deleteContact(name);
+        }
+        assertTrue(matrix.getMaxSize() < 4 * CAPACITY, "Capacity " + matrix.getMaxSize());
+        assertNull(matrix.searchContact("p1"));
+        assertSameGraph(list, matrix, "after auto-compacting");
+    }
+
+    // HELPER FUNCTION: THE SAME RANDOM CONNECTIONS IN BOTH BOOKS
+    private static void connectRandomly(AdjacencyListGraphCB list, AdjacencyMatrixGraphCB matrix,
+                                        int people, int connections, Random random) {
+        for (int e = 0; e < connections; e++) {
+            String from = "p" + random.nextInt(people);
+            String to = "p" + random.nextInt(people);
+            list.addConnection(from, to);
+            matrix.addConnection(from, to);
+        }
+    }
+
+    // HELPER FUNCTION: CELLS, ROWS, INCOMING CONNECTIONS, SUGGESTIONS AND PATHS OF THE MATRIX AGAINST THE LIST
+    private static void assertSameGraph(AdjacencyListGraphCB list, AdjacencyMatrixGraphCB matrix, String step) {
+        Map<String, TreeSet<String>> expected = names(list.getAdjacencyList());
+        Map<String, TreeSet<String>> incoming = new TreeMap<>();
+        expected.keySet().forEach(name -> incoming.put(name, new TreeSet<>()));
+        expected.forEach((from, tos) -> tos.forEach(to -> incoming.get(to).add(from)));
+
+        Map<Contact, Collection<Contact>> rows = new TreeMap<>((c1, c2) -> c1.getName().compareTo(c2.getName()));
+        rows.putAll(adjacency(matrix)); // Read through nextConnection
+        assertEquals(expected, names(rows), "Rows " + step);
+
+        Contact[] book = matrix.getContactsBook();
+        byte[][] cells = matrix.getMatrix();
+        assertEquals(matrix.getMaxSize(), cells.length, step);
+        for (int i = 0; i < cells.length; i++) {
+            for (int j = 0; j < cells.length; j++) {
+                boolean connected = book[i] != null && book[j] != null
+                        && expected.get(book[i].getName()).contains(book[j].getName());
+                assertEquals(connected ? 1 : 0, cells[i][j], "Cell " + i + ", " + j + " " + step);
+            }
+        }
+
+        for (String name : expected.keySet()) {
+            assertEquals(incoming.get(name), new TreeSet<>(ranked(matrix.getIncomingConnections(name))), name + " " + step);
+            assertEquals(new TreeSet<>(ranked(list.suggestContacts(name))),
+                    new TreeSet<>(ranked(matrix.suggestContacts(name))), name + " " + step);
+            for (SuggestionScore score : SuggestionScore.values()) {
+                assertEquals(ranked(list.suggestContacts(name, 5, score)),
+                        ranked(matrix.suggestContacts(name, 5, score)), name + " " + score + " " + step);
+            }
+            for (String to : expected.keySet()) {
+                int degrees = list.degreesOfSeparation(name, to);
+                assertEquals(degrees, matrix.degreesOfSeparation(name, to), name + " -> " + to + " " + step);
+                assertEquals(degrees + 1, matrix.shortestPath(name, to).size(), name + " -> " + to + " " + step);
+            }
+        }
+    }
+
+    private static Map<String, TreeSet<String>> names(Map<Contact, ? extends Collection<Contact>> adjacency) {
+        Map<String, TreeSet<String>> names = new TreeMap<>();
+        for (Map.Entry<Contact, ? extends Collection<Contact>> entry : adjacency.entrySet()) {
+            names.put(entry.getKey().getName(), new TreeSet<>(ranked(entry.getValue())));
+        }
+        return names;
+    }
+
+    private static List<String> ranked(Collection<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
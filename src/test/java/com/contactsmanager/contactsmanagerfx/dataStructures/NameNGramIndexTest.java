@@ -0,0 +1,40 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Typo-tolerant search must not lose names whose trigrams repeat before they are re-ranked by edit distance.
+ */
+class NameNGramIndexTest {
+
+    @Test
+    void namesWithRepeatedTrigramsSurviveTheOverlapCut() {
+        NameNGramIndex index = new NameNGramIndex();
+        Contact repeated = new Contact("Anna Anna", 1); // 10 padded trigrams, 6 of them distinct
+        index.add(repeated);
+        index.add(new Contact("Anna", 2));
+        for (char c = 'b'; c <= 'm'; c++) { // More near misses than the 8 candidates kept for one result
+            index.add(new Contact("Anna " + c, c));
+        }
+
+        assertEquals(List.of(repeated), index.closest("anna anna", 1));
+        assertEquals(List.of(repeated), index.closest("anna anma", 1));
+    }
+
+    @Test
+    void removedContactsAreNotFound() {
+        NameNGramIndex index = new NameNGramIndex();
+        Contact bob = new Contact("Bob", 1);
+        index.add(bob);
+        Contact bobby = new Contact("Bobby", 2);
+        index.add(bobby);
+        assertEquals(List.of(bob, bobby), index.closest("bob", 2));
+        index.remove(bob);
+        assertEquals(List.of(bobby), index.closest("bob", 2));
+    }
+}
@@ -0,0 +1,82 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ranked suggestions counted in parallel (threshold 1, so every contact with two friends or more takes that path)
+ * must equal the sequential ones, for a hub whose friends are split over several tasks and for ordinary contacts.
+ */
+class ParallelSuggestionsTest {
+
+    private static final int PEOPLE = 400;
+    private static final int HUB_FRIENDS = 300; // Several leaves of ParallelSuggestions, so their counts are merged
+
+    @Test
+    void parallelRankingEqualsSequential() {
+        for (boolean directed : new boolean[]{false, true}) {
+            Random random = new Random(directed ? 67 : 71);
+            AdjacencyListGraphCB list = new AdjacencyListGraphCB(directed);
+            AdjacencyListGraphCB parallelList = new AdjacencyListGraphCB(directed);
+            AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(PEOPLE, directed);
+            AdjacencyMatrixGraphCB parallelMatrix = new AdjacencyMatrixGraphCB(PEOPLE, directed);
+            parallelList.setParallelSuggestionThreshold(1);
+            parallelMatrix.setParallelSuggestionThreshold(1);
+            List<String[]> pairs = new ArrayList<>();
+            for (int i = 1; i <= HUB_FRIENDS; i++) {
+                pairs.add(new String[]{"p0", "p" + i});
+            }
+            for (int e = 0; e < 2_000; e++) {
+                pairs.add(new String[]{"p" + random.nextInt(PEOPLE), "p" + random.nextInt(PEOPLE)});
+            }
+            fill(list, pairs);
+            fill(parallelList, pairs);
+            fill(matrix, pairs);
+            fill(parallelMatrix, pairs);
+
+            for (int i = 0; i < PEOPLE; i += 7) {
+                String name = "p" + i;
+                for (SuggestionScore score : SuggestionScore.values()) {
+                    for (int limit : new int[]{5, Integer.MAX_VALUE}) {
+                        List<String> expected = names(list.suggestContacts(name, limit, score));
+                        String step = name + " " + score + " " + limit + ", directed " + directed;
+                        assertEquals(expected, names(parallelList.suggestContacts(name, limit, score)), "List " + step);
+                        assertEquals(expected, names(matrix.suggestContacts(name, limit, score)), "Matrix " + step);
+                        assertEquals(expected, names(parallelMatrix.suggestContacts(name, limit, score)), "Parallel matrix " + step);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void negativeThresholdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new AdjacencyListGraphCB().setParallelSuggestionThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> new AdjacencyMatrixGraphCB().setParallelSuggestionThreshold(-1));
+    }
+
+    private static <B extends ContactsManager & ConnectionsManager> void fill(B book, List<String[]> pairs) {
+        for (int i = 0; i < PEOPLE; i++) {
+            book.addContact(new Contact("p" + i, i));
+        }
+        book.addConnections(pairs);
+    }
+
+    private static List<String> names(List<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,144 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every graph book must suggest and rank exactly like the adjacency list book, and the list book must rank
+ * a small graph in the order worked out by hand for each score.
+ */
+class RankedSuggestionsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void everyGraphBookRanksLikeTheListBook() throws IOException {
+        for (boolean directed : new boolean[]{false, true}) {
+            Random random = new Random(directed ? 31 : 37);
+            AdjacencyListGraphCB list = new AdjacencyListGraphCB(directed);
+            Map<String, ConnectionsManager> books = new LinkedHashMap<>(); // Books changed like the list book
+            books.put("ints", new IntAdjacencyListGraphCB(directed));
+            books.put("matrix", new AdjacencyMatrixGraphCB(16, directed)); // Grows while filling
+            books.put("concurrent list", new ConcurrentAdjacencyListGraphCB(directed));
+            books.put("concurrent matrix", new ConcurrentAdjacencyMatrixGraphCB(128, directed));
+            List<ContactsManager> contactBooks = new ArrayList<>();
+            contactBooks.add(list);
+            for (ConnectionsManager book : books.values()) {
+                contactBooks.add((ContactsManager) book);
+            }
+            List<ConnectionsManager> connectionBooks = new ArrayList<>(books.values());
+            connectionBooks.add(list);
+
+            int people = 120;
+            for (int i = 0; i < people; i++) {
+                for (ContactsManager book : contactBooks) {
+                    book.addContact(new Contact("p" + i, i));
+                }
+            }
+            for (int e = 0; e < 600; e++) {
+                String from = "p" + random.nextInt(people);
+                String to = "p" + random.nextInt(people);
+                for (ConnectionsManager book : connectionBooks) {
+                    book.addConnection(from, to);
+                }
+            }
+            for (int i = 0; i < people; i += 10) { // Freed ids are reused by the next contacts
+                for (ContactsManager book : contactBooks) {
+                    book.deleteContact("p" + i);
+                }
+            }
+            for (int i = 0; i < 5; i++) {
+                for (ContactsManager book : contactBooks) {
+                    book.addContact(new Contact("q" + i, 1000 + i));
+                }
+                for (ConnectionsManager book : connectionBooks) {
+                    book.addConnection("q" + i, "p" + (i + 1));
+                }
+            }
+            CsrGraphCB frozen = CsrGraphCB.freeze(list);
+            books.put("csr", frozen);
+            Path path = directory.resolve("ranked-" + directed + ".cbm");
+            MappedGraphCB.write(path, frozen);
+            books.put("mapped", MappedGraphCB.open(path)); // Rows are sorted in the file, so candidates are reached in another order
+
+            for (int round = 0; round < 2; round++) { // Scratch marks must not leak from one query into the next
+                for (Contact contact : list.listAllContacts()) {
+                    String name = contact.getName();
+                    TreeSet<String> suggested = names(list.suggestContacts(name));
+                    for (Map.Entry<String, ConnectionsManager> book : books.entrySet()) {
+                        assertEquals(suggested, names(book.getValue().suggestContacts(name)), name + " " + book.getKey());
+                    }
+                    for (SuggestionScore score : SuggestionScore.values()) {
+                        for (int limit : new int[]{3, Integer.MAX_VALUE}) {
+                            List<String> ranked = ranked(list.suggestContacts(name, limit, score));
+                            for (Map.Entry<String, ConnectionsManager> book : books.entrySet()) {
+                                assertEquals(ranked, ranked(book.getValue().suggestContacts(name, limit, score)),
+                                        name + " " + score + " " + book.getKey());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * a's friends are b (degree 2), c and d (degree 5). Candidates, with shared friends and their own degree:
+     *   p: via c and d, degree 2      q: via b, degree 1      r: via c and d, degree 6
+     *   s, t: via c, degree 1         u, v: via d, degree 1
+     * MUTUAL_FRIENDS: p = r = 2, then the rest 1                          -> p, r, q (p before r by name)
+     * ADAMIC_ADAR: q = 1/ln 2 = 1.443, p = r = 2/ln 5 = 1.243, rest 0.621 -> q, p, r, s
+     * JACCARD (a has 3 friends): p = 2/(3+2-2) = 0.667, q, s, t, u, v = 1/(3+1-1) = 0.333,
+     *   r = 2/(3+6-2) = 0.286                                               -> p, q, s, t
+     */
+    @Test
+    void smallGraphRanksAsWorkedOutByHand() {
+        AdjacencyListGraphCB list = new AdjacencyListGraphCB();
+        String[][] edges = {{"a", "b"}, {"a", "c"}, {"a", "d"}, {"b", "q"},
+                {"c", "p"}, {"c", "r"}, {"c", "s"}, {"c", "t"},
+                {"d", "p"}, {"d", "r"}, {"d", "u"}, {"d", "v"},
+                {"r", "w"}, {"r", "x"}, {"r", "y"}, {"r", "z"}};
+        int id = 0;
+        for (String name : "abcdpqrstuvwxyz".split("")) {
+            list.addContact(new Contact(name, id++));
+        }
+        for (String[] edge : edges) {
+            list.addConnection(edge[0], edge[1]);
+        }
+
+        assertEquals(List.of("p", "r", "q"), ranked(list.suggestContacts("a", 3, SuggestionScore.MUTUAL_FRIENDS)));
+        assertEquals(List.of("q", "p", "r", "s"), ranked(list.suggestContacts("a", 4, SuggestionScore.ADAMIC_ADAR)));
+        assertEquals(List.of("p", "q", "s", "t"), ranked(list.suggestContacts("a", 4, SuggestionScore.JACCARD)));
+        assertEquals(List.of("p", "r", "q", "s", "t", "u", "v"),
+                ranked(list.suggestContacts("a", 10, SuggestionScore.MUTUAL_FRIENDS)), "Every candidate once, below the limit");
+        assertEquals(List.of(), ranked(list.suggestContacts("a", 0, SuggestionScore.MUTUAL_FRIENDS)));
+    }
+
+    private static TreeSet<String> names(List<Contact> contacts) {
+        return new TreeSet<>(ranked(contacts));
+    }
+
+    private static List<String> ranked(List<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
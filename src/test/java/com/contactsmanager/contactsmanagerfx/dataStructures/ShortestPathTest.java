@@ -0,0 +1,78 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.contactsmanager.contactsmanagerfx.dataStructures.TraversalTest.adjacency;
+import static com.contactsmanager.contactsmanagerfx.dataStructures.TraversalTest.distances;
+import static com.contactsmanager.contactsmanagerfx.dataStructures.TraversalTest.fill;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bidirectional shortest paths of the list and matrix books, checked against a one-sided BFS.
+ */
+class ShortestPathTest {
+
+    @Test
+    void shortestPathsMatchOneSidedSearch() {
+        for (boolean directed : new boolean[]{false, true}) {
+            AdjacencyListGraphCB list = new AdjacencyListGraphCB(directed);
+            AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(8, directed);
+            fill(list, matrix, new Random(directed ? 23 : 29));
+            Map<Contact, List<Contact>> adjacency = adjacency(list);
+
+            for (Contact from : adjacency.keySet()) {
+                Map<String, Integer> distances = distances(from, adjacency);
+                for (Contact to : adjacency.keySet()) {
+                    int expected = distances.getOrDefault(to.getName(), -1);
+                    String message = from.getName() + " -> " + to.getName() + (directed ? " directed" : "");
+                    assertEquals(expected, list.degreesOfSeparation(from.getName(), to.getName()), message);
+                    assertEquals(expected, matrix.degreesOfSeparation(from.getName(), to.getName()), message);
+                    assertPath(expected, list.shortestPath(from.getName(), to.getName()), list, message);
+                    assertPath(expected, matrix.shortestPath(from.getName(), to.getName()), list, message);
+                    if (expected > 1) {
+                        assertTrue(list.shortestPath(from.getName(), to.getName(), expected - 1).isEmpty(), message);
+                        assertEquals(-1, matrix.degreesOfSeparation(from.getName(), to.getName(), expected - 1), message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void longChainsAreCrossed() {
+        int length = 50_000;
+        AdjacencyListGraphCB list = new AdjacencyListGraphCB(true);
+        for (int i = 0; i < length; i++) {
+            list.addContact(new Contact("c" + i, i));
+        }
+        for (int i = 1; i < length; i++) {
+            list.addConnection("c" + (i - 1), "c" + i);
+        }
+        assertEquals(length - 1, list.degreesOfSeparation("c0", "c" + (length - 1)));
+        assertEquals(-1, list.degreesOfSeparation("c" + (length - 1), "c0")); // One-way connections
+    }
+
+    // HELPER FUNCTION: A PATH OF THE EXPECTED LENGTH THAT ONLY FOLLOWS EXISTING CONNECTIONS
+    private static void assertPath(int expected, List<Contact> path, AdjacencyListGraphCB graph, String message) {
+        assertEquals(expected + 1, path.size(), message);
+        Map<String, Set<String>> names = new HashMap<>();
+        for (Map.Entry<Contact, Collection<Contact>> entry : graph.getAdjacencyList().entrySet()) {
+            Set<String> neighbors = new HashSet<>();
+            entry.getValue().forEach(c -> neighbors.add(c.getName()));
+            names.put(entry.getKey().getName(), neighbors);
+        }
+        for (int i = 1; i < path.size(); i++) {
+            assertTrue(names.get(path.get(i - 1).getName()).contains(path.get(i).getName()), message);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.ContactsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The stamped lock wrapper: books with a suggestion cache are refused, and readers running beside a writer
+ * only ever see whole results, with every miss reported once.
+ */
+class StampedLockGraphCBTest {
+
+    private static final int STABLE = 20; // Contacts the writer never touches
+    private static final int READERS = 3;
+    private static final int LOOKUPS = 20_000;
+
+    @Test
+    void booksWithASuggestionCacheAreRefused() {
+        AdjacencyListGraphCB list = new AdjacencyListGraphCB();
+        list.setSuggestionCacheBudget(1 << 20);
+        assertThrows(IllegalArgumentException.class, () -> StampedLockGraphCB.of(list));
+
+        AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(64);
+        matrix.setSuggestionCacheBudget(1 << 20);
+        assertThrows(IllegalArgumentException.class, () -> StampedLockGraphCB.of(matrix));
+
+        list.setSuggestionCacheBudget(0); // Accepted once the cache is off again
+        assertNotNull(StampedLockGraphCB.of(list));
+    }
+
+    @Test
+    void readersBesideAWriterSeeWholeResults() throws Exception {
+        stress(StampedLockGraphCB.of(new AdjacencyListGraphCB()));
+        stress(StampedLockGraphCB.of(new AdjacencyMatrixGraphCB(64))); // Grows and compacts while read
+    }
+
+    // HELPER FUNCTION: ONE WRITER CHURNING CONTACTS AND CONNECTIONS WHILE READERS CHECK THE STABLE ONES
+    private static <G extends ContactsManager & ConnectionsManager> void stress(StampedLockGraphCB<G> book) throws Exception {
+        AtomicInteger misses = new AtomicInteger();
+        book.setEventSink((event, subject, detail) -> {
+            if (event == ContactsEvent.CONTACT_NOT_FOUND && "nobody".equals(subject)) {
+                misses.incrementAndGet();
+            }
+        });
+        for (int i = 0; i < STABLE; i++) {
+            book.addContact(new Contact("s" + i, i));
+        }
+        for (int i = 1; i < STABLE; i++) {
+            book.addConnection("s" + (i - 1), "s" + i);
+        }
+
+        AtomicBoolean done = new AtomicBoolean();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            Random random = new Random(53);
+            try {
+                for (int i = 0; i < LOOKUPS / 4; i++) {
+                    String name = "w" + i;
+                    book.addContact(new Contact(name, 1000 + i));
+                    book.addConnection(name, "s" + random.nextInt(STABLE));
+                    book.addConnection("s" + random.nextInt(STABLE), name);
+                    if (i % 3 == 0) {
+                        book.updateContact(book.searchContact(name), "r" + i, 1000 + i);
+                    }
+                    if (i >= 20) { // Keeps the book small so deletes free slots the adds reuse
+                        String old = (i - 20) % 3 == 0 ? "r" + (i - 20) : "w" + (i - 20);
+                        book.deleteContact(old);
+                    }
+                }
+                return 0;
+            } finally {
+                done.set(true);
+            }
+        });
+        for (int r = 0; r < READERS; r++) {
+            int seed = r;
+            tasks.add(() -> {
+                Random random = new Random(seed);
+                int lookups = 0;
+                while (!done.get() || lookups < LOOKUPS) {
+                    int k = random.nextInt(STABLE);
+                    Contact found = book.searchContact("s" + k);
+                    assertNotNull(found, "s" + k + " lost");
+                    assertEquals("s" + k, found.getName());
+
+                    List<Contact> byId = book.searchByStudentId(k);
+                    assertEquals(1, byId.size(), "Student ID " + k);
+                    assertEquals("s" + k, byId.get(0).getName());
+
+                    List<Contact> suggested = book.suggestContacts("s" + k);
+                    Set<String> names = new HashSet<>();
+                    for (Contact contact : suggested) {
+                        assertNotNull(contact, "Suggestion for s" + k);
+                        assertTrue(names.add(contact.getName()), "Suggested twice: " + contact.getName());
+                        assertTrue(!contact.getName().equals("s" + k), "s" + k + " suggested to itself");
+                    }
+
+                    int stable = book.read(g -> {
+                        int count = 0;
+                        for (Contact contact : g.listAllContacts()) {
+                            count += contact.getName().startsWith("s") ? 1 : 0;
+                        }
+                        return count;
+                    });
+                    assertEquals(STABLE, stable);
+
+                    book.searchContact("nobody");
+                    lookups++;
+                }
+                return lookups;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int expectedMisses = 0;
+            for (Future<Integer> future : pool.invokeAll(tasks)) {
+                expectedMisses += future.get(60, TimeUnit.SECONDS);
+            }
+            assertEquals(expectedMisses, misses.get(), "Each miss reported once");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the suggestion cache, patched as the graph changes, always answers like a from-scratch recompute.
+ */
+class SuggestionCacheTest {
+
+    /**
+     * A cached and an uncached copy of the same kind of graph, changed in lockstep.
+     */
+    private record Pair(ContactsManager plainContacts, ConnectionsManager plain,
+                        ContactsManager cachedContacts, ConnectionsManager cached) {
+
+        static Pair of(boolean matrix, boolean directed, long budget) {
+            if (matrix) {
+                AdjacencyMatrixGraphCB plain = new AdjacencyMatrixGraphCB(8, directed);
+                AdjacencyMatrixGraphCB cached = new AdjacencyMatrixGraphCB(8, directed);
+                cached.setSuggestionCacheBudget(budget);
+                return new Pair(plain, plain, cached, cached);
+            }
+            AdjacencyListGraphCB plain = new AdjacencyListGraphCB(directed);
+            AdjacencyListGraphCB cached = new AdjacencyListGraphCB(directed);
+            cached.setSuggestionCacheBudget(budget);
+            return new Pair(plain, plain, cached, cached);
+        }
+
+        void addContact(String name, int studentId) {
+            plainContacts.addContact(new Contact(name, studentId));
+            cachedContacts.addContact(new Contact(name, studentId));
+        }
+
+        void addConnection(String from, String to) {
+            plain.addConnection(from, to);
+            cached.addConnection(from, to);
+        }
+
+        void removeConnection(String from, String to) {
+            plain.removeConnection(from, to);
+            cached.removeConnection(from, to);
+        }
+
+        void deleteContact(String name) {
+            plainContacts.deleteContact(name);
+            cachedContacts.deleteContact(name);
+        }
+
+        void assertSameSuggestions(String name, int limit, String step) {
+            assertEquals(names(plain.suggestContacts(name, limit, SuggestionScore.MUTUAL_FRIENDS)),
+                    names(cached.suggestContacts(name, limit, SuggestionScore.MUTUAL_FRIENDS)),
+                    "Suggestions for " + name + " after " + step);
+        }
+    }
+
+    @Test
+    void ownConnectionToContactWithoutFriendsDropsRankedList() {
+        for (int kind = 0; kind < 4; kind++) { // List and matrix, undirected and directed
+            ownConnectionToContactWithoutFriendsDropsRankedList(kind >= 2, kind % 2 == 1);
+        }
+    }
+
+    @Test
+    void randomChangesMatchRecompute() {
+        for (int kind = 0; kind < 4; kind++) {
+            randomChangesMatchRecompute(kind >= 2, kind % 2 == 1);
+        }
+    }
+
+    private void ownConnectionToContactWithoutFriendsDropsRankedList(boolean matrix, boolean directed) {
+        Pair graphs = Pair.of(matrix, directed, 1 << 20);
+        for (String name : new String[]{"A", "B", "F", "X"}) {
+            graphs.addContact(name, name.charAt(0));
+        }
+        graphs.addConnection("A", "B");
+        graphs.addConnection("B", "X");
+        graphs.addConnection("B", "F");
+        graphs.addConnection("A", "F");
+        graphs.assertSameSuggestions("A", 10, "setup");
+
+        graphs.addConnection("A", "X");
+        graphs.assertSameSuggestions("A", 10, "adding A-X");
+        graphs.removeConnection("A", "F");
+        graphs.assertSameSuggestions("A", 10, "removing A-F");
+        graphs.removeConnection("A", "X");
+        graphs.assertSameSuggestions("A", 10, "removing A-X");
+    }
+
+    private void randomChangesMatchRecompute(boolean matrix, boolean directed) {
+        for (long budget : new long[]{2_000, 1 << 20}) { // Small enough to evict all the time, and big enough to keep everything
+            Random random = new Random(budget * 31 + (matrix ? 2 : 0) + (directed ? 1 : 0));
+            Pair graphs = Pair.of(matrix, directed, budget);
+            int contacts = 30;
+            for (int i = 0; i < contacts; i++) {
+                graphs.addContact("n" + i, i);
+            }
+            for (int step = 0; step < 5_000; step++) {
+                String from = "n" + random.nextInt(contacts);
+                String to = "n" + random.nextInt(contacts);
+                int operation = random.nextInt(100);
+                if (operation < 40) {
+                    graphs.addConnection(from, to);
+                } else if (operation < 70) {
+                    graphs.removeConnection(from, to);
+                } else if (operation < 73) {
+                    graphs.deleteContact(from);
+                    graphs.addContact(from, step);
+                } else {
+                    graphs.assertSameSuggestions(from, 1 + random.nextInt(8), "step " + step);
+                    continue;
+                }
+                graphs.assertSameSuggestions(from, 5, "step " + step); // Right after every change too
+            }
+        }
+    }
+
+    private static List<String> names(List<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        for (Contact contact : contacts) {
+            names.add(contact.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,170 @@
+package com.contactsmanager.contactsmanagerfx.dataStructures;
+
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.TraversalOrder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Traversals of the list and matrix books, checked against a plain recursive DFS and a queue-based BFS.
+ */
+class TraversalTest {
+
+    private static final int LIST_CHAIN = 200_000;
+    private static final int MATRIX_CHAIN = 10_000; // The matrix takes V^2 bits
+
+    @Test
+    void longChainsDoNotOverflowTheStack() {
+        AdjacencyListGraphCB list = new AdjacencyListGraphCB(true);
+        for (int i = 0; i < LIST_CHAIN; i++) {
+            list.addContact(new Contact("c" + i, i));
+        }
+        for (int i = 1; i < LIST_CHAIN; i++) {
+            list.addConnection("c" + (i - 1), "c" + i);
+        }
+        assertEquals(LIST_CHAIN, list.traversalStream("c0", TraversalOrder.DEPTH_FIRST).count());
+        assertEquals(LIST_CHAIN, list.traversalStream("c0", TraversalOrder.BREADTH_FIRST).count());
+
+        AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(MATRIX_CHAIN, true);
+        for (int i = 0; i < MATRIX_CHAIN; i++) {
+            matrix.addContact(new Contact("c" + i, i));
+        }
+        for (int i = 1; i < MATRIX_CHAIN; i++) {
+            matrix.addConnection("c" + (i - 1), "c" + i);
+        }
+        assertEquals(MATRIX_CHAIN, matrix.traversalStream("c0", TraversalOrder.DEPTH_FIRST).count());
+        assertEquals(MATRIX_CHAIN, matrix.traversalStream("c0", TraversalOrder.BREADTH_FIRST).count());
+    }
+
+    @Test
+    void traversalsVisitInTheRecursiveOrder() {
+        for (boolean directed : new boolean[]{false, true}) {
+            AdjacencyListGraphCB list = new AdjacencyListGraphCB(directed);
+            AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB(8, directed); // Grows while filled
+            fill(list, matrix, new Random(directed ? 13 : 17));
+
+            assertVisitingOrders(adjacency(list), list::traversal);
+            assertVisitingOrders(adjacency(matrix), matrix::traversal);
+        }
+    }
+
+    @Test
+    void visitorStopsTheTraversal() {
+        AdjacencyListGraphCB list = new AdjacencyListGraphCB();
+        AdjacencyMatrixGraphCB matrix = new AdjacencyMatrixGraphCB();
+        fill(list, matrix, new Random(19));
+        List<Contact> seen = new ArrayList<>();
+        assertEquals(3, list.traverse("p0", TraversalOrder.BREADTH_FIRST, c -> seen.add(c) && seen.size() < 3));
+        assertEquals(3, seen.size());
+        assertEquals(3, matrix.traverse("p0", TraversalOrder.DEPTH_FIRST, c -> seen.add(c) && seen.size() < 6));
+        assertFalse(list.traversal("nobody", TraversalOrder.DEPTH_FIRST).hasNext());
+        assertEquals(0, matrix.traversalStream("nobody", TraversalOrder.BREADTH_FIRST).count());
+    }
+
+    // HELPER FUNCTION: THE SAME RANDOM SPARSE GRAPH IN BOTH BOOKS
+    static void fill(AdjacencyListGraphCB list, AdjacencyMatrixGraphCB matrix, Random random) {
+        int people = 40;
+        for (int i = 0; i < people; i++) {
+            list.addContact(new Contact("p" + i, i));
+            matrix.addContact(new Contact("p" + i, i));
+        }
+        for (int e = 0; e < 70; e++) {
+            String from = "p" + random.nextInt(people);
+            String to = "p" + random.nextInt(people);
+            list.addConnection(from, to);
+            matrix.addConnection(from, to);
+        }
+    }
+
+    // HELPER FUNCTION: EACH CONTACT'S NEIGHBORS IN THE ORDER THE BOOK STORES THEM
+    static Map<Contact, List<Contact>> adjacency(AdjacencyListGraphCB graph) {
+        Map<Contact, List<Contact>> adjacency = new LinkedHashMap<>();
+        for (Map.Entry<Contact, Collection<Contact>> entry : graph.getAdjacencyList().entrySet()) {
+            adjacency.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return adjacency;
+    }
+
+    static Map<Contact, List<Contact>> adjacency(AdjacencyMatrixGraphCB graph) {
+        Map<Contact, List<Contact>> adjacency = new LinkedHashMap<>();
+        Contact[] book = graph.getContactsBook();
+        for (int slot = 0; slot < book.length; slot++) {
+            if (book[slot] != null) {
+                List<Contact> neighbors = new ArrayList<>();
+                for (int to = graph.nextConnection(slot, 0); to >= 0; to = graph.nextConnection(slot, to + 1)) {
+                    neighbors.add(book[to]);
+                }
+                adjacency.put(book[slot], neighbors);
+            }
+        }
+        return adjacency;
+    }
+
+    // HELPER FUNCTION: EVERY START'S DFS AND BFS ORDER AGAINST THE REFERENCE WALKS
+    private static void assertVisitingOrders(Map<Contact, List<Contact>> adjacency,
+                                             BiFunction<String, TraversalOrder, Iterator<Contact>> traversal) {
+        for (Contact start : adjacency.keySet()) {
+            List<String> depthFirst = new ArrayList<>();
+            recursiveDepthFirst(start, adjacency, new HashSet<>(), depthFirst);
+            assertEquals(depthFirst, names(traversal.apply(start.getName(), TraversalOrder.DEPTH_FIRST)));
+            assertEquals(breadthFirst(start, adjacency), names(traversal.apply(start.getName(), TraversalOrder.BREADTH_FIRST)));
+        }
+    }
+
+    private static void recursiveDepthFirst(Contact contact, Map<Contact, List<Contact>> adjacency,
+                                            Set<Contact> visited, List<String> order) {
+        visited.add(contact);
+        order.add(contact.getName());
+        for (Contact neighbor : adjacency.get(contact)) {
+            if (!visited.contains(neighbor)) {
+                recursiveDepthFirst(neighbor, adjacency, visited, order);
+            }
+        }
+    }
+
+    private static List<String> breadthFirst(Contact start, Map<Contact, List<Contact>> adjacency) {
+        return new ArrayList<>(distances(start, adjacency).keySet());
+    }
+
+    // HELPER FUNCTION: ONE-SIDED BFS, NAME -> DISTANCE IN VISITING ORDER
+    static Map<String, Integer> distances(Contact start, Map<Contact, List<Contact>> adjacency) {
+        Map<String, Integer> distances = new LinkedHashMap<>();
+        Map<Contact, Integer> depth = new HashMap<>();
+        Queue<Contact> queue = new ArrayDeque<>();
+        depth.put(start, 0);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            Contact current = queue.remove();
+            distances.put(current.getName(), depth.get(current));
+            for (Contact neighbor : adjacency.get(current)) {
+                if (!depth.containsKey(neighbor)) {
+                    depth.put(neighbor, depth.get(current) + 1);
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static List<String> names(Iterator<Contact> contacts) {
+        List<String> names = new ArrayList<>();
+        contacts.forEachRemaining(c -> names.add(c.getName()));
+        return names;
+    }
+}
@@ -0,0 +1,116 @@
+package com.contactsmanager.contactsmanagerfx.persistence;
+
+import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Replays of the write-ahead log, including after a crash left half a record at its end.
+ */
+class ContactsLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayRebuildsTheBook() throws IOException {
+        Path path = directory.resolve("contacts.log");
+        try (ContactsLog log = ContactsLog.open(path, 1)) {
+            writeChanges(log);
+        }
+
+        AdjacencyListGraphCB book = new AdjacencyListGraphCB();
+        assertEquals(6, ContactsLog.replay(path, book, book));
+        assertNull(book.searchContact("Bob"));
+        assertNotNull(book.searchContact("Robert"));
+        assertEquals(1, book.suggestContacts("Ann").size()); // Ann - Cat - Robert
+        assertEquals("Robert", book.suggestContacts("Ann").get(0).getName());
+    }
+
+    @Test
+    void replayStopsBeforeATornTail() throws IOException {
+        Path path = directory.resolve("contacts.log");
+        try (ContactsLog log = ContactsLog.open(path, 1)) {
+            writeChanges(log);
+            log.addContact(new Contact("Dan", 4));
+        }
+        long complete = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(complete - 3); // Crash in the middle of writing Dan
+        }
+
+        AdjacencyListGraphCB book = new AdjacencyListGraphCB();
+        assertEquals(6, ContactsLog.replay(path, book, book));
+        assertNull(book.searchContact("Dan"));
+        assertNotNull(book.searchContact("Robert"));
+
+        // Reopening cuts the torn record off, so new records are replayed after the valid ones
+        try (ContactsLog log = ContactsLog.open(path, 1)) {
+            log.addContact(new Contact("Eve", 5));
+            log.commit();
+        }
+        AdjacencyListGraphCB reopened = new AdjacencyListGraphCB();
+        assertEquals(7, ContactsLog.replay(path, reopened, reopened));
+        assertNotNull(reopened.searchContact("Eve"));
+        assertNull(reopened.searchContact("Dan"));
+    }
+
+    @Test
+    void replayStopsAtACorruptRecord() throws IOException {
+        Path path = directory.resolve("contacts.log");
+        try (ContactsLog log = ContactsLog.open(path, 1)) {
+            log.addContact(new Contact("Ann", 1));
+            log.commit();
+        }
+        long first = Files.size(path);
+        try (ContactsLog log = ContactsLog.open(path, 1)) {
+            log.addContact(new Contact("Bob", 2));
+            log.addContact(new Contact("Cat", 3));
+            log.commit();
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[(int) first + 7] ^= 0x55; // First byte of Bob's name (after length, type and name length), so its checksum fails
+        Files.write(path, bytes);
+
+        AdjacencyListGraphCB book = new AdjacencyListGraphCB();
+        assertEquals(1, ContactsLog.replay(path, book, book));
+        assertNotNull(book.searchContact("Ann"));
+        assertNull(book.searchContact("Cat"));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotALog() throws IOException {
+        Path path = directory.resolve("other.txt");
+        Files.writeString(path, "not a log at all");
+        assertThrows(IOException.class, () -> ContactsLog.replay(path, new AdjacencyListGraphCB(), null));
+        assertThrows(IOException.class, () -> ContactsLog.open(path, 1));
+    }
+
+    // HELPER FUNCTION: SIX CHANGES, ONE COMMIT EACH
+    private static void writeChanges(ContactsLog log) throws IOException {
+        log.addContact(new Contact("Ann", 1));
+        log.commit();
+        log.addContact(new Contact("Bob", 2));
+        log.commit();
+        log.addContact(new Contact("Cat", 3));
+        log.commit();
+        log.addConnection("Ann", "Cat");
+        log.commit();
+        log.updateContact(new Contact("Bob", 2), "Robert", 2);
+        log.commit();
+        log.addConnection("Cat", "Robert");
+        log.commit();
+    }
+}
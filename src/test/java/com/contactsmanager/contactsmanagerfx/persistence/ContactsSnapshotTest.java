@@ -0,0 +1,175 @@
+package com.contactsmanager.contactsmanagerfx.persistence;
+
+import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyListGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.AdjacencyMatrixGraphCB;
+import com.contactsmanager.contactsmanagerfx.dataStructures.CsrGraphCB;
+import com.contactsmanager.contactsmanagerfx.interfaces.ConnectionsManager;
+import com.contactsmanager.contactsmanagerfx.interfaces.ContactsManager;
+import com.contactsmanager.contactsmanagerfx.model.Contact;
+import com.contactsmanager.contactsmanagerfx.model.SuggestionScore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Snapshots written from the mutable graph books and loaded back into every kind of book.
+ */
+class ContactsSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void listSnapshotLoadsIntoEveryBook() throws IOException {
+        for (boolean directed : new boolean[]{false, true}) {
+            AdjacencyListGraphCB original = new AdjacencyListGraphCB(directed);
+            fill(original, original, directed);
+            Path path = directory.resolve("list-" + directed + ".cbs");
+            ContactsSnapshot.write(path, original);
+
+            assertLoadsBack(path, adjacency(original), signature(original, original), directed);
+        }
+    }
+
+    @Test
+    void matrixSnapshotLoadsIntoEveryBook() throws IOException {
+        for (boolean directed : new boolean[]{false, true}) {
+            AdjacencyMatrixGraphCB original = new AdjacencyMatrixGraphCB(4, directed);
+            fill(original, original, directed);
+            original.deleteContact("n7"); // Leaves an empty slot, which the snapshot must skip
+            Path path = directory.resolve("matrix-" + directed + ".cbs");
+            ContactsSnapshot.write(path, original);
+
+            assertLoadsBack(path, adjacency(original), signature(original, original), directed);
+        }
+    }
+
+    @Test
+    void detectsCorruptionAndTruncation() throws IOException {
+        AdjacencyListGraphCB original = new AdjacencyListGraphCB();
+        fill(original, original, false);
+        Path path = directory.resolve("corrupt.cbs");
+        ContactsSnapshot.write(path, original);
+        byte[] bytes = Files.readAllBytes(path);
+
+        for (int position : new int[]{30, bytes.length / 2, bytes.length - 5}) {
+            byte[] corrupt = bytes.clone();
+            corrupt[position] ^= 0x10;
+            Files.write(path, corrupt);
+            assertThrows(IOException.class, () -> ContactsSnapshot.loadReadOnly(path), "Flipped byte " + position);
+        }
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(IOException.class, () -> ContactsSnapshot.loadReadOnly(path));
+    }
+
+    @Test
+    void rejectsHeadersClaimingMoreThanTheFileHolds() throws IOException {
+        Path path = directory.resolve("huge.cbs");
+        ByteBuffer header = ByteBuffer.allocate(21); // Header and checksum, nothing in between
+        header.putInt(0x43425331) // "CBS1"
+              .put((byte) 0).putInt(Integer.MAX_VALUE - 100).putLong(Integer.MAX_VALUE - 100);
+        Files.write(path, header.array());
+        assertThrows(IOException.class, () -> ContactsSnapshot.loadReadOnly(path)); // Not an OutOfMemoryError
+    }
+
+    // HELPER FUNCTION: LOAD A SNAPSHOT INTO THE THREE BOOKS AND COMPARE THEM WITH THE ORIGINAL
+    private static void assertLoadsBack(Path path, Map<String, TreeSet<String>> adjacency, List<String> signature,
+                                        boolean directed) throws IOException {
+        AdjacencyListGraphCB list = ContactsSnapshot.loadAdjacencyList(path);
+        assertEquals(directed, list.isDirected());
+        assertEquals(adjacency, adjacency(list));
+
+        AdjacencyMatrixGraphCB matrix = ContactsSnapshot.loadAdjacencyMatrix(path);
+        assertEquals(directed, matrix.isDirected());
+        assertEquals(adjacency, adjacency(matrix));
+
+        CsrGraphCB frozen = ContactsSnapshot.loadReadOnly(path);
+        assertEquals(directed, frozen.isDirected());
+        int stored = adjacency.values().stream().mapToInt(TreeSet::size).sum();
+        assertEquals(stored, frozen.getEdgeCount());
+        assertEquals(signature, signature(frozen, frozen));
+    }
+
+    // HELPER FUNCTION: RANDOM CONTACTS (SOME NON-ASCII) AND CONNECTIONS
+    private static void fill(ContactsManager contacts, ConnectionsManager connections, boolean directed) {
+        Random random = new Random(directed ? 7 : 3);
+        List<Contact> batch = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            batch.add(new Contact(i % 10 == 0 ? "Zoë n" + i : "n" + i, 1000 + i * 37));
+        }
+        batch.add(new Contact("名前 " + "x".repeat(300), 424242)); // Multi-byte and longer than one varint byte
+        contacts.addContacts(batch);
+        for (int e = 0; e < 200; e++) {
+            connections.addConnection(batch.get(random.nextInt(batch.size())).getName(),
+                    batch.get(random.nextInt(batch.size())).getName());
+        }
+    }
+
+    private static Map<String, TreeSet<String>> adjacency(AdjacencyListGraphCB graph) {
+        Map<String, TreeSet<String>> adjacency = new TreeMap<>();
+        for (Map.Entry<Contact, Collection<Contact>> entry : graph.getAdjacencyList().entrySet()) {
+            TreeSet<String> neighbors = new TreeSet<>();
+            for (Contact neighbor : entry.getValue()) {
+                neighbors.add(neighbor.getName());
+            }
+            adjacency.put(describe(entry.getKey()), neighbors);
+        }
+        return adjacency;
+    }
+
+    private static Map<String, TreeSet<String>> adjacency(AdjacencyMatrixGraphCB graph) {
+        Map<String, TreeSet<String>> adjacency = new TreeMap<>();
+        Contact[] book = graph.getContactsBook();
+        for (int slot = 0; slot < book.length; slot++) {
+            if (book[slot] == null) {
+                continue;
+            }
+            TreeSet<String> neighbors = new TreeSet<>();
+            for (int to = graph.nextConnection(slot, 0); to >= 0; to = graph.nextConnection(slot, to + 1)) {
+                neighbors.add(book[to].getName());
+            }
+            adjacency.put(describe(book[slot]), neighbors);
+        }
+        return adjacency;
+    }
+
+    // HELPER FUNCTION: EVERY CONTACT WITH ITS SUGGESTIONS; JACCARD RANKS DEPEND ON EVERY DEGREE AROUND THE CONTACT
+    static List<String> signature(ContactsManager contacts, ConnectionsManager connections) {
+        List<String> signature = new ArrayList<>();
+        TreeSet<String> names = new TreeSet<>();
+        for (Contact contact : contacts.listAllContacts()) {
+            names.add(contact.getName());
+        }
+        for (String name : names) {
+            TreeSet<String> suggested = new TreeSet<>();
+            for (Contact contact : connections.suggestContacts(name)) {
+                suggested.add(contact.getName());
+            }
+            List<String> ranked = new ArrayList<>();
+            for (Contact contact : connections.suggestContacts(name, Integer.MAX_VALUE, SuggestionScore.JACCARD)) {
+                ranked.add(contact.getName());
+            }
+            signature.add(describe(contacts.searchContact(name)) + " " + suggested + " " + ranked);
+        }
+        return signature;
+    }
+
+    private static String describe(Contact contact) {
+        return contact.getName() + "#" + contact.getStudentId();
+    }
+}